@@ -0,0 +1,99 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.model.entity.PricingRule;
+import com.moviesite.mysite.model.entity.PricingRule.AdjustmentType;
+import com.moviesite.mysite.model.entity.PricingRule.DayType;
+import com.moviesite.mysite.model.entity.Schedule;
+import com.moviesite.mysite.model.entity.Screen;
+import com.moviesite.mysite.model.entity.Seat.SeatType;
+import com.moviesite.mysite.repository.PricingRuleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 좌석 가격 조회 성능 측정 (가격표가 있는 경우의 조회와 가격표를 새로 계산하는 경우 비교)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingQuoteBenchmark {
+
+    private PricingService pricingService;
+    private Schedule schedule;
+    private int basePrice;
+
+    @Setup
+    public void setUp() {
+        List<PricingRule> rules = List.of(
+                rule("조조 할인", null, null, null, LocalTime.of(6, 0), LocalTime.of(10, 0), null, AdjustmentType.PERCENT, -20),
+                rule("주말 할증", null, null, DayType.WEEKEND, null, null, null, AdjustmentType.AMOUNT, 2000),
+                rule("프리미엄 좌석", SeatType.PREMIUM, null, null, null, null, null, AdjustmentType.AMOUNT, 3000),
+                rule("커플 좌석", SeatType.COUPLE, null, null, null, null, null, AdjustmentType.PERCENT, 50),
+                rule("IMAX", null, "IMAX", null, null, null, null, AdjustmentType.AMOUNT, 5000),
+                rule("예매율 50%", null, null, null, null, null, 50, AdjustmentType.PERCENT, 10),
+                rule("예매율 80%", null, null, null, null, null, 80, AdjustmentType.PERCENT, 20));
+
+        // 벤치마크에서는 활성 규칙 조회만 사용
+        PricingRuleRepository repository = (PricingRuleRepository) Proxy.newProxyInstance(
+                PricingRuleRepository.class.getClassLoader(), new Class<?>[]{PricingRuleRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByActiveTrueOrderByPriorityAscIdAsc")) {
+                        return rules;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        pricingService = new PricingService(repository, null, null, null);
+        pricingService.warmUp();
+
+        Screen screen = Screen.builder().id(1L).type("IMAX").seatsCount(200).build();
+        schedule = Schedule.builder()
+                .id(1L)
+                .screen(screen)
+                .startTime(LocalDateTime.of(2025, 6, 7, 9, 30))
+                .price(14000)
+                .availableSeats(70)
+                .build();
+        basePrice = schedule.getPrice();
+    }
+
+    // 가격표가 이미 있는 경우 (결제/좌석 배치도 조회 경로)
+    @Benchmark
+    public int[] quoteCached() {
+        return pricingService.quote(schedule);
+    }
+
+    // 기본 가격이 바뀌어 가격표를 다시 계산하는 경우
+    @Benchmark
+    public int[] quoteRecompiled() {
+        basePrice = basePrice == 14000 ? 15000 : 14000;
+        schedule.setPrice(basePrice);
+        return pricingService.quote(schedule);
+    }
+
+    private static PricingRule rule(String name, SeatType seatType, String screenType, DayType dayType,
+                                    LocalTime startTimeFrom, LocalTime startTimeTo, Integer minOccupancyPercent,
+                                    AdjustmentType adjustmentType, int adjustmentValue) {
+        return PricingRule.builder()
+                .name(name)
+                .seatType(seatType)
+                .screenType(screenType)
+                .dayType(dayType)
+                .startTimeFrom(startTimeFrom)
+                .startTimeTo(startTimeTo)
+                .minOccupancyPercent(minOccupancyPercent)
+                .adjustmentType(adjustmentType)
+                .adjustmentValue(adjustmentValue)
+                .priority(0)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.moviesite.mysite.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AsyncConfig {
+
+	// 가상 스레드 실행기 (DB/외부 호출 대기 위주의 병렬 작업용)
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService virtualThreadExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+}
@@ -3,18 +3,25 @@ package com.moviesite.mysite.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
+import com.moviesite.mysite.model.dto.request.CouponOptimizeRequest;
 import com.moviesite.mysite.model.dto.request.CouponRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.CouponOptimizeResponse;
 import com.moviesite.mysite.model.dto.response.CouponResponse;
+import com.moviesite.mysite.service.CouponBatchService;
 import com.moviesite.mysite.service.CouponService;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +31,7 @@ import java.util.Map;
 public class CouponController {
 
 	private final CouponService couponService;
+    private final CouponBatchService couponBatchService;
 
     // 관리자: 모든 쿠폰 목록 조회 (페이징 처리)
     @GetMapping("/admin")
@@ -110,11 +118,22 @@ public class CouponController {
         return ResponseEntity.ok(ApiResponse.success(coupons));
     }
     
-    // 관리자: 쿠폰 대량 생성
+    // 예매 초안에 적용할 최적 쿠폰 계산 (할인 금액 순위)
+    @PostMapping("/optimize")
+    public ResponseEntity<ApiResponse<CouponOptimizeResponse>> optimizeCoupons(
+            @Valid @RequestBody CouponOptimizeRequest request) {
+        CouponOptimizeResponse result = couponService.optimizeCoupons(request);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
+    // 관리자: 쿠폰 대량 생성 (생성된 쿠폰 코드를 CSV 파일로 전송)
     @PostMapping("/batch")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> createCouponBatch(@RequestBody Map<String, Object> batchInfo) {
-        Map<String, Object> result = couponService.createCouponBatch(batchInfo);
-        return ResponseEntity.ok(ApiResponse.success("쿠폰이 성공적으로 대량 생성되었습니다.", result));
+    public ResponseEntity<ResponseBodyEmitter> createCouponBatch(@RequestBody Map<String, Object> batchInfo) {
+        CouponBatchService.BatchPlan plan = couponBatchService.prepare(batchInfo);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + plan.fileName() + "\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(couponBatchService.stream(plan));
     }
 }
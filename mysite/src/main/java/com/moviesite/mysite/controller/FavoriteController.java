@@ -3,11 +3,15 @@ package com.moviesite.mysite.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import com.moviesite.mysite.model.dto.request.FavoriteRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.FavoriteRankingResponse;
 import com.moviesite.mysite.model.dto.response.FavoriteResponse;
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import com.moviesite.mysite.service.FavoriteCounterService;
 import com.moviesite.mysite.service.FavoriteService;
 
 import jakarta.validation.Valid;
@@ -21,6 +25,7 @@ import java.util.Map;
 public class FavoriteController {
 
 	private final FavoriteService favoriteService;
+    private final FavoriteCounterService favoriteCounterService;
 
     // 현재 로그인한 사용자의 모든 즐겨찾기 조회
     @GetMapping
@@ -78,10 +83,57 @@ public class FavoriteController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    // 여러 영화/극장의 즐겨찾기 여부 한 번에 확인 (즐겨찾기한 ID 목록 반환)
+    @GetMapping("/check")
+    public ResponseEntity<ApiResponse<Map<String, List<Long>>>> checkFavorites(
+            @RequestParam(required = false) List<Long> movieIds,
+            @RequestParam(required = false) List<Long> theaterIds) {
+        Map<String, List<Long>> result = favoriteService.checkFavorites(movieIds, theaterIds);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
     // 즐겨찾기 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteFavorite(@PathVariable Long id) {
         favoriteService.deleteFavorite(id);
         return ResponseEntity.ok(ApiResponse.success("즐겨찾기가 성공적으로 삭제되었습니다.", null));
     }
+
+    // 즐겨찾기 많은 영화 순위
+    @GetMapping("/ranking/movies")
+    public ResponseEntity<ApiResponse<List<FavoriteRankingResponse>>> getMovieRanking(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<FavoriteRankingResponse> ranking = favoriteCounterService.getRanking(FavoriteType.MOVIE, limit);
+        return ResponseEntity.ok(ApiResponse.success(ranking));
+    }
+
+    // 즐겨찾기 많은 극장 순위
+    @GetMapping("/ranking/theaters")
+    public ResponseEntity<ApiResponse<List<FavoriteRankingResponse>>> getTheaterRanking(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<FavoriteRankingResponse> ranking = favoriteCounterService.getRanking(FavoriteType.THEATER, limit);
+        return ResponseEntity.ok(ApiResponse.success(ranking));
+    }
+
+    // 특정 영화의 즐겨찾기 수 조회
+    @GetMapping("/movie/{movieId}/count")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getMovieFavoriteCount(@PathVariable Long movieId) {
+        long count = favoriteCounterService.getCount(FavoriteType.MOVIE, movieId);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("count", count)));
+    }
+
+    // 특정 극장의 즐겨찾기 수 조회
+    @GetMapping("/theater/{theaterId}/count")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getTheaterFavoriteCount(@PathVariable Long theaterId) {
+        long count = favoriteCounterService.getCount(FavoriteType.THEATER, theaterId);
+        return ResponseEntity.ok(ApiResponse.success(Map.of("count", count)));
+    }
+
+    // 즐겨찾기 수 재계산 (관리자용)
+    @PostMapping("/counts/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> reconcileFavoriteCounts() {
+        int targets = favoriteCounterService.reconcile();
+        return ResponseEntity.ok(ApiResponse.success("즐겨찾기 수가 재계산되었습니다.", Map.of("targets", targets)));
+    }
 }
@@ -11,9 +11,15 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.moviesite.mysite.model.dto.request.MovieRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
+import com.moviesite.mysite.model.dto.response.MovieDetailResponse;
 import com.moviesite.mysite.model.dto.response.MovieResponse;
+import com.moviesite.mysite.model.dto.response.RatingSummaryResponse;
 import com.moviesite.mysite.model.dto.response.ReservationResponse;
+import com.moviesite.mysite.service.MovieDetailService;
+import com.moviesite.mysite.service.MovieRatingService;
 import com.moviesite.mysite.service.MovieService;
+import com.moviesite.mysite.service.MovieSimilarityService;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -24,6 +30,9 @@ import java.util.List;
 public class MovieController {
 	
 	private final MovieService movieService;
+	private final MovieSimilarityService movieSimilarityService;
+	private final MovieDetailService movieDetailService;
+	private final MovieRatingService movieRatingService;
 
     // 모든 영화 목록 조회 (페이징 처리)
     @GetMapping
@@ -35,6 +44,18 @@ public class MovieController {
         return ResponseEntity.ok(ApiResponse.success(movies));
     }
 
+    // 모든 영화 목록 조회 (커서 기반 페이징)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MovieResponse>>> getMoviesByCursor(
+            @RequestParam(name = "title", required = false) String title,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size,
+            @RequestParam(name = "withTotal", defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<MovieResponse> movies = movieService.getMoviesByCursor(title, status, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(movies));
+    }
+
     // 현재 상영 중인 영화 목록 조회
     @GetMapping("/now-showing")
     public ResponseEntity<ApiResponse<List<MovieResponse>>> getNowPlayingMovies() {
@@ -56,6 +77,48 @@ public class MovieController {
         return ResponseEntity.ok(ApiResponse.success(movie));
     }
 
+    // 영화 상세 화면 통합 조회 (영화, 리뷰, 평균 평점, 즐겨찾기 수, 상영 정보)
+    @GetMapping("/{movieId}/detail")
+    public ResponseEntity<ApiResponse<MovieDetailResponse>> getMovieDetail(
+            @PathVariable("movieId") Long movieId,
+            @RequestParam(name = "reviewSize", defaultValue = "10") int reviewSize) {
+        MovieDetailResponse detail = movieDetailService.getMovieDetail(movieId, reviewSize);
+        return ResponseEntity.ok(ApiResponse.success(detail));
+    }
+
+    // 영화 관람객 평점 집계 조회 (평균, 리뷰 수, 평점별 분포)
+    @GetMapping("/{movieId}/rating-summary")
+    public ResponseEntity<ApiResponse<RatingSummaryResponse>> getRatingSummary(@PathVariable("movieId") Long movieId) {
+        RatingSummaryResponse summary = movieRatingService.getRatingSummary(movieId);
+        return ResponseEntity.ok(ApiResponse.success(summary));
+    }
+
+    // 관람객 평점 순 영화 목록 조회 (리뷰 수가 minReviews 이상인 영화)
+    @GetMapping("/top-rated")
+    public ResponseEntity<ApiResponse<List<MovieResponse>>> getTopRatedMovies(
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "minReviews", defaultValue = "1") int minReviews) {
+        List<MovieResponse> movies = movieRatingService.getTopRatedMovies(limit, minReviews);
+        return ResponseEntity.ok(ApiResponse.success(movies));
+    }
+
+    // 관람객 평점 집계 전체 재계산 (관리자용)
+    @PostMapping("/rating-summaries/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildRatingSummaries() {
+        int movies = movieRatingService.rebuildSummaries();
+        return ResponseEntity.ok(ApiResponse.success("관람객 평점 집계가 재계산되었습니다.", movies));
+    }
+
+    // 유사 영화 목록 조회 (예매/즐겨찾기 동시 출현 기반)
+    @GetMapping("/{movieId}/similar")
+    public ResponseEntity<ApiResponse<List<MovieResponse>>> getSimilarMovies(
+            @PathVariable("movieId") Long movieId,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<MovieResponse> movies = movieSimilarityService.getSimilarMovies(movieId, limit);
+        return ResponseEntity.ok(ApiResponse.success(movies));
+    }
+
     // 영화 검색
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<MovieResponse>>> searchMovies(@RequestParam String keyword) {
@@ -1,8 +1,13 @@
 package com.moviesite.mysite.controller;
 
 import com.moviesite.mysite.model.dto.request.PaymentRequest;
+import com.moviesite.mysite.model.dto.request.PaymentWebhookRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
+import com.moviesite.mysite.model.dto.response.PaymentDiscrepancyResponse;
 import com.moviesite.mysite.model.dto.response.PaymentResponse;
+import com.moviesite.mysite.service.PaymentConfirmationService;
+import com.moviesite.mysite.service.PaymentReconciliationService;
 import com.moviesite.mysite.service.PaymentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,12 +26,21 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentConfirmationService paymentConfirmationService;
+    private final PaymentReconciliationService paymentReconciliationService;
 
-    // 결제 처리
+    // 결제 요청 (결제 결과는 PG 웹훅으로 확정되므로 결제 정보 조회로 확인)
     @PostMapping
     public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(@Valid @RequestBody PaymentRequest paymentRequest) {
         PaymentResponse payment = paymentService.processPayment(paymentRequest);
-        return new ResponseEntity<>(ApiResponse.success("결제가 성공적으로 처리되었습니다.", payment), HttpStatus.CREATED);
+        return new ResponseEntity<>(ApiResponse.success("결제 요청이 접수되었습니다.", payment), HttpStatus.ACCEPTED);
+    }
+
+    // PG 결제 결과 웹훅 (서명으로 검증)
+    @PostMapping("/webhook")
+    public ResponseEntity<ApiResponse<Void>> handleWebhook(@Valid @RequestBody PaymentWebhookRequest webhookRequest) {
+        paymentConfirmationService.handleWebhook(webhookRequest);
+        return ResponseEntity.ok(ApiResponse.success("결제 알림이 처리되었습니다.", null));
     }
 
     // 특정 결제 정보 조회
@@ -67,4 +81,36 @@ public class PaymentController {
         Page<PaymentResponse> payments = paymentService.getAllPayments(status, method, pageable);
         return ResponseEntity.ok(ApiResponse.success(payments));
     }
+
+    // 관리자: 모든 결제 내역 조회 (커서 기반 페이징)
+    @GetMapping("/admin/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<PaymentResponse>>> getAllPaymentsByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String method,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<PaymentResponse> payments = paymentService.getAllPaymentsByCursor(status, method, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(payments));
+    }
+
+    // 관리자: 결제/예매 대사 실행 (실행 ID 반환, 결과는 불일치 조회로 확인)
+    @PostMapping("/admin/reconciliation/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<String>> runReconciliation() {
+        String runId = paymentReconciliationService.startReconciliation();
+        return new ResponseEntity<>(ApiResponse.success("결제 대사 작업이 시작되었습니다.", runId), HttpStatus.ACCEPTED);
+    }
+
+    // 관리자: 대사 불일치 조회 (실행 ID가 없으면 가장 최근 실행)
+    @GetMapping("/admin/reconciliation/discrepancies")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Page<PaymentDiscrepancyResponse>>> getDiscrepancies(
+            @RequestParam(required = false) String runId,
+            @RequestParam(required = false) String type,
+            Pageable pageable) {
+        Page<PaymentDiscrepancyResponse> discrepancies = paymentReconciliationService.getDiscrepancies(runId, type, pageable);
+        return ResponseEntity.ok(ApiResponse.success(discrepancies));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.moviesite.mysite.controller;
+
+import com.moviesite.mysite.model.dto.request.PricingRuleRequest;
+import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.PricingRuleResponse;
+import com.moviesite.mysite.service.PricingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pricing-rules")
+@RequiredArgsConstructor
+public class PricingRuleController {
+
+    private final PricingService pricingService;
+
+    // 가격 정책 규칙 목록 조회 (관리자용, 적용 순서)
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<PricingRuleResponse>>> getAllRules() {
+        List<PricingRuleResponse> rules = pricingService.getAllRules();
+        return ResponseEntity.ok(ApiResponse.success(rules));
+    }
+
+    // 가격 정책 규칙 등록 (관리자용)
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> createRule(@Valid @RequestBody PricingRuleRequest request) {
+        PricingRuleResponse createdRule = pricingService.createRule(request);
+        return new ResponseEntity<>(ApiResponse.success("가격 정책 규칙이 성공적으로 등록되었습니다.", createdRule), HttpStatus.CREATED);
+    }
+
+    // 가격 정책 규칙 수정 (관리자용)
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PricingRuleResponse>> updateRule(
+            @PathVariable Long id,
+            @Valid @RequestBody PricingRuleRequest request) {
+        PricingRuleResponse updatedRule = pricingService.updateRule(id, request);
+        return ResponseEntity.ok(ApiResponse.success("가격 정책 규칙이 성공적으로 수정되었습니다.", updatedRule));
+    }
+
+    // 가격 정책 규칙 삭제 (관리자용)
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> deleteRule(@PathVariable Long id) {
+        pricingService.deleteRule(id);
+        return ResponseEntity.ok(ApiResponse.success("가격 정책 규칙이 성공적으로 삭제되었습니다.", null));
+    }
+}
@@ -0,0 +1,26 @@
+package com.moviesite.mysite.controller;
+
+import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.MovieResponse;
+import com.moviesite.mysite.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recommendations")
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    // 현재 로그인한 사용자의 맞춤 추천 영화 조회
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<List<MovieResponse>>> getMyRecommendations(
+            @RequestParam(defaultValue = "10") int limit) {
+        List<MovieResponse> movies = recommendationService.getMyRecommendations(limit);
+        return ResponseEntity.ok(ApiResponse.success(movies));
+    }
+}
@@ -2,6 +2,7 @@ package com.moviesite.mysite.controller;
 
 import com.moviesite.mysite.model.dto.request.ReservationRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
 import com.moviesite.mysite.model.dto.response.MovieResponse;
 import com.moviesite.mysite.model.dto.response.ReservationResponse;
 import com.moviesite.mysite.service.MovieService;
@@ -44,6 +45,31 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.success(reservations));
     }
 
+    // 현재 로그인한 사용자의 모든 예매 내역 조회 (커서 기반 페이징)
+    @GetMapping("/me/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReservationResponse>>> getMyReservationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<ReservationResponse> reservations = reservationService.getMyReservationsByCursor(cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(reservations));
+    }
+
+    // 관리자: 모든 사용자의 예매 내역 조회 (필터링 및 커서 기반 페이징)
+    @GetMapping("/admin/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReservationResponse>>> getAllReservationsByCursor(
+            @RequestParam(required = false) String userName,
+            @RequestParam(required = false) String movieTitle,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<ReservationResponse> reservations = reservationService.getAllReservationsByCursor(
+                userName, movieTitle, status, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(reservations));
+    }
+
     // 특정 예매 상세 정보 조회
     @GetMapping("/{reservationId}")
     public ResponseEntity<ApiResponse<ReservationResponse>> getReservationById(@PathVariable("reservationId") Long reservationId) {
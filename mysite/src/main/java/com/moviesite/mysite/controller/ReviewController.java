@@ -2,6 +2,7 @@ package com.moviesite.mysite.controller;
 
 import com.moviesite.mysite.model.dto.request.ReviewRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
 import com.moviesite.mysite.model.dto.response.ReviewResponse;
 import com.moviesite.mysite.service.ReviewService;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,8 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/reviews")
 @RequiredArgsConstructor
@@ -31,6 +34,39 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(reviews));
     }
 
+    // 특정 영화의 리뷰 목록 조회 (커서 기반 페이징)
+    @GetMapping("/movie/{movieId}/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponse>>> getReviewsByMovieIdCursor(
+            @PathVariable Long movieId,
+            @RequestParam(required = false) Boolean spoilerFilter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPageResponse<ReviewResponse> reviews = reviewService.getReviewsByMovieIdCursor(
+                movieId, spoilerFilter, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
+    // 인기 리뷰 목록 조회 (movieId를 지정하면 해당 영화, 없으면 전체)
+    @GetMapping("/hot")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponse>>> getHotReviews(
+            @RequestParam(required = false) Long movieId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<ReviewResponse> reviews = reviewService.getHotReviews(movieId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
+    // 리뷰 본문 검색 (movieId를 지정하면 해당 영화, 없으면 전체)
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ReviewResponse>>> searchReviews(
+            @RequestParam String q,
+            @RequestParam(required = false) Long movieId,
+            @RequestParam(required = false) Integer size) {
+        List<ReviewResponse> reviews = reviewService.searchReviews(q, movieId, size);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
     // 특정 사용자의 리뷰 목록 조회
     @GetMapping("/user/{userId}")
     public ResponseEntity<ApiResponse<Page<ReviewResponse>>> getReviewsByUserId(
@@ -1,9 +1,18 @@
 package com.moviesite.mysite.controller;
 
+import com.moviesite.mysite.model.dto.request.SchedulePlanRequest;
 import com.moviesite.mysite.model.dto.request.ScheduleRequest;
+import com.moviesite.mysite.model.dto.request.ShowtimeSearchRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.ScheduleConflictResponse;
+import com.moviesite.mysite.model.dto.response.SchedulePlanResponse;
 import com.moviesite.mysite.model.dto.response.ScheduleResponse;
+import com.moviesite.mysite.model.dto.response.SeatPriceResponse;
+import com.moviesite.mysite.model.dto.response.ShowtimeSearchResponse;
+import com.moviesite.mysite.service.PricingService;
+import com.moviesite.mysite.service.SchedulePlannerService;
 import com.moviesite.mysite.service.ScheduleService;
+import com.moviesite.mysite.service.ShowtimeSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
@@ -21,6 +30,9 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final SchedulePlannerService schedulePlannerService;
+    private final ShowtimeSearchService showtimeSearchService;
+    private final PricingService pricingService;
 
     // 특정 상영 일정 상세 조회
     @GetMapping("/{id}")
@@ -29,6 +41,21 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(schedule));
     }
 
+    // 상영 일정의 좌석별 가격 조회 (현재 예매율 기준)
+    @GetMapping("/{id}/seat-prices")
+    public ResponseEntity<ApiResponse<SeatPriceResponse>> getSeatPrices(@PathVariable Long id) {
+        SeatPriceResponse prices = pricingService.getSeatPrices(id);
+        return ResponseEntity.ok(ApiResponse.success(prices));
+    }
+
+    // 상영 시간 통합 검색 (영화, 극장, 기간, 시간대, 상영관 타입, 잔여 좌석, 가격 조건)
+    @PostMapping("/search")
+    public ResponseEntity<ApiResponse<List<ShowtimeSearchResponse>>> searchShowtimes(
+            @Valid @RequestBody ShowtimeSearchRequest request) {
+        List<ShowtimeSearchResponse> showtimes = showtimeSearchService.searchShowtimes(request);
+        return ResponseEntity.ok(ApiResponse.success(showtimes));
+    }
+
     // 상영 일정 등록 (관리자용)
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -37,6 +64,25 @@ public class ScheduleController {
         return new ResponseEntity<>(ApiResponse.success("상영 일정이 성공적으로 등록되었습니다.", createdSchedule), HttpStatus.CREATED);
     }
 
+    // 등록 예정 상영 일정 일괄 검증 (관리자용, 상영관 시간 중복 및 청소 시간 확인)
+    @PostMapping("/validate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<ScheduleConflictResponse>>> validateSchedules(
+            @RequestBody List<ScheduleRequest> requests) {
+        List<ScheduleConflictResponse> results = scheduleService.validateSchedules(requests);
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    // 주간 상영 일정 일괄 편성 (관리자용, dryRun이면 저장하지 않고 편성 결과만 반환)
+    @PostMapping("/plan")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<SchedulePlanResponse>> planSchedules(
+            @Valid @RequestBody SchedulePlanRequest request) {
+        SchedulePlanResponse plan = schedulePlannerService.planSchedules(request);
+        HttpStatus status = plan.isDryRun() ? HttpStatus.OK : HttpStatus.CREATED;
+        return new ResponseEntity<>(ApiResponse.success("상영 일정 편성이 완료되었습니다.", plan), status);
+    }
+
     // 상영 일정 수정 (관리자용)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -2,10 +2,14 @@ package com.moviesite.mysite.controller;
 
 import com.moviesite.mysite.model.dto.request.TheaterRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
+import com.moviesite.mysite.model.dto.response.NearbyTheaterResponse;
 import com.moviesite.mysite.model.dto.response.ScreeningResponse;
 import com.moviesite.mysite.model.dto.response.TheaterResponse;
+import com.moviesite.mysite.model.dto.response.TheaterTimetableResponse;
+import com.moviesite.mysite.service.NearbyTheaterService;
 import com.moviesite.mysite.service.ScreeningService;
 import com.moviesite.mysite.service.TheaterService;
+import com.moviesite.mysite.service.TimetableService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +24,7 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +33,8 @@ import java.util.List;
 public class TheaterController {
 	private final TheaterService theaterService;
 	private final ScreeningService screeningService;
+	private final NearbyTheaterService nearbyTheaterService;
+	private final TimetableService timetableService;
 
 	// 모든 극장 목록 조회 (페이징 처리)
 	@GetMapping
@@ -45,6 +52,19 @@ public class TheaterController {
 		return ResponseEntity.ok(ApiResponse.success(theaters));
 	}
 
+	// 특정 영화를 예매할 수 있는 가까운 극장 목록 조회 (기간 미지정 시 현재부터 24시간)
+	@GetMapping("/nearest")
+	public ResponseEntity<ApiResponse<List<NearbyTheaterResponse>>> getNearestTheaters(
+			@RequestParam Long movieId, @RequestParam double lat, @RequestParam double lng,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(defaultValue = "5") int limit,
+			@RequestParam(required = false) Double radiusKm) {
+		List<NearbyTheaterResponse> theaters = nearbyTheaterService.findNearestTheaters(movieId, lat, lng, from, to,
+				limit, radiusKm);
+		return ResponseEntity.ok(ApiResponse.success(theaters));
+	}
+
 	// 특정 극장 상세 정보 조회
 	@GetMapping("/{theaterId}")
 	public ResponseEntity<ApiResponse<TheaterResponse>> getTheaterById(@PathVariable("theaterId") Long theaterId) {
@@ -72,7 +92,17 @@ public class TheaterController {
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error(e.getMessage()));
 		}
-		
+
+	}
+
+	// 특정 극장의 하루 상영 시간표 조회 (영화/상영관별로 묶음, 날짜 미지정 시 오늘)
+	@GetMapping("/{theaterId}/timetable")
+	public ResponseEntity<ApiResponse<TheaterTimetableResponse>> getTimetable(
+			@PathVariable("theaterId") Long theaterId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+		TheaterTimetableResponse timetable = timetableService.getTimetable(theaterId,
+				date != null ? date : LocalDate.now());
+		return ResponseEntity.ok(ApiResponse.success(timetable));
 	}
 
 	// 극장 검색
@@ -1,8 +1,10 @@
 package com.moviesite.mysite.controller;
 
+import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.model.dto.request.UserCouponRequest;
 import com.moviesite.mysite.model.dto.response.ApiResponse;
 import com.moviesite.mysite.model.dto.response.UserCouponResponse;
+import com.moviesite.mysite.service.UserCouponExpiryService;
 import com.moviesite.mysite.service.UserCouponService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +22,7 @@ import java.util.Map;
 public class UserCouponController {
 
     private final UserCouponService userCouponService;
+    private final UserCouponExpiryService userCouponExpiryService;
 
     // 현재 로그인한 사용자의 사용 가능한 쿠폰 목록 조회
     @GetMapping("/available")
@@ -59,4 +62,15 @@ public class UserCouponController {
         UserCouponResponse expiredCoupon = userCouponService.expireUserCoupon(id);
         return ResponseEntity.ok(ApiResponse.success("쿠폰이 성공적으로 만료 처리되었습니다.", expiredCoupon));
     }
-}
\ No newline at end of file
+
+    // 기간이 지난 쿠폰 만료 처리 즉시 실행 (관리자용)
+    @PostMapping("/expire/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> runCouponExpiry() {
+        long expired = userCouponExpiryService.expireCoupons();
+        if (expired < 0) {
+            throw new BadRequestException("쿠폰 만료 처리가 이미 실행 중입니다");
+        }
+        return ResponseEntity.ok(ApiResponse.success("쿠폰 만료 처리가 완료되었습니다.", Map.of("expiredCount", expired)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 쿠폰/사용자 쿠폰 변경 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class CouponChangedEvent {
+
+    // 변경된 쿠폰 ID (null이면 여러 쿠폰이 함께 변경됨)
+    private final Long couponId;
+
+    // 쿠폰을 등록한 사용자 ID (null이면 쿠폰 자체 변경 - 모든 사용자에게 영향)
+    private final Long userId;
+}
@@ -0,0 +1,20 @@
+package com.moviesite.mysite.event;
+
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 즐겨찾기 추가/삭제 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class FavoriteChangedEvent {
+
+    private final Long userId;
+    private final FavoriteType favoriteType;
+
+    // 영화 ID 또는 극장 ID
+    private final Long targetId;
+
+    // true: 추가, false: 삭제
+    private final boolean added;
+}
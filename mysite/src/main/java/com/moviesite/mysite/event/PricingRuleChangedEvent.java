@@ -0,0 +1,12 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 가격 정책 규칙 등록/수정/삭제 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class PricingRuleChangedEvent {
+
+    private final Long ruleId;
+}
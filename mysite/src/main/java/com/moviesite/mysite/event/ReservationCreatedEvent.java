@@ -0,0 +1,16 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 예매 생성 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class ReservationCreatedEvent {
+
+    private final Long reservationId;
+    private final Long userId;
+    private final Long movieId;
+    private final Long theaterId;
+    private final Long scheduleId;
+}
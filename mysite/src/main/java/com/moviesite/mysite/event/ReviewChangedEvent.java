@@ -0,0 +1,28 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// 리뷰 작성/수정/삭제 이벤트 (활성 리뷰 기준, 트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+    private final Long reviewId;
+    private final Long movieId;
+    private final Long userId;
+    private final ChangeType changeType;
+
+    // 변경 전 평점 (새로 작성된 경우 null)
+    private final BigDecimal previousRating;
+
+    // 변경 후 평점 (삭제/숨김 처리된 경우 null)
+    private final BigDecimal rating;
+
+    // 변경 유형 열거형
+    public enum ChangeType {
+        CREATED, UPDATED, REMOVED
+    }
+}
@@ -0,0 +1,16 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 좋아요 추가/취소 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class ReviewLikedEvent {
+
+    private final Long reviewId;
+    private final Long userId;
+
+    // 좋아요 수 증감 (추가 1, 취소 -1)
+    private final long delta;
+}
@@ -0,0 +1,22 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// 상영 일정 등록/수정/상태 변경/삭제 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class ScheduleChangedEvent {
+
+    // 변경된 상영 일정 ID
+    private final Set<Long> scheduleIds;
+
+    // 변경 전후 상영 일정이 속한 극장 ID
+    private final Set<Long> theaterIds;
+
+    // 변경 전후 상영 일정의 상영 날짜
+    private final Set<LocalDate> dates;
+}
@@ -0,0 +1,12 @@
+package com.moviesite.mysite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 극장 등록/수정/삭제 이벤트 (트랜잭션 커밋 이후 처리)
+@Getter
+@AllArgsConstructor
+public class TheaterChangedEvent {
+
+    private final Long theaterId;
+}
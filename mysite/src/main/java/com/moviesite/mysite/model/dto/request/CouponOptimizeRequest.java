@@ -0,0 +1,43 @@
+package com.moviesite.mysite.model.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// 예매 초안 기준 최적 쿠폰 계산 요청 (좌석 선택이 바뀔 때마다 호출)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponOptimizeRequest {
+
+    @NotNull(message = "상영 일정 ID는 필수 입력값입니다")
+    private Long scheduleId;
+
+    @NotEmpty(message = "좌석 목록은 필수 입력값입니다")
+    @Valid
+    private List<SeatPrice> seats;
+
+    // 선택한 좌석과 좌석별 가격
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SeatPrice {
+
+        @NotNull(message = "좌석 ID는 필수 입력값입니다")
+        private Long seatId;
+
+        @NotNull(message = "좌석 가격은 필수 입력값입니다")
+        @PositiveOrZero(message = "좌석 가격은 0 이상이어야 합니다")
+        private BigDecimal price;
+    }
+}
@@ -0,0 +1,35 @@
+package com.moviesite.mysite.model.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookRequest {
+
+    @NotNull(message = "결제 ID는 필수 입력값입니다")
+    private Long paymentId;
+
+    @NotBlank(message = "트랜잭션 ID는 필수 입력값입니다")
+    private String transactionId; // PG사 결제 트랜잭션 ID
+
+    @NotBlank(message = "결제 상태는 필수 입력값입니다")
+    private String status; // "COMPLETED", "FAILED"
+
+    @NotNull(message = "결제 금액은 필수 입력값입니다")
+    private BigDecimal amount;
+
+    // HMAC-SHA256("paymentId:transactionId:status:amount") 16진수 문자열
+    @NotBlank(message = "서명은 필수 입력값입니다")
+    private String signature;
+
+    private String message; // 실패 사유 등
+}
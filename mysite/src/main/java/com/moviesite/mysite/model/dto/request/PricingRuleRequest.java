@@ -0,0 +1,53 @@
+package com.moviesite.mysite.model.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRuleRequest {
+
+    @NotBlank(message = "규칙 이름은 필수 입력값입니다")
+    private String name;
+
+    // STANDARD, PREMIUM, HANDICAPPED, COUPLE (미지정 시 모든 좌석)
+    private String seatType;
+
+    // 상영관 타입 (미지정 시 모든 상영관)
+    private String screenType;
+
+    // WEEKDAY, WEEKEND (미지정 시 모든 요일)
+    private String dayType;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTimeFrom;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTimeTo;
+
+    @Min(value = 0, message = "최소 예매율은 0 이상이어야 합니다")
+    @Max(value = 100, message = "최소 예매율은 100 이하여야 합니다")
+    private Integer minOccupancyPercent;
+
+    // PERCENT, AMOUNT
+    @NotBlank(message = "조정 유형은 필수 입력값입니다")
+    private String adjustmentType;
+
+    @NotNull(message = "조정값은 필수 입력값입니다")
+    private Integer adjustmentValue;
+
+    private Integer priority;
+
+    private Boolean active;
+}
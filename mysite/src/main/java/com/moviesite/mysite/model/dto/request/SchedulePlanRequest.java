@@ -0,0 +1,90 @@
+package com.moviesite.mysite.model.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 주간 상영 일정 일괄 편성 요청
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulePlanRequest {
+
+    // 편성할 극장 ID (지정 시 해당 극장의 모든 상영관 사용)
+    private Long theaterId;
+
+    // 편성할 상영관과 운영 시간 (극장 상영관 중 운영 시간을 따로 지정하거나 상영관을 직접 지정할 때 사용)
+    @Valid
+    private List<ScreenHours> screens;
+
+    @NotNull(message = "편성 시작 날짜는 필수 입력값입니다")
+    private LocalDate startDate;
+
+    @Min(value = 1, message = "편성 기간은 1일 이상이어야 합니다")
+    @Max(value = 14, message = "편성 기간은 14일을 초과할 수 없습니다")
+    private Integer days;
+
+    @NotEmpty(message = "편성할 영화 목록은 필수 입력값입니다")
+    @Valid
+    private List<MovieTarget> movies;
+
+    // 상영 사이 정리 시간 (분, 미지정 시 기본 청소 시간 사용)
+    @Min(value = 0, message = "정리 시간은 0 이상이어야 합니다")
+    private Integer turnaroundMinutes;
+
+    // 기본 티켓 가격 (영화별 가격 미지정 시 사용)
+    @NotNull(message = "가격은 필수 입력값입니다")
+    @Min(value = 0, message = "가격은 0 이상이어야 합니다")
+    private Integer price;
+
+    // true이면 저장하지 않고 편성 결과만 반환
+    private boolean dryRun;
+
+    // 영화별 하루 목표 상영 횟수
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MovieTarget {
+
+        @NotNull(message = "영화 ID는 필수 입력값입니다")
+        private Long movieId;
+
+        @NotNull(message = "하루 상영 횟수는 필수 입력값입니다")
+        @Min(value = 1, message = "하루 상영 횟수는 1 이상이어야 합니다")
+        @Max(value = 20, message = "하루 상영 횟수는 20회를 초과할 수 없습니다")
+        private Integer showsPerDay;
+
+        @Min(value = 0, message = "가격은 0 이상이어야 합니다")
+        private Integer price;
+    }
+
+    // 상영관별 운영 시간 (첫 회 시작 시간, 마지막 회 시작 가능 시간)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScreenHours {
+
+        @NotNull(message = "상영관 ID는 필수 입력값입니다")
+        private Long screenId;
+
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime openTime;
+
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime lastStartTime;
+    }
+}
@@ -0,0 +1,51 @@
+package com.moviesite.mysite.model.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+// 상영 시간 통합 검색 조건 (지정하지 않은 조건은 적용하지 않음)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShowtimeSearchRequest {
+
+    private List<Long> movieIds;
+    private List<Long> theaterIds;
+
+    // 검색 기간 (미지정 시 오늘 하루)
+    private LocalDate fromDate;
+    private LocalDate toDate;
+
+    // 하루 중 시작 시간 범위 [startTimeFrom, startTimeTo)
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTimeFrom;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTimeTo;
+
+    // 상영관 타입 (예: IMAX, 4DX)
+    private List<String> screenTypes;
+
+    // 최소 잔여 좌석 수
+    @Min(value = 1, message = "최소 잔여 좌석 수는 1 이상이어야 합니다")
+    private Integer minAvailableSeats;
+
+    @Min(value = 0, message = "가격은 0 이상이어야 합니다")
+    private Integer minPrice;
+
+    @Min(value = 0, message = "가격은 0 이상이어야 합니다")
+    private Integer maxPrice;
+
+    // 최대 결과 수 (미지정 시 기본 최대값 사용)
+    @Min(value = 1, message = "결과 수는 1 이상이어야 합니다")
+    private Integer limit;
+}
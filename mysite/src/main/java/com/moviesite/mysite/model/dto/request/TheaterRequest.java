@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -47,4 +49,12 @@ public class TheaterRequest {
     private Integer capacity;
     
     private String type;
+    
+    @DecimalMin(value = "-90.0", message = "위도는 -90 이상이어야 합니다")
+    @DecimalMax(value = "90.0", message = "위도는 90 이하이어야 합니다")
+    private Double latitude;
+    
+    @DecimalMin(value = "-180.0", message = "경도는 -180 이상이어야 합니다")
+    @DecimalMax(value = "180.0", message = "경도는 180 이하이어야 합니다")
+    private Double longitude;
 }
@@ -0,0 +1,40 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// 예매 초안에 적용 가능한 쿠폰을 할인 금액 순으로 정렬한 결과
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CouponOptimizeResponse {
+
+    private Long scheduleId;
+    private int seatCount;
+    private BigDecimal orderAmount;
+
+    // 할인 금액이 가장 큰 쿠폰 (적용 가능한 쿠폰이 없으면 null)
+    private CouponDiscount best;
+
+    private List<CouponDiscount> coupons;
+
+    // 쿠폰 적용 결과
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CouponDiscount {
+        private int rank;
+        private CouponResponse coupon;
+        private BigDecimal discountAmount;
+        private BigDecimal finalAmount;
+    }
+}
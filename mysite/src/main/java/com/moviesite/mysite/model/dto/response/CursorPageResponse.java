@@ -0,0 +1,52 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageResponse<T> {
+
+    // 현재 페이지 데이터
+    private List<T> content;
+
+    // 요청한 페이지 크기
+    private int size;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+
+    // 다음 페이지 조회용 커서 (마지막 페이지인 경우 null)
+    private String nextCursor;
+
+    // 전체 건수 (요청한 경우에만 포함)
+    private Long totalElements;
+
+    // Slice 결과로 커서 응답 생성
+    public static <E, T> CursorPageResponse<T> of(Slice<E> slice, Function<E, T> mapper,
+                                                  Function<E, String> cursorMapper, Long totalElements) {
+        List<E> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? cursorMapper.apply(rows.get(rows.size() - 1))
+                : null;
+
+        return CursorPageResponse.<T>builder()
+                .content(rows.stream().map(mapper).collect(Collectors.toList()))
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 즐겨찾기 순위 항목 (영화 또는 극장)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FavoriteRankingResponse {
+
+    private Integer rank;
+
+    // 영화 ID 또는 극장 ID
+    private Long targetId;
+
+    // 영화 제목 또는 극장명
+    private String name;
+
+    private Long favoriteCount;
+}
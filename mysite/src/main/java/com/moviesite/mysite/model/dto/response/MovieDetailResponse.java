@@ -0,0 +1,38 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MovieDetailResponse {
+
+    // 영화 기본 정보
+    private MovieResponse movie;
+
+    // 최신 리뷰 목록과 전체 리뷰 수
+    private List<ReviewResponse> reviews;
+    private Long reviewCount;
+
+    // 관람객 평균 평점과 평점별 리뷰 수 ("0.5" ~ "5.0")
+    private Double averageRating;
+    private Map<String, Integer> ratingHistogram;
+
+    // 즐겨찾기 수
+    private Long favoriteCount;
+
+    // 예정된 상영 정보
+    private List<ScreeningResponse> screenings;
+
+    // 시간 초과 또는 오류로 채우지 못한 항목 이름
+    private List<String> missingParts;
+}
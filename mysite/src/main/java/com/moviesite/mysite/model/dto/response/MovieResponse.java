@@ -30,6 +30,10 @@ public class MovieResponse {
     private String formattedReleaseDate;
     private String formattedEndDate;
     private BigDecimal rating;
+
+    // 관람객 평균 평점과 리뷰 수 (평점 집계 기준)
+    private Double audienceRating;
+    private Integer reviewCount;
     private String synopsis;
     private String posterUrl;
     private String backgroundUrl;
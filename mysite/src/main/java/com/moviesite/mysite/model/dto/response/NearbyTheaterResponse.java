@@ -0,0 +1,51 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NearbyTheaterResponse {
+
+    private Long theaterId;
+    private String name;
+    private String location;
+    private String address;
+    private Double latitude;
+    private Double longitude;
+
+    // 요청 위치로부터의 거리 (km, 소수점 둘째 자리)
+    private Double distanceKm;
+
+    // 요청 기간 내 예매 가능한 상영 시간 목록
+    private List<ShowtimeResponse> showtimes;
+
+    // 상영 시간 요약 정보를 담는 내부 클래스
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShowtimeResponse {
+        private Long scheduleId;
+        private Long screenId;
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime startTime;
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime endTime;
+
+        private Integer price;
+        private Integer availableSeats;
+    }
+}
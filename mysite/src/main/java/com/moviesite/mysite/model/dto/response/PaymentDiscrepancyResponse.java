@@ -0,0 +1,57 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.moviesite.mysite.model.entity.PaymentDiscrepancy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaymentDiscrepancyResponse {
+
+    private Long id;
+    private String runId;
+    private String discrepancyType;
+    private Long reservationId;
+    private Long paymentId;
+    private BigDecimal reservationAmount;
+    private BigDecimal paymentAmount;
+    private String reservationStatus;
+    private String reservationPaymentStatus;
+    private String paymentStatus;
+    private String detail;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    // Entity -> DTO 변환 메서드
+    public static PaymentDiscrepancyResponse fromEntity(PaymentDiscrepancy discrepancy) {
+        if (discrepancy == null) {
+            return null;
+        }
+
+        return PaymentDiscrepancyResponse.builder()
+                .id(discrepancy.getId())
+                .runId(discrepancy.getRunId())
+                .discrepancyType(discrepancy.getDiscrepancyType().name())
+                .reservationId(discrepancy.getReservationId())
+                .paymentId(discrepancy.getPaymentId())
+                .reservationAmount(discrepancy.getReservationAmount())
+                .paymentAmount(discrepancy.getPaymentAmount())
+                .reservationStatus(discrepancy.getReservationStatus())
+                .reservationPaymentStatus(discrepancy.getReservationPaymentStatus())
+                .paymentStatus(discrepancy.getPaymentStatus())
+                .detail(discrepancy.getDetail())
+                .createdAt(discrepancy.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.moviesite.mysite.model.entity.PricingRule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PricingRuleResponse {
+
+    private Long id;
+    private String name;
+    private String seatType;
+    private String screenType;
+    private String dayType;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTimeFrom;
+
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTimeTo;
+
+    private Integer minOccupancyPercent;
+    private String adjustmentType;
+    private Integer adjustmentValue;
+    private Integer priority;
+    private Boolean active;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    // Entity -> DTO 변환 메서드
+    public static PricingRuleResponse fromEntity(PricingRule rule) {
+        if (rule == null) {
+            return null;
+        }
+
+        return PricingRuleResponse.builder()
+                .id(rule.getId())
+                .name(rule.getName())
+                .seatType(rule.getSeatType() != null ? rule.getSeatType().name() : null)
+                .screenType(rule.getScreenType())
+                .dayType(rule.getDayType() != null ? rule.getDayType().name() : null)
+                .startTimeFrom(rule.getStartTimeFrom())
+                .startTimeTo(rule.getStartTimeTo())
+                .minOccupancyPercent(rule.getMinOccupancyPercent())
+                .adjustmentType(rule.getAdjustmentType().name())
+                .adjustmentValue(rule.getAdjustmentValue())
+                .priority(rule.getPriority())
+                .active(rule.getActive())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
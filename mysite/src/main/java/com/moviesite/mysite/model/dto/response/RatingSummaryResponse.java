@@ -0,0 +1,27 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 영화 관람객 평점 집계 (평균, 리뷰 수, 평점별 분포)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RatingSummaryResponse {
+
+    private Long movieId;
+    private Integer reviewCount;
+
+    // 평균 평점 (리뷰가 없으면 null)
+    private Double averageRating;
+
+    // 평점("0.5" ~ "5.0")별 리뷰 수
+    private Map<String, Integer> histogram;
+}
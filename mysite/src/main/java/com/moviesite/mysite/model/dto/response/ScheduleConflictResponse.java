@@ -0,0 +1,39 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 상영 일정 일괄 검증 결과 (요청 순서별 항목)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScheduleConflictResponse {
+
+    // 요청 목록에서의 위치 (0부터 시작)
+    private Integer index;
+    private Long screenId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endTime;
+
+    private boolean valid;
+    private String message;
+
+    // 겹치는 기존 상영 일정 ID
+    private List<Long> conflictScheduleIds;
+
+    // 겹치는 같은 요청 내 다른 항목의 위치
+    private List<Integer> conflictRequestIndexes;
+}
@@ -0,0 +1,63 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 주간 상영 일정 일괄 편성 결과
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SchedulePlanResponse {
+
+    private boolean dryRun;
+    private int scheduleCount;
+    private int screeningCount;
+    private List<PlannedShow> schedules;
+
+    // 운영 시간 안에 배치하지 못한 상영 (영화, 날짜별 부족 횟수)
+    private List<UnplacedShow> unplaced;
+
+    // 편성된 상영 회차
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlannedShow {
+        private Long scheduleId;
+        private Long movieId;
+        private Long screenId;
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime startTime;
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime endTime;
+
+        private Integer price;
+        private Integer availableSeats;
+    }
+
+    // 배치하지 못한 상영
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnplacedShow {
+        private Long movieId;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate date;
+
+        private int count;
+    }
+}
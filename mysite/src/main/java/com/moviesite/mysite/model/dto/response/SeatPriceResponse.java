@@ -0,0 +1,39 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 상영 일정의 좌석별 가격 (현재 예매율 기준 견적)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeatPriceResponse {
+
+    private Long scheduleId;
+    private Integer basePrice;
+    private Integer occupancyPercent;
+
+    // 좌석 타입별 가격
+    private Map<String, Integer> seatTypePrices;
+
+    private List<SeatPrice> seats;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SeatPrice {
+        private Long seatId;
+        private String seatLabel;
+        private String seatType;
+        private Integer price;
+    }
+}
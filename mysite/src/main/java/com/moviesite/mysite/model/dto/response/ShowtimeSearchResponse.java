@@ -0,0 +1,39 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 상영 시간 통합 검색 결과 항목 (예매 가능한 상영 일정 1건)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ShowtimeSearchResponse {
+
+    private Long scheduleId;
+    private Long movieId;
+    private String movieTitle;
+    private String moviePosterUrl;
+    private String ageRating;
+    private Long theaterId;
+    private String theaterName;
+    private Long screenId;
+    private String screenName;
+    private String screenType;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime startTime;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime endTime;
+
+    private Integer price;
+    private Integer availableSeats;
+}
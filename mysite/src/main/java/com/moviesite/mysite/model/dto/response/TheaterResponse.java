@@ -32,6 +32,8 @@ public class TheaterResponse {
 	private String transportation;
 	private Integer capacity;
 	private String type;
+	private Double latitude;
+	private Double longitude;
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
 	private LocalDateTime createdAt;
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -53,6 +55,7 @@ public class TheaterResponse {
 				.specialScreens(theater.getSpecialScreensList()).imageUrl(theater.getImageUrl())
 				.description(theater.getDescription()).features(theater.getFeaturesList()).parking(theater.getParking())
 				.transportation(theater.getTransportation()).capacity(theater.getCapacity()).type(theater.getType())
+				.latitude(theater.getLatitude()).longitude(theater.getLongitude())
 				.createdAt(theater.getCreatedAt()).updatedAt(theater.getUpdatedAt())
 				.formattedCreatedAt(theater.getCreatedAt() != null
 						? theater.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy.MM.dd"))
@@ -0,0 +1,79 @@
+package com.moviesite.mysite.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 극장의 하루 상영 시간표 (영화 -> 상영관 -> 상영 시간 순으로 묶음)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TheaterTimetableResponse {
+
+    private Long theaterId;
+    private String theaterName;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private List<MovieTimetable> movies;
+
+    // 영화별 시간표
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class MovieTimetable {
+        private Long movieId;
+        private String title;
+        private String posterUrl;
+        private String ageRating;
+        private Integer runningTime;
+        private List<ScreenTimetable> screens;
+    }
+
+    // 상영관별 시간표
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ScreenTimetable {
+        private Long screenId;
+        private String screenName;
+        private String screenType;
+        private Integer seatsCount;
+        private List<Showtime> showtimes;
+    }
+
+    // 상영 회차 정보
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Showtime {
+        private Long scheduleId;
+
+        @JsonFormat(pattern = "HH:mm")
+        private LocalDateTime startTime;
+
+        @JsonFormat(pattern = "HH:mm")
+        private LocalDateTime endTime;
+
+        private Integer price;
+        private Integer availableSeats;
+        private String status;
+        private boolean soldOut;
+        private boolean bookable;
+    }
+}
@@ -55,6 +55,10 @@ public class Coupon {
     @Column(name = "total_usage_limit")
     private Integer totalUsageLimit;
     
+    // 발급된 수량 (쿠폰 등록 시 조건부 UPDATE로만 증가하므로 엔티티 저장 시에는 변경하지 않음)
+    @Column(name = "issued", nullable = false, updatable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer issued;
+    
     @Enumerated(EnumType.STRING)
     @Column(name = "coupon_type", nullable = false)
     private CouponType couponType;
@@ -106,6 +110,9 @@ public class Coupon {
         if (this.usageLimitPerUser == null) {
             this.usageLimitPerUser = 1;
         }
+        if (this.issued == null) {
+            this.issued = 0;
+        }
         if (this.couponType == null) {
             this.couponType = CouponType.GENERAL;
         }
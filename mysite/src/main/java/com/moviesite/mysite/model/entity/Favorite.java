@@ -9,7 +9,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "favorites")
+@Table(name = "favorites", uniqueConstraints = {
+        @UniqueConstraint(name = "unique_movie_favorite", columnNames = {"user_id", "movie_id"}),
+        @UniqueConstraint(name = "unique_theater_favorite", columnNames = {"user_id", "theater_id"})
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,48 @@
+package com.moviesite.mysite.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// 영화/극장별 즐겨찾기 수 (메모리 카운터의 주기적 저장본, 매일 즐겨찾기 테이블 기준으로 재계산)
+@Entity
+@Table(name = "favorite_counts")
+@IdClass(FavoriteCount.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteCount {
+
+	@Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "favorite_type")
+    private Favorite.FavoriteType favoriteType;
+    
+    // 영화 ID 또는 극장 ID
+    @Id
+    @Column(name = "target_id")
+    private Long targetId;
+    
+    @Column(name = "favorite_count", nullable = false)
+    private Long favoriteCount;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // 복합 키 (즐겨찾기 유형, 대상 ID)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Favorite.FavoriteType favoriteType;
+        private Long targetId;
+    }
+}
@@ -0,0 +1,65 @@
+package com.moviesite.mysite.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 영화별 관람객 평점 집계 (활성 리뷰 기준, 리뷰 변경 시 증감으로 갱신)
+// 평점은 0.5점 단위이므로 2를 곱한 값(1~10)으로 합계와 구간별 개수를 저장
+@Entity
+@Table(name = "movie_rating_summaries")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieRatingSummary {
+
+	@Id
+    @Column(name = "movie_id")
+    private Long movieId;
+    
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+    
+    // 평점 x 2 의 합계
+    @Column(name = "rating_points", nullable = false)
+    private Long ratingPoints;
+    
+    // 평점 x 2 값별 리뷰 수 (bucket1 = 0.5점, bucket10 = 5.0점)
+    @Column(name = "bucket_1", nullable = false)
+    private Integer bucket1;
+    
+    @Column(name = "bucket_2", nullable = false)
+    private Integer bucket2;
+    
+    @Column(name = "bucket_3", nullable = false)
+    private Integer bucket3;
+    
+    @Column(name = "bucket_4", nullable = false)
+    private Integer bucket4;
+    
+    @Column(name = "bucket_5", nullable = false)
+    private Integer bucket5;
+    
+    @Column(name = "bucket_6", nullable = false)
+    private Integer bucket6;
+    
+    @Column(name = "bucket_7", nullable = false)
+    private Integer bucket7;
+    
+    @Column(name = "bucket_8", nullable = false)
+    private Integer bucket8;
+    
+    @Column(name = "bucket_9", nullable = false)
+    private Integer bucket9;
+    
+    @Column(name = "bucket_10", nullable = false)
+    private Integer bucket10;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
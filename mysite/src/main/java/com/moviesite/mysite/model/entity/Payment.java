@@ -10,7 +10,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_created_at_id", columnList = "created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,79 @@
+package com.moviesite.mysite.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 결제/예매 대사 작업에서 발견한 불일치 (대사 실행마다 run_id로 구분, JDBC 배치로 저장)
+@Entity
+@Table(name = "payment_discrepancies", indexes = {
+        @Index(name = "idx_payment_discrepancies_run", columnList = "run_id, id"),
+        @Index(name = "idx_payment_discrepancies_created_at", columnList = "created_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentDiscrepancy {
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "discrepancy_type", nullable = false)
+    private DiscrepancyType discrepancyType;
+    
+    // 예매/결제는 삭제될 수 있으므로 참조 대신 ID만 보관
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+    
+    @Column(name = "payment_id")
+    private Long paymentId;
+    
+    @Column(name = "reservation_amount", precision = 10, scale = 2)
+    private BigDecimal reservationAmount;
+    
+    // 결제 금액 + 할인 금액 (예매 금액과 비교하는 값)
+    @Column(name = "payment_amount", precision = 10, scale = 2)
+    private BigDecimal paymentAmount;
+    
+    @Column(name = "reservation_status")
+    private String reservationStatus;
+    
+    @Column(name = "reservation_payment_status")
+    private String reservationPaymentStatus;
+    
+    @Column(name = "payment_status")
+    private String paymentStatus;
+    
+    private String detail;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    // 불일치 유형
+    public enum DiscrepancyType {
+        PAID_WITHOUT_PAYMENT,   // 결제 완료된 예매에 완료/환불된 결제가 없음
+        UNPAID_RESERVATION,     // 완료된 결제가 있는데 예매가 결제 대기 상태
+        AMOUNT_MISMATCH,        // 결제 금액 + 할인 금액이 예매 금액과 다름
+        REFUND_MISMATCH,        // 결제와 예매의 환불 상태가 다름
+        DUPLICATE_PAYMENT,      // 한 예매에 완료/환불된 결제가 여러 건
+        STALE_PENDING,          // 제한 시간이 지나도록 대기 중인 결제
+        ORPHAN_PAYMENT          // 예매가 없는 결제
+    }
+    
+    // JPA 엔티티 생명주기 콜백 메서드
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,101 @@
+package com.moviesite.mysite.model.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 가격 정책 규칙 (지정한 조건을 모두 만족하는 좌석 가격에 우선순위 순서로 조정값 적용)
+@Entity
+@Table(name = "pricing_rules")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PricingRule {
+
+	@Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    // 적용 좌석 타입 (null이면 모든 좌석)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "seat_type")
+    private Seat.SeatType seatType;
+    
+    // 적용 상영관 타입 (예: IMAX, 4DX / null이면 모든 상영관)
+    @Column(name = "screen_type")
+    private String screenType;
+    
+    // 적용 요일 구분 (null이면 모든 요일)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_type")
+    private DayType dayType;
+    
+    // 적용 상영 시작 시간 범위 [startTimeFrom, startTimeTo) (예: 조조/심야)
+    @Column(name = "start_time_from")
+    private LocalTime startTimeFrom;
+    
+    @Column(name = "start_time_to")
+    private LocalTime startTimeTo;
+    
+    // 적용 최소 예매율 (%, 이 값 이상일 때 적용 / null이면 예매율 무관)
+    @Column(name = "min_occupancy_percent")
+    private Integer minOccupancyPercent;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "adjustment_type", nullable = false)
+    private AdjustmentType adjustmentType;
+    
+    // 조정값 (PERCENT면 %, AMOUNT면 원 / 음수면 할인)
+    @Column(name = "adjustment_value", nullable = false)
+    private Integer adjustmentValue;
+    
+    // 적용 순서 (작을수록 먼저 적용)
+    @Column(nullable = false)
+    private Integer priority;
+    
+    @Column(nullable = false)
+    private Boolean active;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // 요일 구분 열거형
+    public enum DayType {
+        WEEKDAY, WEEKEND
+    }
+    
+    // 조정 유형 열거형
+    public enum AdjustmentType {
+        PERCENT, AMOUNT
+    }
+    
+    // JPA 엔티티 생명주기 콜백 메서드
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+        if (this.priority == null) {
+            this.priority = 0;
+        }
+        if (this.active == null) {
+            this.active = true;
+        }
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -10,7 +10,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_user_time", columnList = "user_id, reservation_time, id"),
+        @Index(name = "idx_reservations_time", columnList = "reservation_time, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
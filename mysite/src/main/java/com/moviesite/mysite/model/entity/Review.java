@@ -10,7 +10,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_movie_status_created", columnList = "movie_id, status, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -38,7 +40,8 @@ public class Review {
     @Column(nullable = false)
     private Boolean spoiler;
     
-    @Column(nullable = false)
+    // 좋아요 수 (좋아요 카운터가 일괄 UPDATE로만 갱신하므로 엔티티 수정 시에는 쓰지 않음)
+    @Column(nullable = false, updatable = false)
     private Integer likes;
     
     @Column(name = "created_at")
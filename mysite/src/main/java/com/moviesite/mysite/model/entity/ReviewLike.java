@@ -9,7 +9,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review_likes")
+@Table(name = "review_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "unique_user_review", columnNames = {"user_id", "review_id"})
+})
 @Data
 @Builder
 @NoArgsConstructor
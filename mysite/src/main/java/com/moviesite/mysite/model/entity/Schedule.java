@@ -9,7 +9,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+		@Index(name = "idx_schedules_screen_start", columnList = "screen_id, start_time"),
+		@Index(name = "idx_schedules_movie_start", columnList = "movie_id, start_time"),
+		@Index(name = "idx_schedules_status_start", columnList = "status, start_time")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -82,10 +86,10 @@ public class Schedule {
 		return this.availableSeats <= 0;
 	}
 
-	// 편의 메서드: 상영 가능 여부 확인
+	// 편의 메서드: 상영 가능 여부 확인 (시작 시간이 되면 상태 전환 스케줄러가 CLOSED로 바꾸므로 상태만 확인)
 	@Transient
 	public boolean isBookable() {
-		return this.status == ScheduleStatus.OPEN && !isSoldOut() && startTime.isAfter(LocalDateTime.now());
+		return this.status == ScheduleStatus.OPEN && !isSoldOut();
 	}
 
 	public LocalDateTime getStartTime() {
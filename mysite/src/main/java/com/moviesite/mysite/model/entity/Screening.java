@@ -11,7 +11,11 @@ import java.time.LocalTime;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "screenings")
+@Table(name = "screenings", indexes = {
+        @Index(name = "idx_screenings_movie_status_date", columnList = "movie_id, status, screening_date"),
+        @Index(name = "idx_screenings_screen_status_date", columnList = "screen_id, status, screening_date"),
+        @Index(name = "idx_screenings_status_date_end", columnList = "status, screening_date, end_time")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -67,6 +67,12 @@ public class Theater {
     
     private String type;
     
+    // 위도 (WGS84)
+    private Double latitude;
+    
+    // 경도 (WGS84)
+    private Double longitude;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
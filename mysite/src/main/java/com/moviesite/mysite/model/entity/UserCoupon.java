@@ -9,7 +9,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_coupons")
+@Table(name = "user_coupons", uniqueConstraints = {
+        @UniqueConstraint(name = "unique_user_coupon", columnNames = {"user_id", "coupon_id"})
+}, indexes = {
+        @Index(name = "idx_user_coupons_expiry", columnList = "expired, used, expiry_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
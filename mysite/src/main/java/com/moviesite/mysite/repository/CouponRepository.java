@@ -3,6 +3,7 @@ package com.moviesite.mysite.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -59,4 +60,18 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     
     @Query("SELECT c FROM Coupon c WHERE c.discountType = 'PERCENT' ORDER BY c.discountValue DESC")
     List<Coupon> findHighestDiscountPercentCoupons(Pageable pageable);
+    
+    // 발급 수량 조회
+    @Query("SELECT c.issued FROM Coupon c WHERE c.id = :id")
+    Optional<Integer> findIssuedById(@Param("id") Long id);
+    
+    // 남은 수량이 있을 때만 발급 수 증가 (증가한 경우 1 반환)
+    @Modifying
+    @Query(value = "UPDATE coupons SET issued = issued + 1 "
+            + "WHERE id = :id AND (total_usage_limit IS NULL OR issued < total_usage_limit)", nativeQuery = true)
+    int incrementIssuedIfAvailable(@Param("id") Long id);
+    
+    // 수량 제한 쿠폰의 (쿠폰 ID, 전체 수량, 발급 수량)
+    @Query("SELECT c.id, c.totalUsageLimit, c.issued FROM Coupon c WHERE c.totalUsageLimit IS NOT NULL")
+    List<Object[]> findQuotaCounts();
 }
@@ -0,0 +1,26 @@
+package com.moviesite.mysite.repository;
+
+import com.moviesite.mysite.model.entity.FavoriteCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FavoriteCountRepository extends JpaRepository<FavoriteCount, FavoriteCount.Key> {
+
+    // 즐겨찾기 수 전체 삭제 (재계산 전)
+    @Modifying
+    @Query(value = "DELETE FROM favorite_counts", nativeQuery = true)
+    int deleteAllCounts();
+
+    // 즐겨찾기 테이블로 즐겨찾기 수 전체 재계산
+    @Modifying
+    @Query(value = "INSERT INTO favorite_counts (favorite_type, target_id, favorite_count, updated_at) "
+            + "SELECT 'MOVIE', movie_id, COUNT(*), NOW() FROM favorites "
+            + "WHERE favorite_type = 'MOVIE' AND movie_id IS NOT NULL GROUP BY movie_id "
+            + "UNION ALL "
+            + "SELECT 'THEATER', theater_id, COUNT(*), NOW() FROM favorites "
+            + "WHERE favorite_type = 'THEATER' AND theater_id IS NOT NULL GROUP BY theater_id", nativeQuery = true)
+    int insertCountsFromFavorites();
+}
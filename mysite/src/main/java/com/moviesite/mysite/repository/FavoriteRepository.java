@@ -1,7 +1,7 @@
 package com.moviesite.mysite.repository;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -40,16 +40,38 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // 특정 사용자가 특정 극장을 즐겨찾기했는지 확인
     boolean existsByUserIdAndTheaterId(Long userId, Long theaterId);
     
-    // 가장 많이 즐겨찾기된 영화 목록 조회
-    @Query("SELECT f.movie.id, f.movie.title, COUNT(f) as count FROM Favorite f WHERE f.favoriteType = 'MOVIE' GROUP BY f.movie.id, f.movie.title ORDER BY count DESC")
-    List<Object[]> findMostFavoritedMovies(Pageable pageable);
-    
-    // 가장 많이 즐겨찾기된 극장 목록 조회
-    @Query("SELECT f.theater.id, f.theater.name, COUNT(f) as count FROM Favorite f WHERE f.favoriteType = 'THEATER' GROUP BY f.theater.id, f.theater.name ORDER BY count DESC")
-    List<Object[]> findMostFavoritedTheaters(Pageable pageable);
-    
     // 특정 사용자의 즐겨찾기 삭제
     void deleteByUserIdAndMovieId(Long userId, Long movieId);
     
     void deleteByUserIdAndTheaterId(Long userId, Long theaterId);
+
+    // 영화 즐겨찾기의 (사용자 ID, 영화 ID) 쌍 조회 (유사 영화 계산용)
+    @Query("SELECT f.user.id, f.movie.id FROM Favorite f WHERE f.favoriteType = 'MOVIE'")
+    List<Object[]> findUserMoviePairs();
+
+    // 특정 사용자의 즐겨찾기 대상 ID 조회 (유형, 영화 ID, 극장 ID)
+    @Query("SELECT f.favoriteType, m.id, t.id FROM Favorite f LEFT JOIN f.movie m LEFT JOIN f.theater t WHERE f.user.id = :userId")
+    List<Object[]> findTargetIdsByUserId(@Param("userId") Long userId);
+
+    // 영화 즐겨찾기 추가 (이미 있으면 무시, 추가된 경우 1 반환 - unique_movie_favorite 키 기준)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO favorites (user_id, favorite_type, movie_id, created_at, updated_at) "
+            + "VALUES (:userId, 'MOVIE', :movieId, NOW(), NOW())", nativeQuery = true)
+    int insertMovieFavoriteIgnore(@Param("userId") Long userId, @Param("movieId") Long movieId);
+
+    // 극장 즐겨찾기 추가 (이미 있으면 무시, 추가된 경우 1 반환 - unique_theater_favorite 키 기준)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO favorites (user_id, favorite_type, theater_id, created_at, updated_at) "
+            + "VALUES (:userId, 'THEATER', :theaterId, NOW(), NOW())", nativeQuery = true)
+    int insertTheaterFavoriteIgnore(@Param("userId") Long userId, @Param("theaterId") Long theaterId);
+
+    // 영화 즐겨찾기 삭제 (삭제된 경우 1 반환)
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.movie.id = :movieId")
+    int deleteMovieFavorite(@Param("userId") Long userId, @Param("movieId") Long movieId);
+
+    // 극장 즐겨찾기 삭제 (삭제된 경우 1 반환)
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.theater.id = :theaterId")
+    int deleteTheaterFavorite(@Param("userId") Long userId, @Param("theaterId") Long theaterId);
 }
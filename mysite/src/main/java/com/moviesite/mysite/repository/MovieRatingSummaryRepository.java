@@ -0,0 +1,48 @@
+package com.moviesite.mysite.repository;
+
+import com.moviesite.mysite.model.entity.MovieRatingSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MovieRatingSummaryRepository extends JpaRepository<MovieRatingSummary, Long> {
+
+    // 영화 평점 집계 증감 반영 (없으면 생성, added/removed는 추가/제거된 평점 x 2 값이며 해당 없으면 0)
+    @Modifying
+    @Query(value = "INSERT INTO movie_rating_summaries (movie_id, review_count, rating_points, "
+            + "bucket_1, bucket_2, bucket_3, bucket_4, bucket_5, bucket_6, bucket_7, bucket_8, bucket_9, bucket_10, updated_at) "
+            + "VALUES (:movieId, (:added > 0) - (:removed > 0), :added - :removed, "
+            + "(:added = 1) - (:removed = 1), (:added = 2) - (:removed = 2), (:added = 3) - (:removed = 3), "
+            + "(:added = 4) - (:removed = 4), (:added = 5) - (:removed = 5), (:added = 6) - (:removed = 6), "
+            + "(:added = 7) - (:removed = 7), (:added = 8) - (:removed = 8), (:added = 9) - (:removed = 9), "
+            + "(:added = 10) - (:removed = 10), NOW()) "
+            + "ON DUPLICATE KEY UPDATE review_count = review_count + VALUES(review_count), "
+            + "rating_points = rating_points + VALUES(rating_points), "
+            + "bucket_1 = bucket_1 + VALUES(bucket_1), bucket_2 = bucket_2 + VALUES(bucket_2), "
+            + "bucket_3 = bucket_3 + VALUES(bucket_3), bucket_4 = bucket_4 + VALUES(bucket_4), "
+            + "bucket_5 = bucket_5 + VALUES(bucket_5), bucket_6 = bucket_6 + VALUES(bucket_6), "
+            + "bucket_7 = bucket_7 + VALUES(bucket_7), bucket_8 = bucket_8 + VALUES(bucket_8), "
+            + "bucket_9 = bucket_9 + VALUES(bucket_9), bucket_10 = bucket_10 + VALUES(bucket_10), "
+            + "updated_at = NOW()", nativeQuery = true)
+    int applyRatingChange(@Param("movieId") Long movieId, @Param("added") int added, @Param("removed") int removed);
+
+    // 집계 전체 삭제 (재계산 전)
+    @Modifying
+    @Query(value = "DELETE FROM movie_rating_summaries", nativeQuery = true)
+    int deleteAllSummaries();
+
+    // 활성 리뷰로 집계 전체 재계산
+    @Modifying
+    @Query(value = "INSERT INTO movie_rating_summaries (movie_id, review_count, rating_points, "
+            + "bucket_1, bucket_2, bucket_3, bucket_4, bucket_5, bucket_6, bucket_7, bucket_8, bucket_9, bucket_10, updated_at) "
+            + "SELECT movie_id, COUNT(*), SUM(ROUND(rating * 2)), "
+            + "SUM(ROUND(rating * 2) = 1), SUM(ROUND(rating * 2) = 2), SUM(ROUND(rating * 2) = 3), "
+            + "SUM(ROUND(rating * 2) = 4), SUM(ROUND(rating * 2) = 5), SUM(ROUND(rating * 2) = 6), "
+            + "SUM(ROUND(rating * 2) = 7), SUM(ROUND(rating * 2) = 8), SUM(ROUND(rating * 2) = 9), "
+            + "SUM(ROUND(rating * 2) = 10), NOW() "
+            + "FROM reviews WHERE status = 'ACTIVE' GROUP BY movie_id", nativeQuery = true)
+    int insertSummariesFromReviews();
+}
@@ -2,6 +2,7 @@ package com.moviesite.mysite.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import com.moviesite.mysite.model.entity.Movie;
 import com.moviesite.mysite.model.entity.Movie.MovieStatus;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -38,10 +40,6 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT m FROM Movie m WHERE m.genre LIKE %:genre% AND m.id != :movieId ORDER BY m.rating DESC")
     List<Movie> findSimilarMovies(@Param("genre") String genre, @Param("movieId") Long movieId, Pageable pageable);
     
-    // 오버로딩 - 결과 수 제한 버전
-    @Query("SELECT m FROM Movie m WHERE m.genre LIKE %:genre% AND m.id != :movieId ORDER BY m.rating DESC")
-    List<Movie> findSimilarMovies(@Param("genre") String genre, @Param("movieId") Long movieId, @Param("limit") int limit);
-    
     // 개봉 예정작 중 가장 가까운 개봉일 순으로 조회
     @Query("SELECT m FROM Movie m WHERE m.status = 'COMING_SOON' AND m.releaseDate > CURRENT_DATE ORDER BY m.releaseDate ASC")
     List<Movie> findUpcomingMovies(Pageable pageable);
@@ -80,4 +78,22 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
 	List<Movie> findByGenreContainingAndStatus(String genre, MovieStatus nowShowing);
 
 	List<Movie> findByDirectorContaining(String director);
+
+	// 커서 기반 영화 목록 조회 (등록일 내림차순, 키셋 페이징)
+	@Query("SELECT m FROM Movie m " +
+	       "WHERE (:title IS NULL OR m.title LIKE CONCAT('%', :title, '%')) " +
+	       "AND (:status IS NULL OR m.status = :status) " +
+	       "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+	       "ORDER BY m.createdAt DESC, m.id DESC")
+	Slice<Movie> findSliceAfter(@Param("title") String title,
+	                            @Param("status") MovieStatus status,
+	                            @Param("createdAt") LocalDateTime createdAt,
+	                            @Param("id") Long id,
+	                            Pageable pageable);
+
+	// 커서 기반 영화 목록의 전체 건수 조회
+	@Query("SELECT COUNT(m) FROM Movie m " +
+	       "WHERE (:title IS NULL OR m.title LIKE CONCAT('%', :title, '%')) " +
+	       "AND (:status IS NULL OR m.status = :status)")
+	long countByFilter(@Param("title") String title, @Param("status") MovieStatus status);
 }
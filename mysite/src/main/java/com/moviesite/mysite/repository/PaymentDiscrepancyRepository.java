@@ -0,0 +1,32 @@
+package com.moviesite.mysite.repository;
+
+import com.moviesite.mysite.model.entity.PaymentDiscrepancy;
+import com.moviesite.mysite.model.entity.PaymentDiscrepancy.DiscrepancyType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PaymentDiscrepancyRepository extends JpaRepository<PaymentDiscrepancy, Long> {
+
+    // 대사 실행별 불일치 조회
+    Page<PaymentDiscrepancy> findByRunId(String runId, Pageable pageable);
+
+    // 대사 실행별 특정 유형 불일치 조회
+    Page<PaymentDiscrepancy> findByRunIdAndDiscrepancyType(String runId, DiscrepancyType discrepancyType, Pageable pageable);
+
+    // 가장 최근에 기록된 불일치 (최근 대사 실행 ID 확인용)
+    Optional<PaymentDiscrepancy> findFirstByOrderByIdDesc();
+
+    // 보관 기간이 지난 불일치 삭제
+    @Modifying
+    @Query(value = "DELETE FROM payment_discrepancies WHERE created_at < :cutoff", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,7 +2,9 @@ package com.moviesite.mysite.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,6 +16,7 @@ import com.moviesite.mysite.model.entity.User;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,4 +90,52 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 	Page<Payment> findByPaymentMethod(String method, Pageable pageable);
 
 	Optional<Payment> findByReservation(Reservation reservation);
+
+	// 예매의 가장 최근 결제 (실패 후 다시 결제하면 예매 하나에 결제가 여러 건)
+	Optional<Payment> findFirstByReservationOrderByIdDesc(Reservation reservation);
+
+	// 진행 중이거나 완료된 결제가 있는지 확인 (중복 결제 방지)
+	boolean existsByReservationIdAndPaymentStatusIn(Long reservationId, Collection<PaymentStatus> statuses);
+
+	// 대기 중인 결제에 PG 거래 번호 기록 (웹훅이 먼저 도착해 확정된 경우 0)
+	@Modifying
+	@Query(value = "UPDATE payments SET transaction_id = :transactionId, updated_at = NOW() "
+			+ "WHERE id = :id AND payment_status = 'PENDING' AND transaction_id IS NULL", nativeQuery = true)
+	int assignTransactionId(@Param("id") Long id, @Param("transactionId") String transactionId);
+
+	// 대기 중인 결제를 완료 처리 (이미 처리된 결제면 0 - 중복 웹훅 무시)
+	@Modifying
+	@Query(value = "UPDATE payments SET payment_status = 'COMPLETED', transaction_id = :transactionId, "
+			+ "payment_time = :paymentTime, updated_at = NOW() WHERE id = :id AND payment_status = 'PENDING'", nativeQuery = true)
+	int completePending(@Param("id") Long id, @Param("transactionId") String transactionId,
+			@Param("paymentTime") LocalDateTime paymentTime);
+
+	// 대기 중인 결제를 실패 처리 (거래 번호가 없으면 기존 값 유지, 이미 처리된 결제면 0)
+	@Modifying
+	@Query(value = "UPDATE payments SET payment_status = 'FAILED', transaction_id = COALESCE(:transactionId, transaction_id), "
+			+ "updated_at = NOW() WHERE id = :id AND payment_status = 'PENDING'", nativeQuery = true)
+	int failPending(@Param("id") Long id, @Param("transactionId") String transactionId);
+
+	// 생성 후 오래 대기 중인 결제 ID (ID 오름차순, 키셋 페이징 - 대기 결제 정리용)
+	@Query("SELECT p.id FROM Payment p WHERE p.paymentStatus = 'PENDING' AND p.createdAt < :cutoff AND p.id > :afterId ORDER BY p.id")
+	List<Long> findPendingIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("afterId") Long afterId,
+			Pageable pageable);
+
+	// 커서 기반 결제 내역 조회 (생성일 내림차순, 키셋 페이징)
+	@Query("SELECT p FROM Payment p " +
+	       "WHERE (:status IS NULL OR p.paymentStatus = :status) " +
+	       "AND (:method IS NULL OR p.paymentMethod = :method) " +
+	       "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+	       "ORDER BY p.createdAt DESC, p.id DESC")
+	Slice<Payment> findSliceAfter(@Param("status") PaymentStatus status,
+	                              @Param("method") String method,
+	                              @Param("createdAt") LocalDateTime createdAt,
+	                              @Param("id") Long id,
+	                              Pageable pageable);
+
+	// 커서 기반 결제 내역의 전체 건수 조회
+	@Query("SELECT COUNT(p) FROM Payment p " +
+	       "WHERE (:status IS NULL OR p.paymentStatus = :status) " +
+	       "AND (:method IS NULL OR p.paymentMethod = :method)")
+	long countByFilter(@Param("status") PaymentStatus status, @Param("method") String method);
 }
@@ -0,0 +1,17 @@
+package com.moviesite.mysite.repository;
+
+import com.moviesite.mysite.model.entity.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+
+    // 적용 순서대로 활성 규칙 조회
+    List<PricingRule> findByActiveTrueOrderByPriorityAscIdAsc();
+
+    // 관리자 목록 조회 (적용 순서)
+    List<PricingRule> findAllByOrderByPriorityAscIdAsc();
+}
@@ -2,8 +2,11 @@ package com.moviesite.mysite.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,12 +15,15 @@ import com.moviesite.mysite.model.entity.Reservation;
 import com.moviesite.mysite.model.entity.Reservation.ReservationStatus;
 import com.moviesite.mysite.model.entity.User;
 
+import jakarta.persistence.LockModeType;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, JpaSpecificationExecutor<Reservation> {
 
 	// 특정 사용자의 예매 내역 조회
     List<Reservation> findByUserIdOrderByReservationTimeDesc(Long userId);
@@ -99,4 +105,30 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 	Page<Reservation> findAll(Specification<Reservation> spec, Pageable pageable);
 
 	long countByStatus(ReservationStatus confirmed);
+
+	// 커서 기반 사용자 예매 내역 조회 (예매 시간 내림차순, 키셋 페이징)
+	@Query("SELECT r FROM Reservation r " +
+	       "WHERE r.user = :user " +
+	       "AND (r.reservationTime < :reservationTime OR (r.reservationTime = :reservationTime AND r.id < :id)) " +
+	       "ORDER BY r.reservationTime DESC, r.id DESC")
+	Slice<Reservation> findSliceByUserAfter(@Param("user") User user,
+	                                        @Param("reservationTime") LocalDateTime reservationTime,
+	                                        @Param("id") Long id,
+	                                        Pageable pageable);
+
+	long countByUser(User user);
+
+	// 예매 조회 후 행 잠금 (같은 예매의 결제 요청이 동시에 들어와도 하나씩 처리)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT r FROM Reservation r WHERE r.id = :id")
+	Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+
+	// 취소되지 않은 예매의 (사용자 ID, 영화 ID) 쌍 조회 (유사 영화 계산용)
+	@Query("SELECT DISTINCT r.user.id, r.schedule.movie.id FROM Reservation r WHERE r.status <> 'CANCELED'")
+	List<Object[]> findUserMoviePairs();
+
+	// 특정 사용자의 취소되지 않은 예매의 (영화 ID, 극장 ID) 조회 (추천 프로필용)
+	@Query("SELECT r.schedule.movie.id, r.schedule.screen.theater.id FROM Reservation r " +
+	       "WHERE r.user.id = :userId AND r.status <> 'CANCELED'")
+	List<Object[]> findMovieTheaterPairsByUserId(@Param("userId") Long userId);
 }
@@ -1,6 +1,7 @@
 package com.moviesite.mysite.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import com.moviesite.mysite.model.entity.ReviewLike;
 import com.moviesite.mysite.model.entity.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +38,10 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     // 특정 사용자가 좋아요한 여러 리뷰 조회
     List<ReviewLike> findByUserIdAndReviewIdIn(Long userId, List<Long> reviewIds);
     
+    // 주어진 리뷰 중 특정 사용자가 좋아요한 리뷰 ID 조회 (목록 페이지 단위 일괄 확인)
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id IN :reviewIds")
+    List<Long> findLikedReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
+    
     // 특정 리뷰의 좋아요 삭제
     void deleteByReviewId(Long reviewId);
     
@@ -43,4 +49,14 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     void deleteByUserIdAndReviewId(Long userId, Long reviewId);
 
 	List<ReviewLike> findByUser(User currentUser);
+
+    // 좋아요 추가 (이미 있으면 무시, 추가된 경우 1 반환 - unique_user_review 키 기준)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_likes (user_id, review_id, created_at) VALUES (:userId, :reviewId, NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+
+    // 좋아요 삭제 (삭제된 경우 1 반환)
+    @Modifying
+    @Query("DELETE FROM ReviewLike rl WHERE rl.user.id = :userId AND rl.review.id = :reviewId")
+    int deleteLike(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
 }
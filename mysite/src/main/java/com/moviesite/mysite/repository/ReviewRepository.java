@@ -2,6 +2,8 @@ package com.moviesite.mysite.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,12 +15,16 @@ import com.moviesite.mysite.model.entity.Review.ReviewStatus;
 import com.moviesite.mysite.model.entity.User;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
 	 // 특정 영화의 모든 리뷰 조회 (페이징 처리)
+    @EntityGraph(attributePaths = {"user", "movie"})
     Page<Review> findByMovieIdAndStatusOrderByCreatedAtDesc(Long movieId, Review.ReviewStatus status, Pageable pageable);
     
     // 특정 영화의 모든 활성 리뷰 조회
@@ -27,10 +33,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // 특정 영화의 리뷰 수 조회
     Long countByMovieId(Long movieId);
     
-    // 특정 영화의 평균 평점 조회
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.movie.id = :movieId AND r.status = 'ACTIVE'")
-    Double findAverageRatingByMovieId(@Param("movieId") Long movieId);
-    
     // 특정 영화의 좋아요 순으로 정렬된 상위 리뷰 조회
     List<Review> findTop5ByMovieIdOrderByLikesDesc(Long movieId);
     
@@ -66,10 +68,68 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
 	List<Review> findTop10ByStatusOrderByLikesDesc(ReviewStatus active);
 
+	@EntityGraph(attributePaths = {"user", "movie"})
 	Page<Review> findByMovieIdAndSpoilerFalseAndStatusOrderByCreatedAtDesc(Long movieId, ReviewStatus active,
 			Pageable pageable);
 
+	@EntityGraph(attributePaths = {"user", "movie"})
 	Page<Review> findByUserAndStatusOrderByCreatedAtDesc(User user, ReviewStatus active, Pageable pageable);
 
 	boolean existsByUserAndMovieAndStatusNot(User currentUser, Movie movie, ReviewStatus deleted);
+
+	// 커서 기반 영화 리뷰 조회 (작성일 내림차순, 키셋 페이징)
+	@Query("SELECT r FROM Review r " +
+	       "WHERE r.movie.id = :movieId AND r.status = :status " +
+	       "AND (:excludeSpoiler = false OR r.spoiler = false) " +
+	       "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+	       "ORDER BY r.createdAt DESC, r.id DESC")
+	@EntityGraph(attributePaths = {"user", "movie"})
+	Slice<Review> findSliceByMovieIdAfter(@Param("movieId") Long movieId,
+	                                      @Param("status") ReviewStatus status,
+	                                      @Param("excludeSpoiler") boolean excludeSpoiler,
+	                                      @Param("createdAt") LocalDateTime createdAt,
+	                                      @Param("id") Long id,
+	                                      Pageable pageable);
+
+	// 커서 기반 영화 리뷰의 전체 건수 조회
+	@Query("SELECT COUNT(r) FROM Review r " +
+	       "WHERE r.movie.id = :movieId AND r.status = :status " +
+	       "AND (:excludeSpoiler = false OR r.spoiler = false)")
+	long countByMovieIdAndFilter(@Param("movieId") Long movieId,
+	                             @Param("status") ReviewStatus status,
+	                             @Param("excludeSpoiler") boolean excludeSpoiler);
+
+	// 특정 사용자의 활성 리뷰 (영화 ID, 평점) 조회 (추천 프로필용)
+	@Query("SELECT r.movie.id, r.rating FROM Review r WHERE r.user.id = :userId AND r.status = 'ACTIVE'")
+	List<Object[]> findActiveMovieRatingsByUserId(@Param("userId") Long userId);
+
+	// 리뷰의 저장된 좋아요 수 조회 (리뷰 존재 여부 확인 겸용)
+	@Query("SELECT r.likes FROM Review r WHERE r.id = :reviewId")
+	Optional<Integer> findLikesById(@Param("reviewId") Long reviewId);
+
+	// 인기 리뷰 후보 조회 (ID, 영화 ID, 좋아요 수, 작성일 - 최근 작성 순)
+	@Query("SELECT r.id, r.movie.id, r.likes, r.createdAt FROM Review r " +
+	       "WHERE r.status = :status AND r.createdAt >= :since ORDER BY r.createdAt DESC")
+	List<Object[]> findHotCandidates(@Param("status") ReviewStatus status,
+	                                 @Param("since") LocalDateTime since,
+	                                 Pageable pageable);
+
+	// 지정한 리뷰의 인기 점수 계산용 값 조회 (ID, 영화 ID, 좋아요 수, 작성일)
+	@Query("SELECT r.id, r.movie.id, r.likes, r.createdAt FROM Review r WHERE r.status = :status AND r.id IN :ids")
+	List<Object[]> findHotCandidatesByIds(@Param("status") ReviewStatus status, @Param("ids") Collection<Long> ids);
+
+	// 여러 리뷰를 작성자/영화와 함께 조회
+	@EntityGraph(attributePaths = {"user", "movie"})
+	List<Review> findByIdInAndStatus(Collection<Long> ids, ReviewStatus status);
+
+	// 검색 색인용 활성 리뷰 조회 (ID, 영화 ID, 본문, 좋아요 수, 작성일 - ID 순 키셋 페이징)
+	@Query("SELECT r.id, r.movie.id, r.content, r.likes, r.createdAt FROM Review r " +
+	       "WHERE r.status = :status AND r.id > :afterId ORDER BY r.id")
+	List<Object[]> findSearchRowsAfter(@Param("status") ReviewStatus status,
+	                                   @Param("afterId") Long afterId,
+	                                   Pageable pageable);
+
+	// 지정한 리뷰의 검색 색인용 값 조회 (ID, 영화 ID, 본문, 좋아요 수, 작성일)
+	@Query("SELECT r.id, r.movie.id, r.content, r.likes, r.createdAt FROM Review r WHERE r.status = :status AND r.id IN :ids")
+	List<Object[]> findSearchRowsByIds(@Param("status") ReviewStatus status, @Param("ids") Collection<Long> ids);
 }
@@ -2,20 +2,23 @@ package com.moviesite.mysite.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.moviesite.mysite.model.entity.Movie;
 import com.moviesite.mysite.model.entity.Schedule;
 import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleRepositoryCustom {
 
 	// 특정 영화의 상영 일정 조회
 	List<Schedule> findByMovieId(Long movieId);
@@ -24,20 +27,38 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 	List<Schedule> findByScreenId(Long screenId);
 
 	// 특정 영화의 특정 날짜 상영 일정 조회
-	@Query("SELECT s FROM Schedule s WHERE s.movie.id = :movieId AND DATE(s.startTime) = :date ORDER BY s.startTime")
-	List<Schedule> findByMovieIdAndDate(@Param("movieId") Long movieId, @Param("date") LocalDate date);
+	default List<Schedule> findByMovieIdAndDate(Long movieId, LocalDate date) {
+		return findByMovieIdAndStartTimeRange(movieId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+	}
+
+	// 특정 영화의 시간 구간 [from, to) 상영 일정 조회 (movie_id, start_time 인덱스 사용)
+	@Query("SELECT s FROM Schedule s WHERE s.movie.id = :movieId AND s.startTime >= :from AND s.startTime < :to ORDER BY s.startTime")
+	List<Schedule> findByMovieIdAndStartTimeRange(@Param("movieId") Long movieId, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
 
 	// 특정 극장의 상영 일정 조회 (스크린이 속한 극장 기준)
 	@Query("SELECT s FROM Schedule s JOIN s.screen scr WHERE scr.theater.id = :theaterId ORDER BY s.startTime")
 	List<Schedule> findByTheaterId(@Param("theaterId") Long theaterId);
 
 	// 특정 극장의 특정 날짜 상영 일정 조회
-	@Query("SELECT s FROM Schedule s JOIN s.screen scr WHERE scr.theater.id = :theaterId AND DATE(s.startTime) = :date ORDER BY s.startTime")
-	List<Schedule> findByTheaterIdAndDate(@Param("theaterId") Long theaterId, @Param("date") LocalDate date);
+	default List<Schedule> findByTheaterIdAndDate(Long theaterId, LocalDate date) {
+		return findByTheaterIdAndStartTimeRange(theaterId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+	}
+
+	// 특정 극장의 시간 구간 [from, to) 상영 일정 조회 (영화, 상영관 함께 조회, screen_id, start_time 인덱스 사용)
+	@Query("SELECT s FROM Schedule s JOIN FETCH s.movie JOIN FETCH s.screen scr WHERE scr.theater.id = :theaterId "
+			+ "AND s.startTime >= :from AND s.startTime < :to ORDER BY s.startTime")
+	List<Schedule> findByTheaterIdAndStartTimeRange(@Param("theaterId") Long theaterId,
+			@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
 	// 특정 날짜의 모든 상영 일정 조회
-	@Query("SELECT s FROM Schedule s WHERE DATE(s.startTime) = :date ORDER BY s.startTime")
-	List<Schedule> findByDate(@Param("date") LocalDate date);
+	default List<Schedule> findByDate(LocalDate date) {
+		return findByStartTimeRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+	}
+
+	// 시간 구간 [from, to)의 모든 상영 일정 조회
+	@Query("SELECT s FROM Schedule s WHERE s.startTime >= :from AND s.startTime < :to ORDER BY s.startTime")
+	List<Schedule> findByStartTimeRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
 	// 예매 가능한 상영 일정 조회
 	List<Schedule> findByStartTimeAfterAndStatus(LocalDateTime now, Schedule.ScheduleStatus status);
@@ -65,12 +86,24 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 	List<Schedule> findNowPlayingMovies();
 
 	// 특정 날짜에 상영하는 영화 목록 조회
-	@Query("SELECT DISTINCT s.movie FROM Schedule s WHERE DATE(s.startTime) = :date")
-	List<Schedule> findMoviesByDate(@Param("date") LocalDate date);
+	default List<Movie> findMoviesByDate(LocalDate date) {
+		return findMoviesByStartTimeRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+	}
+
+	// 시간 구간 [from, to)에 상영하는 영화 목록 조회
+	@Query("SELECT DISTINCT s.movie FROM Schedule s WHERE s.startTime >= :from AND s.startTime < :to")
+	List<Movie> findMoviesByStartTimeRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
 	// 특정 날짜, 특정 극장에서 상영하는 영화 목록 조회
-	@Query("SELECT DISTINCT s.movie FROM Schedule s JOIN s.screen scr WHERE scr.theater.id = :theaterId AND DATE(s.startTime) = :date")
-	List<Schedule> findMoviesByTheaterIdAndDate(@Param("theaterId") Long theaterId, @Param("date") LocalDate date);
+	default List<Movie> findMoviesByTheaterIdAndDate(Long theaterId, LocalDate date) {
+		return findMoviesByTheaterIdAndStartTimeRange(theaterId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+	}
+
+	// 시간 구간 [from, to)에 특정 극장에서 상영하는 영화 목록 조회
+	@Query("SELECT DISTINCT s.movie FROM Schedule s JOIN s.screen scr WHERE scr.theater.id = :theaterId "
+			+ "AND s.startTime >= :from AND s.startTime < :to")
+	List<Movie> findMoviesByTheaterIdAndStartTimeRange(@Param("theaterId") Long theaterId,
+			@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
 	// 특정 상영관의 향후 상영 일정 조회
 	List<Schedule> findByScreenIdAndStartTimeAfterOrderByStartTime(Long screenId, LocalDateTime startTime);
@@ -81,5 +114,56 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
 	List<Schedule> findByMovieIdAndStartTimeBetween(Long movie, LocalDateTime startTime, LocalDateTime endTime);
 
-
+	// 예매 가능한 상영 일정이 있는 (영화 ID, 극장 ID) 쌍 조회 (추천 후보용, 시작된 일정은 CLOSED로 전환되므로 상태만 비교)
+	@Query("SELECT DISTINCT s.movie.id, s.screen.theater.id FROM Schedule s WHERE s.status = :status")
+	List<Object[]> findBookableMovieTheaterPairs(@Param("status") ScheduleStatus status);
+
+	// 기간 내 특정 상태의 상영 슬롯 정보 조회 (상영 일정 메모리 인덱스용)
+	@Query("SELECT s.id, s.movie.id, s.screen.theater.id, s.screen.id, s.startTime, s.endTime, s.price, s.availableSeats, s.status "
+			+ "FROM Schedule s WHERE s.status = :status AND s.startTime > :from AND s.startTime < :to")
+	List<Object[]> findSlotRows(@Param("status") ScheduleStatus status, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
+
+	// 특정 상영 일정들의 슬롯 정보 조회 (상영 일정 메모리 인덱스 증분 갱신용)
+	@Query("SELECT s.id, s.movie.id, s.screen.theater.id, s.screen.id, s.startTime, s.endTime, s.price, s.availableSeats, s.status "
+			+ "FROM Schedule s WHERE s.id IN :ids")
+	List<Object[]> findSlotRowsByIds(@Param("ids") Collection<Long> ids);
+
+	// 상영관 점유 구간 조회 (상영 시간 중복 검사 인덱스 구성용)
+	@Query("SELECT s.id, s.screen.id, s.startTime, s.endTime FROM Schedule s WHERE s.status <> :excluded AND s.endTime > :from")
+	List<Object[]> findOccupancyRows(@Param("excluded") ScheduleStatus excluded, @Param("from") LocalDateTime from);
+
+	// 특정 상영관들의 기간 내 점유 구간 조회 (일괄 편성 시 기존 일정 회피 및 생성 ID 확인용)
+	@Query("SELECT s.id, s.screen.id, s.startTime, s.endTime FROM Schedule s WHERE s.screen.id IN :screenIds "
+			+ "AND s.status <> :excluded AND s.startTime < :to AND s.endTime > :from")
+	List<Object[]> findOccupancyRowsByScreens(@Param("screenIds") Collection<Long> screenIds,
+			@Param("excluded") ScheduleStatus excluded, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
+
+	// 기간 내 특정 상태 상영 일정의 시작 시간 조회 (상태 전환 예약용)
+	@Query("SELECT s.id, s.startTime FROM Schedule s WHERE s.status = :status AND s.startTime > :from AND s.startTime <= :to")
+	List<Object[]> findStartTimes(@Param("status") ScheduleStatus status, @Param("from") LocalDateTime from,
+			@Param("to") LocalDateTime to);
+
+	// 특정 상영 일정들의 상태와 시작 시간 조회 (상태 전환 예약 갱신용)
+	@Query("SELECT s.id, s.status, s.startTime FROM Schedule s WHERE s.id IN :ids")
+	List<Object[]> findStartTimesByIds(@Param("ids") Collection<Long> ids);
+
+	// 시작 시간이 지났는데 아직 특정 상태인 상영 일정 ID 조회 (누락된 상태 전환 보정용)
+	@Query("SELECT s.id FROM Schedule s WHERE s.status = :status AND s.startTime <= :now")
+	List<Long> findIdsStartedBefore(@Param("status") ScheduleStatus status, @Param("now") LocalDateTime now);
+
+	// 상영 일정별 극장 ID와 시작 시간 조회 (변경 이벤트 발행용)
+	@Query("SELECT s.id, s.screen.theater.id, s.startTime FROM Schedule s WHERE s.id IN :ids")
+	List<Object[]> findTheaterAndStartTimeByIds(@Param("ids") Collection<Long> ids);
+
+	// 시작된 상영 일정 일괄 상태 전환 (다른 상태로 바뀌었거나 시작 시간이 미뤄진 일정은 제외)
+	@Modifying
+	@Query("UPDATE Schedule s SET s.status = :to, s.updatedAt = :now WHERE s.id IN :ids AND s.status = :from AND s.startTime <= :now")
+	int updateStatusOfStarted(@Param("ids") Collection<Long> ids, @Param("from") ScheduleStatus from,
+			@Param("to") ScheduleStatus to, @Param("now") LocalDateTime now);
+
+	// 상영 일정의 영화 ID, 극장 ID (일정이 없으면 빈 목록)
+	@Query("SELECT s.movie.id, scr.theater.id FROM Schedule s JOIN s.screen scr WHERE s.id = :scheduleId")
+	List<Object[]> findMovieAndTheaterIdsById(@Param("scheduleId") Long scheduleId);
 }
@@ -0,0 +1,29 @@
+package com.moviesite.mysite.repository;
+
+import com.moviesite.mysite.model.dto.request.ShowtimeSearchRequest;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+
+// 상영 일정 동적 조회 (Criteria API 기반 사용자 정의 조회)
+public interface ScheduleRepositoryCustom {
+
+	// 상영 시간 검색 결과 컬럼 별칭
+	String SCHEDULE_ID = "scheduleId";
+	String MOVIE_ID = "movieId";
+	String MOVIE_TITLE = "movieTitle";
+	String MOVIE_POSTER_URL = "moviePosterUrl";
+	String AGE_RATING = "ageRating";
+	String THEATER_ID = "theaterId";
+	String THEATER_NAME = "theaterName";
+	String SCREEN_ID = "screenId";
+	String SCREEN_NAME = "screenName";
+	String SCREEN_TYPE = "screenType";
+	String START_TIME = "startTime";
+	String END_TIME = "endTime";
+	String PRICE = "price";
+	String AVAILABLE_SEATS = "availableSeats";
+
+	// 정규화된 검색 조건으로 예매 가능한 상영 일정 조회 (필요한 컬럼만 한 번의 쿼리로 조회, 시작 시간 순)
+	List<Tuple> searchShowtimes(ShowtimeSearchRequest filter, int limit);
+}
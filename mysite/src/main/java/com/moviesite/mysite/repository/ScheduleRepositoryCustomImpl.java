@@ -0,0 +1,102 @@
+package com.moviesite.mysite.repository;
+
+import com.moviesite.mysite.model.dto.request.ShowtimeSearchRequest;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.model.entity.Schedule;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.model.entity.Screen;
+import com.moviesite.mysite.model.entity.Theater;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ScheduleRepositoryCustomImpl implements ScheduleRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<Tuple> searchShowtimes(ShowtimeSearchRequest filter, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Schedule> schedule = query.from(Schedule.class);
+		Join<Schedule, Movie> movie = schedule.join("movie");
+		Join<Schedule, Screen> screen = schedule.join("screen");
+		Join<Screen, Theater> theater = screen.join("theater");
+		Path<LocalDateTime> startTime = schedule.get("startTime");
+
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(cb.equal(schedule.get("status"), ScheduleStatus.OPEN));
+		predicates.add(startTimeRanges(cb, startTime, filter));
+
+		if (filter.getMovieIds() != null) {
+			predicates.add(movie.get("id").in(filter.getMovieIds()));
+		}
+		if (filter.getTheaterIds() != null) {
+			predicates.add(theater.get("id").in(filter.getTheaterIds()));
+		}
+		if (filter.getScreenTypes() != null) {
+			predicates.add(cb.upper(screen.get("type")).in(filter.getScreenTypes()));
+		}
+		if (filter.getMinAvailableSeats() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(schedule.get("availableSeats"), filter.getMinAvailableSeats()));
+		} else {
+			predicates.add(cb.greaterThan(schedule.get("availableSeats"), 0));
+		}
+		if (filter.getMinPrice() != null) {
+			predicates.add(cb.greaterThanOrEqualTo(schedule.get("price"), filter.getMinPrice()));
+		}
+		if (filter.getMaxPrice() != null) {
+			predicates.add(cb.lessThanOrEqualTo(schedule.get("price"), filter.getMaxPrice()));
+		}
+
+		query.multiselect(
+				schedule.get("id").alias(SCHEDULE_ID),
+				movie.get("id").alias(MOVIE_ID),
+				movie.get("title").alias(MOVIE_TITLE),
+				movie.get("posterUrl").alias(MOVIE_POSTER_URL),
+				movie.get("ageRating").alias(AGE_RATING),
+				theater.get("id").alias(THEATER_ID),
+				theater.get("name").alias(THEATER_NAME),
+				screen.get("id").alias(SCREEN_ID),
+				screen.get("name").alias(SCREEN_NAME),
+				screen.get("type").alias(SCREEN_TYPE),
+				startTime.alias(START_TIME),
+				schedule.get("endTime").alias(END_TIME),
+				schedule.get("price").alias(PRICE),
+				schedule.get("availableSeats").alias(AVAILABLE_SEATS))
+				.where(predicates.toArray(new Predicate[0]))
+				.orderBy(cb.asc(startTime), cb.asc(schedule.get("id")));
+
+		return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+	}
+
+	// 시작 시간 조건을 날짜별 구간 [from, to)의 OR로 구성 (TIME() 함수 없이 start_time 인덱스 범위 탐색 가능)
+	private Predicate startTimeRanges(CriteriaBuilder cb, Path<LocalDateTime> startTime, ShowtimeSearchRequest filter) {
+		if (filter.getStartTimeFrom() == null && filter.getStartTimeTo() == null) {
+			return cb.and(cb.greaterThanOrEqualTo(startTime, filter.getFromDate().atStartOfDay()),
+					cb.lessThan(startTime, filter.getToDate().plusDays(1).atStartOfDay()));
+		}
+
+		List<Predicate> ranges = new ArrayList<>();
+		for (LocalDate date = filter.getFromDate(); !date.isAfter(filter.getToDate()); date = date.plusDays(1)) {
+			LocalDateTime from = filter.getStartTimeFrom() != null ? date.atTime(filter.getStartTimeFrom())
+					: date.atStartOfDay();
+			LocalDateTime to = filter.getStartTimeTo() != null ? date.atTime(filter.getStartTimeTo())
+					: date.plusDays(1).atStartOfDay();
+			ranges.add(cb.and(cb.greaterThanOrEqualTo(startTime, from), cb.lessThan(startTime, to)));
+		}
+		return cb.or(ranges.toArray(new Predicate[0]));
+	}
+}
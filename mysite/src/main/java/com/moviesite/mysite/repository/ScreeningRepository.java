@@ -3,6 +3,7 @@ package com.moviesite.mysite.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +14,7 @@ import com.moviesite.mysite.model.entity.Screening;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,6 +24,14 @@ public interface ScreeningRepository extends JpaRepository<Screening, Long> {
     List<Screening> findByMovieIdAndStatusAndScreeningDateAfterOrderByScreeningDateAscScreeningTimeAsc(
             Long movieId, Screening.ScreeningStatus status, LocalDate currentDate);
 
+    // 특정 영화의 특정 상태 상영 정보 조회 (종료된 상영은 COMPLETED로 전환되므로 상태만 비교)
+    List<Screening> findByMovieIdAndStatusOrderByScreeningDateAscScreeningTimeAsc(
+            Long movieId, Screening.ScreeningStatus status);
+
+    // 특정 상영관의 특정 상태 상영 정보 조회 (종료된 상영은 COMPLETED로 전환되므로 상태만 비교)
+    List<Screening> findByScreenIdAndStatusOrderByScreeningDateAscScreeningTimeAsc(
+            Long screenId, Screening.ScreeningStatus status);
+
     // 특정 상영관의 상영 정보 조회 (현재 날짜 이후)
     List<Screening> findByScreenIdAndStatusAndScreeningDateAfterOrderByScreeningDateAscScreeningTimeAsc(
             Long screenId, Screening.ScreeningStatus status, LocalDate currentDate);
@@ -39,30 +49,6 @@ public interface ScreeningRepository extends JpaRepository<Screening, Long> {
     List<Screening> findByScheduleIdAndStatusOrderByScreeningDateAscScreeningTimeAsc(
             Long scheduleId, Screening.ScreeningStatus status);
 
-    // 중복 상영 시간 확인 (같은 상영관, 같은 날짜, 시간 겹침)
-    @Query("SELECT s FROM Screening s WHERE s.screen.id = :screenId " +
-            "AND s.screeningDate = :date " +
-            "AND ((s.screeningTime <= :endTime AND s.endTime >= :startTime) " +
-            "OR (s.screeningTime >= :startTime AND s.screeningTime <= :endTime))")
-    List<Screening> findOverlappingScreenings(
-            @Param("screenId") Long screenId,
-            @Param("date") LocalDate date,
-            @Param("startTime") LocalTime startTime,
-            @Param("endTime") LocalTime endTime);
-
-    // 중복 상영 시간 확인 (특정 상영 제외)
-    @Query("SELECT s FROM Screening s WHERE s.screen.id = :screenId " +
-            "AND s.screeningDate = :date " +
-            "AND ((s.screeningTime <= :endTime AND s.endTime >= :startTime) " +
-            "OR (s.screeningTime >= :startTime AND s.screeningTime <= :endTime)) " +
-            "AND s.id != :excludeId")
-    List<Screening> findOverlappingScreeningsExcluding(
-            @Param("screenId") Long screenId,
-            @Param("date") LocalDate date,
-            @Param("startTime") LocalTime startTime,
-            @Param("endTime") LocalTime endTime,
-            @Param("excludeId") Long excludeId);
-
     // 특정 극장의 특정 날짜 범위 내 상영 정보 조회
     List<Screening> findByScreenTheaterIdAndStatusAndScreeningDateBetweenOrderByScreeningDateAscScreeningTimeAsc(
             Long theaterId, Screening.ScreeningStatus status, LocalDate startDate, LocalDate endDate);
@@ -82,4 +68,55 @@ public interface ScreeningRepository extends JpaRepository<Screening, Long> {
     // 좌석 가용 수 업데이트를 위한 특정 상영 정보 조회
     @Query("SELECT s FROM Screening s WHERE s.id = :id")
     Screening findScreeningForUpdate(@Param("id") Long id);
+
+    // 상영관 점유 구간 조회 (상영 시간 중복 검사 인덱스 구성용)
+    @Query("SELECT s.id, s.screen.id, s.screeningDate, s.screeningTime, s.endTime FROM Screening s " +
+            "WHERE s.status <> :excluded AND s.screeningDate >= :fromDate")
+    List<Object[]> findOccupancyRows(
+            @Param("excluded") Screening.ScreeningStatus excluded,
+            @Param("fromDate") LocalDate fromDate);
+
+    // 상영 일정별 상영 정보 ID 조회 (일괄 편성 후 점유 구간 등록용)
+    // 특정 상영관들의 기간 내 상영 정보 점유 구간 조회 (일괄 편성 시 기존 상영 회피용)
+    @Query("SELECT s.screen.id, s.screeningDate, s.screeningTime, s.endTime FROM Screening s " +
+            "WHERE s.screen.id IN :screenIds AND s.status <> :excluded " +
+            "AND s.screeningDate >= :fromDate AND s.screeningDate <= :toDate")
+    List<Object[]> findOccupancyRowsByScreens(
+            @Param("screenIds") Collection<Long> screenIds,
+            @Param("excluded") Screening.ScreeningStatus excluded,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    @Query("SELECT s.id, s.schedule.id FROM Screening s WHERE s.schedule.id IN :scheduleIds")
+    List<Object[]> findIdsByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 기간 내 특정 상태 상영 정보의 날짜, 시작 시간, 종료 시간 조회 (상태 전환 예약용)
+    @Query("SELECT s.id, s.screeningDate, s.screeningTime, s.endTime FROM Screening s " +
+            "WHERE s.status = :status AND s.screeningDate >= :fromDate AND s.screeningDate <= :toDate")
+    List<Object[]> findEndTimes(
+            @Param("status") Screening.ScreeningStatus status,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    // 종료 시간이 지났는데 아직 특정 상태인 상영 정보 ID 조회 (누락된 상태 전환 보정용)
+    // 종료 시간이 시작 시간보다 이르면 자정을 넘겨 다음 날 끝나는 상영
+    @Query("SELECT s.id FROM Screening s WHERE s.status = :status AND (" +
+            "(s.endTime >= s.screeningTime AND (s.screeningDate < :today " +
+            "OR (s.screeningDate = :today AND s.endTime <= :time))) " +
+            "OR (s.endTime < s.screeningTime AND (s.screeningDate < :yesterday " +
+            "OR (s.screeningDate = :yesterday AND s.endTime <= :time))))")
+    List<Long> findIdsEndedBefore(
+            @Param("status") Screening.ScreeningStatus status,
+            @Param("today") LocalDate today,
+            @Param("yesterday") LocalDate yesterday,
+            @Param("time") LocalTime time);
+
+    // 상영 정보 일괄 상태 전환 (이미 다른 상태로 바뀐 상영은 제외)
+    @Modifying
+    @Query("UPDATE Screening s SET s.status = :to, s.updatedAt = :now WHERE s.id IN :ids AND s.status = :from")
+    int updateStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") Screening.ScreeningStatus from,
+            @Param("to") Screening.ScreeningStatus to,
+            @Param("now") LocalDateTime now);
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -35,4 +36,8 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 
     // 좌석 ID 목록으로 좌석 조회
     List<Seat> findByIdIn(List<Long> seatIds);
-}
\ No newline at end of file
+
+    // 상영관별 활성 좌석 수 조회 (상영 일정 좌석 재고 생성용)
+    @Query("SELECT s.screen.id, COUNT(s) FROM Seat s WHERE s.screen.id IN :screenIds AND s.isActive = true GROUP BY s.screen.id")
+    List<Object[]> countActiveSeatsByScreenIds(@Param("screenIds") Collection<Long> screenIds);
+}
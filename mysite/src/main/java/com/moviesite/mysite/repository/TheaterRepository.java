@@ -53,4 +53,7 @@ public interface TheaterRepository extends JpaRepository<Theater, Long> {
 	Page<Theater> findByNameContaining(String name, Pageable pageable);
 
 	Page<Theater> findByLocationContaining(String location, Pageable pageable);
+
+	// 좌표가 등록된 극장 목록 조회 (공간 인덱스 구성용)
+	List<Theater> findByLatitudeIsNotNullAndLongitudeIsNotNull();
 }
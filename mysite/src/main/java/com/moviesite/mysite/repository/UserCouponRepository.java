@@ -4,6 +4,7 @@ import com.moviesite.mysite.model.entity.Coupon;
 import com.moviesite.mysite.model.entity.User;
 import com.moviesite.mysite.model.entity.UserCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,6 +38,11 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
 	List<UserCoupon> findByUserAndUsedFalseAndExpiredFalse(User currentUser);
 
+	// 사용하지 않은 사용자 쿠폰을 쿠폰, 대상 영화/극장과 함께 조회 (등록 순)
+	@Query("SELECT uc FROM UserCoupon uc JOIN FETCH uc.coupon c LEFT JOIN FETCH c.targetMovie LEFT JOIN FETCH c.targetTheater "
+			+ "WHERE uc.user.id = :userId AND uc.used = false AND uc.expired = false ORDER BY uc.id")
+	List<UserCoupon> findAvailableWithCouponByUserId(@Param("userId") Long userId);
+
 	void deleteByCouponId(Long id);
 
 	boolean existsByUserAndCoupon(User currentUser, Coupon coupon);
@@ -44,4 +50,20 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 	long countByUserAndCoupon(User currentUser, Coupon coupon);
 
 	long countByCoupon(Coupon coupon);
-}
\ No newline at end of file
+
+	// 사용자 쿠폰 발급 (이미 있으면 무시, 발급된 경우 1 반환 - unique_user_coupon 키 기준)
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO user_coupons (user_id, coupon_id, issue_date, expiry_date, used, expired, created_at, updated_at) "
+			+ "VALUES (:userId, :couponId, :issueDate, :expiryDate, false, false, NOW(), NOW())", nativeQuery = true)
+	int insertIgnore(@Param("userId") Long userId, @Param("couponId") Long couponId,
+			@Param("issueDate") LocalDateTime issueDate, @Param("expiryDate") LocalDateTime expiryDate);
+
+	@Query("SELECT uc.id FROM UserCoupon uc WHERE uc.user.id = :userId AND uc.coupon.id = :couponId")
+	Optional<Long> findIdByUserIdAndCouponId(@Param("userId") Long userId, @Param("couponId") Long couponId);
+
+	// 기준 시각 전에 만료된 미사용 쿠폰을 최대 limit개 만료 처리 (idx_user_coupons_expiry 인덱스 사용)
+	@Modifying
+	@Query(value = "UPDATE user_coupons SET expired = true, updated_at = NOW() "
+			+ "WHERE expired = false AND used = false AND expiry_date < :cutoff LIMIT :limit", nativeQuery = true)
+	int expireBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -20,6 +20,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	// 이메일로 사용자 조회
     Optional<User> findByEmail(String email);
+
+    // 이메일로 사용자 ID만 조회
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
     
     // 이름으로 사용자 조회
     List<User> findByName(String name);
@@ -0,0 +1,314 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.entity.Coupon.CouponStatus;
+import com.moviesite.mysite.model.entity.Coupon.CouponType;
+import com.moviesite.mysite.model.entity.Coupon.DiscountType;
+import com.moviesite.mysite.repository.CouponRepository;
+import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.repository.TheaterRepository;
+import com.moviesite.mysite.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// 쿠폰 대량 생성 (기존 코드 블룸 필터로 중복 확인, 묶음 단위 JDBC 배치 저장, 저장된 코드는 CSV로 바로 전송)
+// 코드 형식: 접두어-무작위 60비트(Crockford base32 12자리)
+@Service
+@RequiredArgsConstructor
+public class CouponBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponBatchService.class);
+
+    private static final String INSERT_COUPON_SQL = "INSERT INTO coupons (coupon_code, name, description, discount_type, "
+            + "discount_value, min_order_price, max_discount_amount, issue_date, expiry_date, usage_limit_per_user, "
+            + "total_usage_limit, issued, coupon_type, target_movie_id, target_theater_id, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, NOW(), NOW())";
+
+    // 혼동하기 쉬운 I, L, O, U를 뺀 32글자
+    private static final char[] CODE_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int RANDOM_CODE_LENGTH = 12;
+    private static final Pattern PREFIX_PATTERN = Pattern.compile("[A-Za-z0-9]{1,20}");
+    private static final MediaType CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    // 묶음 저장 중 코드 중복(동시에 생성된 쿠폰)으로 실패했을 때 새 코드로 다시 시도하는 횟수
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final CouponRepository couponRepository;
+    private final MovieRepository movieRepository;
+    private final TheaterRepository theaterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService virtualThreadExecutor;
+
+    private final SecureRandom random = new SecureRandom();
+
+    // 한 번에 생성할 수 있는 최대 쿠폰 수
+    @Value("${coupon.batch.max-count:5000000}")
+    private int maxCount;
+
+    // 한 트랜잭션/배치로 저장하는 쿠폰 수
+    @Value("${coupon.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    // 블룸 필터 오탐률 (오탐이면 코드를 다시 만들 뿐 결과에는 영향 없음)
+    @Value("${coupon.batch.bloom-false-positive-rate:0.001}")
+    private double bloomFalsePositiveRate;
+
+    // CSV 응답 제한 시간 (ms, 대량 생성 요청에만 적용)
+    @Value("${coupon.batch.response-timeout-ms:1800000}")
+    private long responseTimeoutMs;
+
+    // 검증을 마친 대량 생성 요청 (대상 영화/극장은 존재 확인 후 ID만 보관)
+    public record BatchPlan(int count, String prefix, String name, String description, DiscountType discountType,
+                            BigDecimal discountValue, BigDecimal minOrderPrice, BigDecimal maxDiscountAmount,
+                            LocalDateTime issueDate, LocalDateTime expiryDate, Integer usageLimitPerUser,
+                            Integer totalUsageLimit, CouponType couponType, Long targetMovieId, Long targetTheaterId,
+                            CouponStatus status) {
+
+        public String fileName() {
+            return "coupons-" + prefix + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) + ".csv";
+        }
+    }
+
+    // 요청 검증 (응답 전송 전에 호출해 잘못된 요청은 일반 오류 응답으로 처리)
+    @SuppressWarnings("unchecked")
+    public BatchPlan prepare(Map<String, Object> batchInfo) {
+        if (batchInfo.get("count") == null || !(batchInfo.get("couponTemplate") instanceof Map)) {
+            throw new BadRequestException("생성 수량과 쿠폰 템플릿은 필수 입력 항목입니다");
+        }
+        int count = parse(batchInfo, "count", Integer::valueOf, null);
+        if (count < 1 || count > maxCount) {
+            throw new BadRequestException("생성 수량은 1개 이상 " + maxCount + "개 이하로 입력해주세요");
+        }
+        String prefix = batchInfo.get("prefix") != null ? batchInfo.get("prefix").toString() : "";
+        if (!PREFIX_PATTERN.matcher(prefix).matches()) {
+            throw new BadRequestException("쿠폰 코드 접두어는 영문/숫자 1~20자로 입력해주세요");
+        }
+        Map<String, Object> template = (Map<String, Object>) batchInfo.get("couponTemplate");
+        for (String field : List.of("name", "discountType", "discountValue", "issueDate", "expiryDate")) {
+            if (template.get(field) == null) {
+                throw new BadRequestException("쿠폰 템플릿의 " + field + " 항목은 필수입니다");
+            }
+        }
+
+        // 대상 영화/극장은 한 번만 확인
+        Long targetMovieId = parse(template, "targetMovieId", Long::valueOf, null);
+        if (targetMovieId != null && !movieRepository.existsById(targetMovieId)) {
+            throw new ResourceNotFoundException("Movie not found with id: " + targetMovieId);
+        }
+        Long targetTheaterId = parse(template, "targetTheaterId", Long::valueOf, null);
+        if (targetTheaterId != null && !theaterRepository.existsById(targetTheaterId)) {
+            throw new ResourceNotFoundException("Theater not found with id: " + targetTheaterId);
+        }
+
+        BigDecimal discountValue = parse(template, "discountValue", BigDecimal::new, null);
+        if (discountValue.signum() <= 0) {
+            throw new BadRequestException("할인 값은 0보다 커야 합니다");
+        }
+        LocalDateTime issueDate = parse(template, "issueDate", LocalDateTime::parse, null);
+        LocalDateTime expiryDate = parse(template, "expiryDate", LocalDateTime::parse, null);
+        if (!expiryDate.isAfter(issueDate)) {
+            throw new BadRequestException("만료일은 발행일 이후여야 합니다");
+        }
+
+        // 쿠폰 저장 시 기본값과 동일하게 적용
+        return new BatchPlan(
+                count,
+                prefix.toUpperCase(),
+                template.get("name").toString(),
+                template.get("description") != null ? template.get("description").toString() : null,
+                parse(template, "discountType", DiscountType::valueOf, null),
+                discountValue,
+                parse(template, "minOrderPrice", BigDecimal::new, BigDecimal.ZERO),
+                parse(template, "maxDiscountAmount", BigDecimal::new, null),
+                issueDate,
+                expiryDate,
+                parse(template, "usageLimitPerUser", Integer::valueOf, 1),
+                parse(template, "totalUsageLimit", Integer::valueOf, null),
+                parse(template, "couponType", CouponType::valueOf, CouponType.GENERAL),
+                targetMovieId,
+                targetTheaterId,
+                parse(template, "status", CouponStatus::valueOf, CouponStatus.ACTIVE));
+    }
+
+    // 요청 항목 해석 (없으면 기본값, 형식이 잘못되면 잘못된 요청)
+    private static <T> T parse(Map<String, Object> values, String field, Function<String, T> parser, T defaultValue) {
+        Object value = values.get(field);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return parser.apply(value.toString().trim());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(field + " 항목의 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // CSV 전송 (이 요청에만 긴 응답 제한 시간 적용, 생성은 가상 스레드에서 진행)
+    public ResponseBodyEmitter stream(BatchPlan plan) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(responseTimeoutMs);
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+        virtualThreadExecutor.execute(() -> {
+            try {
+                generate(plan, new EmitterOutputStream(emitter, closed));
+                emitter.complete();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Coupon batch with prefix {} stopped: {}", plan.prefix(), e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+
+    // 쿠폰 생성 후 저장된 코드를 CSV로 출력 (묶음마다 커밋 후 출력하므로 중간에 실패해도 출력된 코드는 모두 저장된 코드)
+    public void generate(BatchPlan plan, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        BloomFilter knownCodes = loadExistingCodes(plan.count());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("coupon_code\n");
+
+        int generated = 0;
+        while (generated < plan.count()) {
+            int size = Math.min(chunkSize, plan.count() - generated);
+            List<String> chunk = saveChunk(plan, knownCodes, size);
+            for (String code : chunk) {
+                writer.write(code);
+                writer.write('\n');
+            }
+            writer.flush();
+            generated += chunk.size();
+        }
+        log.info("Coupon batch generated: {} codes with prefix {} in {} ms", generated, plan.prefix(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 기존 쿠폰 코드를 모두 읽어 블룸 필터 생성 (이번에 생성할 코드 수만큼 여유를 두고 크기 결정)
+    private BloomFilter loadExistingCodes(int additional) {
+        BloomFilter filter = new BloomFilter(couponRepository.count() + additional, bloomFalsePositiveRate);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT coupon_code FROM coupons");
+            statement.setFetchSize(chunkSize);
+            return statement;
+        }, (RowCallbackHandler) rs -> filter.put(rs.getString(1)));
+        return filter;
+    }
+
+    // 새 코드 size개를 한 트랜잭션으로 저장 (동시에 같은 코드가 생성된 경우 새 코드로 다시 시도)
+    private List<String> saveChunk(BatchPlan plan, BloomFilter knownCodes, int size) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            List<String> codes = new ArrayList<>(size);
+            while (codes.size() < size) {
+                String code = plan.prefix() + "-" + randomCode();
+                // 블룸 필터에 있다고 나오면 (기존 코드이거나 오탐) 새로 생성
+                if (knownCodes.put(code)) {
+                    codes.add(code);
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertCoupons(plan, codes));
+                return codes;
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Coupon batch chunk hit a duplicate code, retrying with new codes: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void insertCoupons(BatchPlan plan, List<String> codes) {
+        jdbcTemplate.batchUpdate(INSERT_COUPON_SQL, codes, codes.size(), (ps, code) -> {
+            ps.setString(1, code);
+            ps.setString(2, plan.name());
+            ps.setString(3, plan.description());
+            ps.setString(4, plan.discountType().name());
+            ps.setBigDecimal(5, plan.discountValue());
+            ps.setBigDecimal(6, plan.minOrderPrice());
+            ps.setBigDecimal(7, plan.maxDiscountAmount());
+            ps.setTimestamp(8, Timestamp.valueOf(plan.issueDate()));
+            ps.setTimestamp(9, Timestamp.valueOf(plan.expiryDate()));
+            ps.setObject(10, plan.usageLimitPerUser(), Types.INTEGER);
+            ps.setObject(11, plan.totalUsageLimit(), Types.INTEGER);
+            ps.setString(12, plan.couponType().name());
+            ps.setObject(13, plan.targetMovieId(), Types.BIGINT);
+            ps.setObject(14, plan.targetTheaterId(), Types.BIGINT);
+            ps.setString(15, plan.status().name());
+        });
+    }
+
+    // 무작위 60비트를 base32 12자리로 변환
+    private String randomCode() {
+        long bits = random.nextLong();
+        char[] code = new char[RANDOM_CODE_LENGTH];
+        for (int i = RANDOM_CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CODE_ALPHABET[(int) (bits & 31)];
+            bits >>>= 5;
+        }
+        return new String(code);
+    }
+
+    // 생성 중인 CSV를 응답으로 전달하는 스트림 (응답이 시간 초과/오류로 끝나면 생성도 중단)
+    private static final class EmitterOutputStream extends OutputStream {
+        private final ResponseBodyEmitter emitter;
+        private final AtomicBoolean closed;
+
+        EmitterOutputStream(ResponseBodyEmitter emitter, AtomicBoolean closed) {
+            this.emitter = emitter;
+            this.closed = closed;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (closed.get()) {
+                throw new IOException("Coupon batch response closed");
+            }
+            try {
+                emitter.send(Arrays.copyOfRange(b, off, off + len), CSV);
+            } catch (IllegalStateException e) {
+                throw new IOException("Coupon batch response closed", e);
+            }
+        }
+    }
+}
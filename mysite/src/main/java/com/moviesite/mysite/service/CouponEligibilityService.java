@@ -0,0 +1,239 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.CouponChangedEvent;
+import com.moviesite.mysite.model.dto.response.CouponResponse;
+import com.moviesite.mysite.model.entity.Coupon;
+import com.moviesite.mysite.model.entity.Coupon.CouponStatus;
+import com.moviesite.mysite.model.entity.Coupon.CouponType;
+import com.moviesite.mysite.model.entity.Coupon.DiscountType;
+import com.moviesite.mysite.model.entity.UserCoupon;
+import com.moviesite.mysite.repository.UserCouponRepository;
+import com.moviesite.mysite.util.MinorUnits;
+import com.moviesite.mysite.util.TtlLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 보유 쿠폰의 적용 조건 캐시 (쿠폰마다 기간/최소 주문 금액/대상 조건을 미리 계산하고 대상 영화/극장별로 색인)
+// 예매 화면의 쿠폰 목록은 캐시가 있으면 DB 조회 없이, 없으면 조인 쿼리 1회로 계산
+@Service
+@RequiredArgsConstructor
+public class CouponEligibilityService {
+
+    private final UserCouponRepository userCouponRepository;
+
+    // 캐시 유효 시간
+    @Value("${coupon.eligibility.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // 캐시에 보관할 최대 사용자 수
+    @Value("${coupon.eligibility.cache-max-users:10000}")
+    private int cacheMaxUsers;
+
+    // 사용자별 보유 쿠폰 (접근 순서 기준 LRU)
+    private TtlLruCache<Long, Wallet> cache;
+
+    // 할인 순위 정렬 시 long 하나에 (할인 금액, 등록 순서)를 함께 담기 위한 순서 비트 수
+    private static final int ORDER_BITS = 20;
+    private static final long ORDER_MASK = (1L << ORDER_BITS) - 1;
+
+    // 쿠폰 하나의 적용 조건 (order: 등록 순서, active: 활성 상태 여부, 기간은 epoch 밀리초, 대상 ID는 없으면 null)
+    // 금액은 최소 단위 long, 정률 할인 값은 0.01% 단위, 최대 할인 금액이 없으면 -1
+    private record Rule(int order, boolean active, long validFrom, long validUntil, long minOrder,
+                        boolean percent, long discountValue, long maxDiscount,
+                        Long targetMovieId, Long targetTheaterId, CouponResponse response) {
+
+        boolean isActiveAt(long now) {
+            return active && now > validFrom && now < validUntil;
+        }
+
+        boolean test(long amount, long now) {
+            return isActiveAt(now) && amount >= minOrder;
+        }
+
+        // Coupon.calculateDiscount와 같은 규칙 (정률 할인의 최소 단위 미만은 버림)
+        long discount(long amount) {
+            if (amount < minOrder) {
+                return 0;
+            }
+            if (percent) {
+                long discount = Math.multiplyExact(amount, discountValue) / 10_000;
+                return maxDiscount >= 0 ? Math.min(discount, maxDiscount) : discount;
+            }
+            return Math.min(discountValue, amount);
+        }
+    }
+
+    // 할인 금액 순위 항목 (할인 금액은 최소 단위)
+    public record RankedCoupon(CouponResponse coupon, long discount) {
+    }
+
+    // 사용자의 보유 쿠폰 (rules: 등록 순, 대상이 없는 쿠폰과 대상 영화/극장별 쿠폰으로 나누어 색인)
+    private record Wallet(List<Rule> rules, List<Rule> general, Map<Long, List<Rule>> byMovie,
+                          Map<Long, List<Rule>> byTheater) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = new TtlLruCache<>(Duration.ofSeconds(cacheTtlSeconds), cacheMaxUsers);
+    }
+
+    // 사용하지 않은 보유 쿠폰 전체 (등록 순)
+    public List<CouponResponse> getAvailableCoupons(Long userId) {
+        long now = System.currentTimeMillis();
+        List<CouponResponse> coupons = new ArrayList<>();
+        for (Rule rule : wallet(userId).rules()) {
+            coupons.add(rule.response().toBuilder().isValid(rule.isActiveAt(now)).build());
+        }
+        return coupons;
+    }
+
+    // 예매에 적용할 수 있는 보유 쿠폰 (영화/극장이 지정되지 않으면 해당 대상 조건은 확인하지 않음)
+    public List<CouponResponse> getEligibleCoupons(Long userId, Long movieId, Long theaterId, BigDecimal amount) {
+        Wallet wallet = wallet(userId);
+        List<Rule> candidates = new ArrayList<>(wallet.general());
+        addTargeted(candidates, wallet.byMovie(), movieId);
+        addTargeted(candidates, wallet.byTheater(), theaterId);
+        candidates.sort((a, b) -> Integer.compare(a.order(), b.order()));
+
+        long orderAmount = MinorUnits.toMinor(amount);
+        long now = System.currentTimeMillis();
+        List<CouponResponse> coupons = new ArrayList<>();
+        for (Rule rule : candidates) {
+            if (rule.test(orderAmount, now)) {
+                coupons.add(rule.response().toBuilder().isValid(true).build());
+            }
+        }
+        return coupons;
+    }
+
+    // 적용 가능한 보유 쿠폰을 할인 금액이 큰 순으로 정렬 (같으면 먼저 등록한 쿠폰 우선, 할인이 없는 쿠폰 제외)
+    // 좌석 선택이 바뀔 때마다 호출되므로 후보 목록을 만들지 않고 (할인 금액, 순서)를 long 배열에 담아 정렬
+    public List<RankedCoupon> rankByDiscount(Long userId, Long movieId, Long theaterId, long orderAmount) {
+        Wallet wallet = wallet(userId);
+        long now = System.currentTimeMillis();
+        long[] packed = new long[wallet.rules().size()];
+        int count = evaluate(wallet.general(), orderAmount, now, packed, 0);
+        if (movieId == null) {
+            for (List<Rule> rules : wallet.byMovie().values()) {
+                count = evaluate(rules, orderAmount, now, packed, count);
+            }
+        } else {
+            count = evaluate(wallet.byMovie().getOrDefault(movieId, List.of()), orderAmount, now, packed, count);
+        }
+        if (theaterId == null) {
+            for (List<Rule> rules : wallet.byTheater().values()) {
+                count = evaluate(rules, orderAmount, now, packed, count);
+            }
+        } else {
+            count = evaluate(wallet.byTheater().getOrDefault(theaterId, List.of()), orderAmount, now, packed, count);
+        }
+
+        Arrays.sort(packed, 0, count);
+        List<RankedCoupon> ranked = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            Rule rule = wallet.rules().get((int) (ORDER_MASK - (packed[i] & ORDER_MASK)));
+            ranked.add(new RankedCoupon(rule.response().toBuilder().isValid(true).build(), packed[i] >>> ORDER_BITS));
+        }
+        return ranked;
+    }
+
+    // 쿠폰 등록/변경 커밋 후 캐시 제거 (사용자가 지정되지 않으면 전체 제거)
+    @TransactionalEventListener
+    public void onCouponChanged(CouponChangedEvent event) {
+        if (event.getUserId() != null) {
+            cache.invalidate(event.getUserId());
+        } else {
+            cache.invalidateAll();
+        }
+    }
+
+    // 적용 가능한 쿠폰의 (할인 금액 << ORDER_BITS | 역순 등록 순서)를 packed에 추가하고 개수 반환
+    private int evaluate(List<Rule> rules, long orderAmount, long now, long[] packed, int count) {
+        for (Rule rule : rules) {
+            if (!rule.test(orderAmount, now) || rule.order() > ORDER_MASK) {
+                continue;
+            }
+            long discount = rule.discount(orderAmount);
+            if (discount > 0) {
+                packed[count++] = discount << ORDER_BITS | (ORDER_MASK - rule.order());
+            }
+        }
+        return count;
+    }
+
+    private void addTargeted(List<Rule> candidates, Map<Long, List<Rule>> index, Long targetId) {
+        if (targetId == null) {
+            index.values().forEach(candidates::addAll);
+            return;
+        }
+        candidates.addAll(index.getOrDefault(targetId, List.of()));
+    }
+
+    private Wallet wallet(Long userId) {
+        Wallet cached = cache.get(userId);
+        return cached != null ? cached : load(userId);
+    }
+
+    // 보유 쿠폰을 조인 쿼리 1회로 읽어 조건 계산 (활성 상태가 아닌 쿠폰은 목록에만 포함하고 색인하지 않음)
+    private Wallet load(Long userId) {
+        long version = cache.version(userId);
+        List<Rule> rules = new ArrayList<>();
+        List<Rule> general = new ArrayList<>();
+        Map<Long, List<Rule>> byMovie = new HashMap<>();
+        Map<Long, List<Rule>> byTheater = new HashMap<>();
+
+        for (UserCoupon userCoupon : userCouponRepository.findAvailableWithCouponByUserId(userId)) {
+            Rule rule = compile(rules.size(), userCoupon.getCoupon());
+            rules.add(rule);
+            if (!rule.active()) {
+                continue;
+            }
+            if (rule.targetMovieId() != null) {
+                byMovie.computeIfAbsent(rule.targetMovieId(), id -> new ArrayList<>()).add(rule);
+            } else if (rule.targetTheaterId() != null) {
+                byTheater.computeIfAbsent(rule.targetTheaterId(), id -> new ArrayList<>()).add(rule);
+            } else {
+                general.add(rule);
+            }
+        }
+
+        Wallet wallet = new Wallet(rules, general, byMovie, byTheater);
+        cache.putIfUnchanged(userId, version, wallet);
+        return wallet;
+    }
+
+    // 대상 조건은 영화/극장 전용 쿠폰이면서 대상이 지정된 경우에만 적용
+    private Rule compile(int order, Coupon coupon) {
+        Long targetMovieId = coupon.getCouponType() == CouponType.MOVIE_SPECIFIC && coupon.getTargetMovie() != null
+                ? coupon.getTargetMovie().getId() : null;
+        Long targetTheaterId = coupon.getCouponType() == CouponType.THEATER_SPECIFIC && coupon.getTargetTheater() != null
+                ? coupon.getTargetTheater().getId() : null;
+        boolean percent = coupon.getDiscountType() == DiscountType.PERCENT;
+        return new Rule(order, coupon.getStatus() == CouponStatus.ACTIVE,
+                toEpochMilli(coupon.getIssueDate()), toEpochMilli(coupon.getExpiryDate()),
+                coupon.getMinOrderPrice() != null ? MinorUnits.toMinor(coupon.getMinOrderPrice()) : 0,
+                percent,
+                percent ? coupon.getDiscountValue().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact()
+                        : MinorUnits.toMinor(coupon.getDiscountValue()),
+                coupon.getMaxDiscountAmount() != null ? MinorUnits.toMinor(coupon.getMaxDiscountAmount()) : -1,
+                targetMovieId, targetTheaterId, CouponResponse.fromEntity(coupon));
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,91 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.model.entity.Coupon;
+import com.moviesite.mysite.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 수량 제한 쿠폰의 남은 수량 (메모리 카운터로 소진된 쿠폰 요청을 DB까지 보내지 않고 거절)
+// 최종 판단은 coupons.issued 조건부 증가가 하며, 메모리 카운터는 트랜잭션이 커밋되지 않으면 되돌림
+@Service
+@RequiredArgsConstructor
+public class CouponQuotaService {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponQuotaService.class);
+
+    private final CouponRepository couponRepository;
+
+    // 쿠폰 ID -> 남은 수량 (처음 요청 시 total_usage_limit - issued로 적재)
+    private final Map<Long, AtomicInteger> remaining = new ConcurrentHashMap<>();
+
+    // 애플리케이션 시작 시 저장된 발급 수량으로 카운터 적재 (쿠폰 행은 수정하지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Object[]> counts = couponRepository.findQuotaCounts();
+        for (Object[] row : counts) {
+            int limit = (Integer) row[1];
+            int issued = (Integer) row[2];
+            remaining.putIfAbsent((Long) row[0], new AtomicInteger(Math.max(0, limit - issued)));
+        }
+        log.info("Coupon quota counters loaded: {} coupons", counts.size());
+    }
+
+    // 쿠폰 1장 선점 (수량 제한이 없으면 항상 성공, 현재 트랜잭션이 커밋되지 않으면 반환)
+    public boolean tryAcquire(Coupon coupon) {
+        if (coupon.getTotalUsageLimit() == null) {
+            return true;
+        }
+        AtomicInteger counter = counter(coupon);
+        if (counter.decrementAndGet() < 0) {
+            counter.incrementAndGet();
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        counter.incrementAndGet();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    // 카운터 제거 (쿠폰 수정/삭제, DB와 어긋난 경우 - 트랜잭션 안이면 종료 후 제거, 다음 요청 때 DB 기준으로 다시 적재)
+    public void evict(Long couponId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remaining.remove(couponId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                remaining.remove(couponId);
+            }
+        });
+    }
+
+    private AtomicInteger counter(Coupon coupon) {
+        AtomicInteger counter = remaining.get(coupon.getId());
+        if (counter != null) {
+            return counter;
+        }
+        int issued = couponRepository.findIssuedById(coupon.getId()).orElse(0);
+        AtomicInteger loaded = new AtomicInteger(Math.max(0, coupon.getTotalUsageLimit() - issued));
+        AtomicInteger previous = remaining.putIfAbsent(coupon.getId(), loaded);
+        return previous != null ? previous : loaded;
+    }
+}
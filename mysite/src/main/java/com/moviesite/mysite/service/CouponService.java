@@ -1,6 +1,7 @@
 package com.moviesite.mysite.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -8,9 +9,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviesite.mysite.event.CouponChangedEvent;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.request.CouponOptimizeRequest;
 import com.moviesite.mysite.model.dto.request.CouponRequest;
+import com.moviesite.mysite.model.dto.response.CouponOptimizeResponse;
 import com.moviesite.mysite.model.dto.response.CouponResponse;
 import com.moviesite.mysite.model.entity.Coupon;
 import com.moviesite.mysite.model.entity.Coupon.CouponStatus;
@@ -18,18 +22,17 @@ import com.moviesite.mysite.model.entity.Coupon.CouponType;
 import com.moviesite.mysite.model.entity.Coupon.DiscountType;
 import com.moviesite.mysite.model.entity.Movie;
 import com.moviesite.mysite.model.entity.Theater;
-import com.moviesite.mysite.model.entity.User;
-import com.moviesite.mysite.model.entity.UserCoupon;
 import com.moviesite.mysite.repository.CouponRepository;
 import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.repository.ScheduleRepository;
 import com.moviesite.mysite.repository.TheaterRepository;
 import com.moviesite.mysite.repository.UserCouponRepository;
 import com.moviesite.mysite.repository.UserRepository;
+import com.moviesite.mysite.util.MinorUnits;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,6 +44,10 @@ public class CouponService {
     private final UserCouponRepository userCouponRepository;
     private final MovieRepository movieRepository;
     private final TheaterRepository theaterRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CouponQuotaService couponQuotaService;
+    private final CouponEligibilityService couponEligibilityService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 모든 쿠폰 목록 조회 (페이징 처리)
     public Page<CouponResponse> getAllCoupons(String status, Pageable pageable) {
@@ -58,14 +65,7 @@ public class CouponService {
 
     // 현재 로그인한 사용자의 사용 가능한 쿠폰 목록 조회
     public List<CouponResponse> getMyAvailableCoupons() {
-        User currentUser = getCurrentUser();
-        
-        // 사용자에게 발급된 쿠폰 중 사용 가능한 쿠폰만 조회
-        List<UserCoupon> userCoupons = userCouponRepository.findByUserAndUsedFalseAndExpiredFalse(currentUser);
-        
-        return userCoupons.stream()
-                .map(userCoupon -> CouponResponse.fromEntity(userCoupon.getCoupon()))
-                .collect(Collectors.toList());
+        return couponEligibilityService.getAvailableCoupons(getCurrentUserId());
     }
 
     // 특정 쿠폰 조회
@@ -112,6 +112,8 @@ public class CouponService {
         existingCoupon.setUpdatedAt(LocalDateTime.now());
         
         Coupon updatedCoupon = couponRepository.save(existingCoupon);
+        couponQuotaService.evict(id);
+        eventPublisher.publishEvent(new CouponChangedEvent(id, null));
         return CouponResponse.fromEntity(updatedCoupon);
     }
 
@@ -124,6 +126,7 @@ public class CouponService {
         coupon.setUpdatedAt(LocalDateTime.now());
         
         Coupon updatedCoupon = couponRepository.save(coupon);
+        eventPublisher.publishEvent(new CouponChangedEvent(id, null));
         return CouponResponse.fromEntity(updatedCoupon);
     }
 
@@ -138,6 +141,8 @@ public class CouponService {
         userCouponRepository.deleteByCouponId(id);
         
         couponRepository.deleteById(id);
+        couponQuotaService.evict(id);
+        eventPublisher.publishEvent(new CouponChangedEvent(id, null));
     }
     
  // 쿠폰 코드 등록/사용
@@ -150,174 +155,78 @@ public class CouponService {
         // 쿠폰 유효성 검사
         validateCoupon(coupon);
         
-        User currentUser = getCurrentUser();
+        Long userId = getCurrentUserId();
         
-        // 이미 등록한 쿠폰인지 확인
-        if (userCouponRepository.existsByUserAndCoupon(currentUser, coupon)) {
-            throw new BadRequestException("이미 등록한 쿠폰입니다");
+        // 남은 수량 선점 (소진된 쿠폰은 DB 조회 없이 거절)
+        if (!couponQuotaService.tryAcquire(coupon)) {
+            throw new BadRequestException("이 쿠폰은 사용 가능한 수량이 모두 소진되었습니다");
         }
         
-        // 사용자당 사용 제한 확인
-        if (coupon.getUsageLimitPerUser() != null) {
-            long usageCount = userCouponRepository.countByUserAndCoupon(currentUser, coupon);
-            if (usageCount >= coupon.getUsageLimitPerUser()) {
-                throw new BadRequestException("이 쿠폰의 사용 횟수를 초과했습니다");
-            }
+        // 사용자에게 쿠폰 발급 (사용자당 1장 - unique_user_coupon 키로 중복 등록 방지)
+        if (userCouponRepository.insertIgnore(userId, coupon.getId(), LocalDateTime.now(), coupon.getExpiryDate()) == 0) {
+            throw new BadRequestException("이미 등록한 쿠폰입니다");
         }
         
-        // 전체 사용 제한 확인
-        if (coupon.getTotalUsageLimit() != null) {
-            long totalUsage = userCouponRepository.countByCoupon(coupon);
-            if (totalUsage >= coupon.getTotalUsageLimit()) {
-                throw new BadRequestException("이 쿠폰은 사용 가능한 수량이 모두 소진되었습니다");
-            }
+        // 발급 수 증가 (수량이 남아 있을 때만, 실패하면 발급 취소를 위해 예외로 롤백)
+        if (couponRepository.incrementIssuedIfAvailable(coupon.getId()) == 0) {
+            couponQuotaService.evict(coupon.getId());
+            throw new BadRequestException("이 쿠폰은 사용 가능한 수량이 모두 소진되었습니다");
         }
         
-        // 사용자에게 쿠폰 발급
-        UserCoupon userCoupon = new UserCoupon();
-        userCoupon.setUser(currentUser);
-        userCoupon.setCoupon(coupon);
-        userCoupon.setIssueDate(LocalDateTime.now());
-        userCoupon.setExpiryDate(coupon.getExpiryDate());
-        userCoupon.setUsed(false);
-        userCoupon.setExpired(false);
-        
-        UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+        Long userCouponId = userCouponRepository.findIdByUserIdAndCouponId(userId, coupon.getId()).orElse(null);
+        eventPublisher.publishEvent(new CouponChangedEvent(coupon.getId(), userId));
         
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("message", "쿠폰이 성공적으로 등록되었습니다");
         result.put("coupon", CouponResponse.fromEntity(coupon));
-        result.put("userCouponId", savedUserCoupon.getId());
+        result.put("userCouponId", userCouponId);
         
         return result;
     }
     
     // 예매 시 사용 가능한 쿠폰 목록 조회
     public List<CouponResponse> getAvailableCouponsForReservation(Long movieId, Long theaterId, BigDecimal amount) {
-        User currentUser = getCurrentUser();
-        
-        // 사용자의 사용 가능한 쿠폰 목록 조회
-        List<UserCoupon> userCoupons = userCouponRepository.findByUserAndUsedFalseAndExpiredFalse(currentUser);
-        
-        return userCoupons.stream()
-                .map(UserCoupon::getCoupon)
-                .filter(coupon -> {
-                    // 쿠폰 유효성 검사
-                    if (!coupon.isValid()) {
-                        return false;
-                    }
-                    
-                    // 최소 주문 금액 확인
-                    if (coupon.getMinOrderPrice() != null && 
-                            amount.compareTo(coupon.getMinOrderPrice()) < 0) {
-                        return false;
-                    }
-                    
-                    // 영화 특정 쿠폰 확인
-                    if (coupon.getCouponType() == CouponType.MOVIE_SPECIFIC && 
-                            movieId != null && 
-                            coupon.getTargetMovie() != null &&
-                            !coupon.getTargetMovie().getId().equals(movieId)) {
-                        return false;
-                    }
-                    
-                    // 극장 특정 쿠폰 확인
-                    if (coupon.getCouponType() == CouponType.THEATER_SPECIFIC && 
-                            theaterId != null && 
-                            coupon.getTargetTheater() != null &&
-                            !coupon.getTargetTheater().getId().equals(theaterId)) {
-                        return false;
-                    }
-                    
-                    return true;
-                })
-                .map(CouponResponse::fromEntity)
-                .collect(Collectors.toList());
+        return couponEligibilityService.getEligibleCoupons(getCurrentUserId(), movieId, theaterId, amount);
     }
     
-    // 관리자: 쿠폰 대량 생성
-    @Transactional
-    public Map<String, Object> createCouponBatch(Map<String, Object> batchInfo) {
-        int count = Integer.parseInt(batchInfo.get("count").toString());
-        String prefix = (String) batchInfo.get("prefix");
-        Map<String, Object> couponTemplate = (Map<String, Object>) batchInfo.get("couponTemplate");
-        
-        // 쿠폰 템플릿 생성
-        CouponRequest templateRequest = new CouponRequest();
-        templateRequest.setName((String) couponTemplate.get("name"));
-        templateRequest.setDescription((String) couponTemplate.get("description"));
-        templateRequest.setDiscountType((String) couponTemplate.get("discountType"));
-        templateRequest.setDiscountValue(new BigDecimal(couponTemplate.get("discountValue").toString()));
-        templateRequest.setMinOrderPrice(couponTemplate.get("minOrderPrice") != null ? 
-                new BigDecimal(couponTemplate.get("minOrderPrice").toString()) : null);
-        templateRequest.setMaxDiscountAmount(couponTemplate.get("maxDiscountAmount") != null ? 
-                new BigDecimal(couponTemplate.get("maxDiscountAmount").toString()) : null);
-        templateRequest.setIssueDate(LocalDateTime.parse(couponTemplate.get("issueDate").toString()));
-        templateRequest.setExpiryDate(LocalDateTime.parse(couponTemplate.get("expiryDate").toString()));
-        templateRequest.setUsageLimitPerUser(couponTemplate.get("usageLimitPerUser") != null ? 
-                Integer.parseInt(couponTemplate.get("usageLimitPerUser").toString()) : null);
-        templateRequest.setTotalUsageLimit(couponTemplate.get("totalUsageLimit") != null ? 
-                Integer.parseInt(couponTemplate.get("totalUsageLimit").toString()) : null);
-        templateRequest.setCouponType((String) couponTemplate.get("couponType"));
-        templateRequest.setStatus((String) couponTemplate.get("status"));
-        
-        if (couponTemplate.get("targetMovieId") != null) {
-            templateRequest.setTargetMovieId(Long.parseLong(couponTemplate.get("targetMovieId").toString()));
+    // 예매 초안(상영 일정, 좌석별 가격)에 적용 가능한 쿠폰을 할인 금액 순으로 계산
+    public CouponOptimizeResponse optimizeCoupons(CouponOptimizeRequest request) {
+        List<Object[]> targets = scheduleRepository.findMovieAndTheaterIdsById(request.getScheduleId());
+        if (targets.isEmpty()) {
+            throw new ResourceNotFoundException("Schedule not found with id: " + request.getScheduleId());
         }
-        
-        if (couponTemplate.get("targetTheaterId") != null) {
-            templateRequest.setTargetTheaterId(Long.parseLong(couponTemplate.get("targetTheaterId").toString()));
-        }
-        
-        List<String> generatedCodes = new ArrayList<>();
-        List<Coupon> generatedCoupons = new ArrayList<>();
-        
-        // 쿠폰 대량 생성
-        for (int i = 0; i < count; i++) {
-            String couponCode = generateUniqueCouponCode(prefix);
-            
-            Coupon coupon = new Coupon();
-            coupon.setCouponCode(couponCode);
-            coupon.setName(templateRequest.getName());
-            coupon.setDescription(templateRequest.getDescription());
-            coupon.setDiscountType(DiscountType.valueOf(templateRequest.getDiscountType()));
-            coupon.setDiscountValue(templateRequest.getDiscountValue());
-            coupon.setMinOrderPrice(templateRequest.getMinOrderPrice());
-            coupon.setMaxDiscountAmount(templateRequest.getMaxDiscountAmount());
-            coupon.setIssueDate(templateRequest.getIssueDate());
-            coupon.setExpiryDate(templateRequest.getExpiryDate());
-            coupon.setUsageLimitPerUser(templateRequest.getUsageLimitPerUser());
-            coupon.setTotalUsageLimit(templateRequest.getTotalUsageLimit());
-            coupon.setCouponType(CouponType.valueOf(templateRequest.getCouponType()));
-            coupon.setStatus(CouponStatus.valueOf(templateRequest.getStatus()));
-            
-            // 영화 및 극장 정보 설정 (필요한 경우)
-            if (templateRequest.getTargetMovieId() != null) {
-                Movie movie = movieRepository.findById(templateRequest.getTargetMovieId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Movie not found with id: " + templateRequest.getTargetMovieId()));
-                coupon.setTargetMovie(movie);
-            }
-            
-            if (templateRequest.getTargetTheaterId() != null) {
-                Theater theater = theaterRepository.findById(templateRequest.getTargetTheaterId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Theater not found with id: " + templateRequest.getTargetTheaterId()));
-                coupon.setTargetTheater(theater);
+        Long movieId = (Long) targets.get(0)[0];
+        Long theaterId = (Long) targets.get(0)[1];
+
+        // 좌석 가격 합계 (최소 단위)
+        Set<Long> seatIds = new HashSet<>();
+        long orderAmount = 0;
+        for (CouponOptimizeRequest.SeatPrice seat : request.getSeats()) {
+            if (!seatIds.add(seat.getSeatId())) {
+                throw new BadRequestException("중복된 좌석이 있습니다: " + seat.getSeatId());
             }
-            
-            generatedCodes.add(couponCode);
-            generatedCoupons.add(coupon);
+            orderAmount = Math.addExact(orderAmount, MinorUnits.toMinor(seat.getPrice()));
         }
-        
-        // 쿠폰 일괄 저장
-        List<Coupon> savedCoupons = couponRepository.saveAll(generatedCoupons);
-        
-        Map<String, Object> result = new HashMap<>();
-        result.put("success", true);
-        result.put("count", savedCoupons.size());
-        result.put("couponCodes", generatedCodes);
-        
-        return result;
+
+        List<CouponOptimizeResponse.CouponDiscount> coupons = new ArrayList<>();
+        for (CouponEligibilityService.RankedCoupon ranked
+                : couponEligibilityService.rankByDiscount(getCurrentUserId(), movieId, theaterId, orderAmount)) {
+            coupons.add(CouponOptimizeResponse.CouponDiscount.builder()
+                    .rank(coupons.size() + 1)
+                    .coupon(ranked.coupon())
+                    .discountAmount(MinorUnits.toAmount(ranked.discount()))
+                    .finalAmount(MinorUnits.toAmount(orderAmount - ranked.discount()))
+                    .build());
+        }
+
+        return CouponOptimizeResponse.builder()
+                .scheduleId(request.getScheduleId())
+                .seatCount(request.getSeats().size())
+                .orderAmount(MinorUnits.toAmount(orderAmount))
+                .best(coupons.isEmpty() ? null : coupons.get(0))
+                .coupons(coupons)
+                .build();
     }
     
     // 쿠폰 유효성 검사
@@ -340,26 +249,12 @@ public class CouponService {
         }
     }
     
-    // 고유한 쿠폰 코드 생성
-    private String generateUniqueCouponCode(String prefix) {
-        String randomPart = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        String couponCode = prefix + "-" + randomPart;
-        
-        // 중복 확인
-        while (couponRepository.existsByCouponCode(couponCode)) {
-            randomPart = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-            couponCode = prefix + "-" + randomPart;
-        }
-        
-        return couponCode;
-    }
-    
-    // 현재 로그인한 사용자 조회
-    private User getCurrentUser() {
+    // 현재 로그인한 사용자 ID 조회 (사용자 엔티티를 읽지 않음)
+    private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String email = authentication.getName();
         
-        return userRepository.findByEmail(email)
+        return userRepository.findIdByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
     
@@ -0,0 +1,199 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.FavoriteChangedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.dto.response.FavoriteRankingResponse;
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import com.moviesite.mysite.model.entity.FavoriteCount;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.model.entity.Theater;
+import com.moviesite.mysite.repository.FavoriteCountRepository;
+import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.repository.TheaterRepository;
+import com.moviesite.mysite.util.IndexedMaxHeap;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 영화/극장별 즐겨찾기 수 (메모리 카운터 + 인덱스 최대 힙으로 순위 유지)
+// 변경된 카운터는 주기적으로 favorite_counts 테이블에 저장하고, 매일 즐겨찾기 테이블 기준으로 재계산
+@Service
+@RequiredArgsConstructor
+public class FavoriteCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(FavoriteCounterService.class);
+
+    private static final String SAVE_COUNT_SQL = "INSERT INTO favorite_counts (favorite_type, target_id, favorite_count, updated_at) "
+            + "VALUES (?, ?, ?, NOW()) ON DUPLICATE KEY UPDATE favorite_count = VALUES(favorite_count), updated_at = NOW()";
+
+    // 한 번의 배치로 보낼 최대 저장 수
+    private static final int BATCH_SIZE = 500;
+
+    private final FavoriteCountRepository favoriteCountRepository;
+    private final MovieRepository movieRepository;
+    private final TheaterRepository theaterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 순위 조회 시 미리 계산해 두는 최대 항목 수
+    @Value("${favorite.count.leaderboard-size:100}")
+    private int leaderboardSize;
+
+    // 유형별 카운터 (모든 접근은 counters로 동기화)
+    private final Map<FavoriteType, Counter> counters = new EnumMap<>(Map.of(
+            FavoriteType.MOVIE, new Counter(),
+            FavoriteType.THEATER, new Counter()));
+
+    // 대상별 즐겨찾기 수 힙, 저장되지 않은 대상, 상위 목록 (변경 시 다음 조회 때 다시 계산)
+    private static final class Counter {
+        private final IndexedMaxHeap heap = new IndexedMaxHeap(1024);
+        private Set<Long> dirty = new HashSet<>();
+        private List<IndexedMaxHeap.Entry> leaders;
+    }
+
+    // 애플리케이션 시작 시 저장본 적재 (비어 있으면 즐겨찾기 테이블로 재계산)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (favoriteCountRepository.count() == 0) {
+            reconcile();
+            return;
+        }
+        loadAll();
+    }
+
+    // 즐겨찾기 추가/삭제 커밋 후 카운터 증감
+    @TransactionalEventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        synchronized (counters) {
+            Counter counter = counters.get(event.getFavoriteType());
+            counter.heap.add(event.getTargetId(), event.isAdded() ? 1 : -1);
+            counter.dirty.add(event.getTargetId());
+            counter.leaders = null;
+        }
+    }
+
+    // 대상의 즐겨찾기 수
+    public long getCount(FavoriteType type, Long targetId) {
+        synchronized (counters) {
+            return counters.get(type).heap.get(targetId);
+        }
+    }
+
+    // 즐겨찾기 많은 순 목록 (동점이면 ID 작은 순, 미리 계산해 두는 항목 수까지만 조회 가능)
+    public List<FavoriteRankingResponse> getRanking(FavoriteType type, int limit) {
+        if (limit < 1 || limit > leaderboardSize) {
+            throw new BadRequestException("조회 개수는 1개 이상 " + leaderboardSize + "개 이하로 입력해주세요");
+        }
+        List<IndexedMaxHeap.Entry> leaders;
+        synchronized (counters) {
+            Counter counter = counters.get(type);
+            if (counter.leaders == null) {
+                counter.leaders = counter.heap.top(leaderboardSize);
+            }
+            leaders = counter.leaders;
+        }
+        List<IndexedMaxHeap.Entry> entries = leaders.subList(0, Math.min(limit, leaders.size()));
+        List<Long> ids = entries.stream().map(IndexedMaxHeap.Entry::key).toList();
+        Map<Long, String> names = type == FavoriteType.MOVIE
+                ? movieRepository.findAllById(ids).stream().collect(Collectors.toMap(Movie::getId, Movie::getTitle))
+                : theaterRepository.findAllById(ids).stream().collect(Collectors.toMap(Theater::getId, Theater::getName));
+
+        List<FavoriteRankingResponse> ranking = new ArrayList<>(entries.size());
+        for (IndexedMaxHeap.Entry entry : entries) {
+            ranking.add(FavoriteRankingResponse.builder()
+                    .rank(ranking.size() + 1)
+                    .targetId(entry.key())
+                    .name(names.get(entry.key()))
+                    .favoriteCount(entry.value())
+                    .build());
+        }
+        return ranking;
+    }
+
+    // 변경된 카운터를 저장본에 반영
+    @Scheduled(fixedDelayString = "${favorite.count.checkpoint-interval-ms:60000}")
+    public synchronized void checkpoint() {
+        List<Object[]> args = new ArrayList<>();
+        Map<FavoriteType, Set<Long>> saving = new EnumMap<>(FavoriteType.class);
+        synchronized (counters) {
+            counters.forEach((type, counter) -> {
+                for (Long targetId : counter.dirty) {
+                    args.add(new Object[] { type.name(), targetId, counter.heap.get(targetId) });
+                }
+                saving.put(type, counter.dirty);
+                counter.dirty = new HashSet<>();
+            });
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (int from = 0; from < args.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(SAVE_COUNT_SQL, args.subList(from, Math.min(args.size(), from + BATCH_SIZE)));
+            }
+        } catch (RuntimeException e) {
+            // 저장하지 못한 대상은 다음 주기에 다시 저장 (저장 값은 그때의 카운터 값)
+            log.warn("Favorite count checkpoint failed, retrying next cycle: {}", e.getMessage());
+            synchronized (counters) {
+                saving.forEach((type, targetIds) -> counters.get(type).dirty.addAll(targetIds));
+            }
+        }
+    }
+
+    // 매일 새벽 즐겨찾기 수 재계산
+    @Scheduled(cron = "${favorite.count.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    // 즐겨찾기 테이블 기준으로 저장본과 카운터 재계산 (메모리 카운터 오차 보정)
+    // 재계산 도중 커밋된 변경은 반영 시점에 따라 누락될 수 있으며 다음 재계산 때 보정됨
+    public synchronized int reconcile() {
+        Integer rows = new TransactionTemplate(transactionManager).execute(status -> {
+            favoriteCountRepository.deleteAllCounts();
+            return favoriteCountRepository.insertCountsFromFavorites();
+        });
+        loadAll();
+        log.info("Favorite counts reconciled: {} targets", rows);
+        return rows != null ? rows : 0;
+    }
+
+    // 종료 전 남은 카운터 저장
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private void loadAll() {
+        List<FavoriteCount> saved = favoriteCountRepository.findAll();
+        synchronized (counters) {
+            counters.values().forEach(counter -> {
+                counter.heap.clear();
+                counter.dirty = new HashSet<>();
+                counter.leaders = null;
+            });
+            for (FavoriteCount count : saved) {
+                counters.get(count.getFavoriteType()).heap.set(count.getTargetId(), count.getFavoriteCount());
+            }
+        }
+    }
+}
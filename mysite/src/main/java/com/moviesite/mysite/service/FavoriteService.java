@@ -1,19 +1,20 @@
 package com.moviesite.mysite.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviesite.mysite.event.FavoriteChangedEvent;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
 import com.moviesite.mysite.model.dto.request.FavoriteRequest;
 import com.moviesite.mysite.model.dto.response.FavoriteResponse;
 import com.moviesite.mysite.model.entity.Favorite;
 import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
-import com.moviesite.mysite.model.entity.Movie;
-import com.moviesite.mysite.model.entity.Theater;
 import com.moviesite.mysite.model.entity.User;
 import com.moviesite.mysite.repository.FavoriteRepository;
 import com.moviesite.mysite.repository.MovieRepository;
@@ -35,6 +36,12 @@ public class FavoriteService {
     private final UserRepository userRepository;
     private final MovieRepository movieRepository;
     private final TheaterRepository theaterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FavoriteSetCacheService favoriteSetCacheService;
+
+    // 한 번에 즐겨찾기 여부를 확인할 수 있는 최대 ID 수
+    @Value("${favorite.check.max-ids:100}")
+    private int maxCheckIds;
 
     // 현재 로그인한 사용자의 모든 즐겨찾기 조회
     public Map<String, Object> getMyFavorites() {
@@ -84,119 +91,110 @@ public class FavoriteService {
                 .collect(Collectors.toList());
     }
 
-    // 즐겨찾기 추가
+    // 즐겨찾기 추가 (unique_movie_favorite/unique_theater_favorite 키 기준 INSERT IGNORE로 중복 요청에도 한 건만 추가)
     @Transactional
     public FavoriteResponse addFavorite(FavoriteRequest favoriteRequest) {
-        User currentUser = getCurrentUser();
+        Long userId = getCurrentUserId();
+        FavoriteType favoriteType = FavoriteType.valueOf(favoriteRequest.getFavoriteType());
         
-        Favorite favorite = new Favorite();
-        favorite.setUser(currentUser);
-        favorite.setFavoriteType(FavoriteType.valueOf(favoriteRequest.getFavoriteType()));
+        Optional<Favorite> savedFavorite;
         
         // 영화 즐겨찾기인 경우
-        if (favorite.getFavoriteType() == FavoriteType.MOVIE) {
-            if (favoriteRequest.getMovieId() == null) {
+        if (favoriteType == FavoriteType.MOVIE) {
+            Long movieId = favoriteRequest.getMovieId();
+            if (movieId == null) {
                 throw new BadRequestException("영화 ID는 필수 입력 항목입니다");
             }
-            
-            Movie movie = movieRepository.findById(favoriteRequest.getMovieId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Movie not found with id: " + favoriteRequest.getMovieId()));
+            if (!movieRepository.existsById(movieId)) {
+                throw new ResourceNotFoundException("Movie not found with id: " + movieId);
+            }
             
             // 이미 즐겨찾기에 추가된 영화인지 확인
-            if (favoriteRepository.existsByUserIdAndMovieId(currentUser.getId(), movie.getId())) {
+            if (favoriteRepository.insertMovieFavoriteIgnore(userId, movieId) == 0) {
                 throw new BadRequestException("이미 즐겨찾기에 추가된 영화입니다");
             }
-            
-            favorite.setMovie(movie);
-        }
-        
-        // 극장 즐겨찾기인 경우
-        if (favorite.getFavoriteType() == FavoriteType.THEATER) {
-            if (favoriteRequest.getTheaterId() == null) {
+            savedFavorite = favoriteRepository.findByUserIdAndMovieId(userId, movieId);
+        } else {
+            // 극장 즐겨찾기인 경우
+            Long theaterId = favoriteRequest.getTheaterId();
+            if (theaterId == null) {
                 throw new BadRequestException("극장 ID는 필수 입력 항목입니다");
             }
-            
-            Theater theater = theaterRepository.findById(favoriteRequest.getTheaterId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Theater not found with id: " + favoriteRequest.getTheaterId()));
+            if (!theaterRepository.existsById(theaterId)) {
+                throw new ResourceNotFoundException("Theater not found with id: " + theaterId);
+            }
             
             // 이미 즐겨찾기에 추가된 극장인지 확인
-            if (favoriteRepository.existsByUserIdAndTheaterId(currentUser.getId(), theater.getId())) {
+            if (favoriteRepository.insertTheaterFavoriteIgnore(userId, theaterId) == 0) {
                 throw new BadRequestException("이미 즐겨찾기에 추가된 극장입니다");
             }
-            
-            favorite.setTheater(theater);
+            savedFavorite = favoriteRepository.findByUserIdAndTheaterId(userId, theaterId);
         }
         
-        Favorite savedFavorite = favoriteRepository.save(favorite);
-        return FavoriteResponse.fromEntity(savedFavorite);
+        Favorite favorite = savedFavorite.orElseThrow(
+                () -> new ResourceNotFoundException("Favorite not found for user id: " + userId));
+        publishFavoriteChanged(favorite, true);
+        return FavoriteResponse.fromEntity(favorite);
     }
 
-    // 영화 즐겨찾기 추가/삭제 토글
+    // 영화 즐겨찾기 추가/삭제 토글 (삭제 또는 INSERT IGNORE로 처리하므로 중복 요청에도 한 번만 반영)
     @Transactional
     public Map<String, Object> toggleMovieFavorite(Long movieId) {
-        User currentUser = getCurrentUser();
+        Long userId = getCurrentUserId();
         
         // 영화 존재 여부 확인
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new ResourceNotFoundException("Movie not found with id: " + movieId));
-        
-        // 이미 즐겨찾기에 추가된 영화인지 확인
-        Optional<Favorite> existingFavorite = favoriteRepository.findByUserIdAndMovieId(currentUser.getId(), movieId);
+        if (!movieRepository.existsById(movieId)) {
+            throw new ResourceNotFoundException("Movie not found with id: " + movieId);
+        }
         
         Map<String, Object> result = new HashMap<>();
         
-        if (existingFavorite.isPresent()) {
+        if (favoriteRepository.deleteMovieFavorite(userId, movieId) > 0) {
             // 즐겨찾기 삭제
-            favoriteRepository.delete(existingFavorite.get());
+            publishFavoriteChanged(userId, FavoriteType.MOVIE, movieId, false);
             result.put("favorite", false);
             result.put("message", "영화가 즐겨찾기에서 삭제되었습니다");
         } else {
-            // 즐겨찾기 추가
-            Favorite favorite = new Favorite();
-            favorite.setUser(currentUser);
-            favorite.setMovie(movie);
-            favorite.setFavoriteType(FavoriteType.MOVIE);
-            
-            Favorite savedFavorite = favoriteRepository.save(favorite);
+            // 즐겨찾기 추가 (동시에 같은 요청이 먼저 추가했으면 이벤트 없음)
+            if (favoriteRepository.insertMovieFavoriteIgnore(userId, movieId) > 0) {
+                publishFavoriteChanged(userId, FavoriteType.MOVIE, movieId, true);
+            }
             
             result.put("favorite", true);
-            result.put("favoriteId", savedFavorite.getId());
+            favoriteRepository.findByUserIdAndMovieId(userId, movieId)
+                    .ifPresent(favorite -> result.put("favoriteId", favorite.getId()));
             result.put("message", "영화가 즐겨찾기에 추가되었습니다");
         }
         
         return result;
     }
 
-    // 극장 즐겨찾기 추가/삭제 토글
+    // 극장 즐겨찾기 추가/삭제 토글 (삭제 또는 INSERT IGNORE로 처리하므로 중복 요청에도 한 번만 반영)
     @Transactional
     public Map<String, Object> toggleTheaterFavorite(Long theaterId) {
-        User currentUser = getCurrentUser();
+        Long userId = getCurrentUserId();
         
         // 극장 존재 여부 확인
-        Theater theater = theaterRepository.findById(theaterId)
-                .orElseThrow(() -> new ResourceNotFoundException("Theater not found with id: " + theaterId));
-        
-        // 이미 즐겨찾기에 추가된 극장인지 확인
-        Optional<Favorite> existingFavorite = favoriteRepository.findByUserIdAndTheaterId(currentUser.getId(), theaterId);
+        if (!theaterRepository.existsById(theaterId)) {
+            throw new ResourceNotFoundException("Theater not found with id: " + theaterId);
+        }
         
         Map<String, Object> result = new HashMap<>();
         
-        if (existingFavorite.isPresent()) {
+        if (favoriteRepository.deleteTheaterFavorite(userId, theaterId) > 0) {
             // 즐겨찾기 삭제
-            favoriteRepository.delete(existingFavorite.get());
+            publishFavoriteChanged(userId, FavoriteType.THEATER, theaterId, false);
             result.put("favorite", false);
             result.put("message", "극장이 즐겨찾기에서 삭제되었습니다");
         } else {
-            // 즐겨찾기 추가
-            Favorite favorite = new Favorite();
-            favorite.setUser(currentUser);
-            favorite.setTheater(theater);
-            favorite.setFavoriteType(FavoriteType.THEATER);
-            
-            Favorite savedFavorite = favoriteRepository.save(favorite);
+            // 즐겨찾기 추가 (동시에 같은 요청이 먼저 추가했으면 이벤트 없음)
+            if (favoriteRepository.insertTheaterFavoriteIgnore(userId, theaterId) > 0) {
+                publishFavoriteChanged(userId, FavoriteType.THEATER, theaterId, true);
+            }
             
             result.put("favorite", true);
-            result.put("favoriteId", savedFavorite.getId());
+            favoriteRepository.findByUserIdAndTheaterId(userId, theaterId)
+                    .ifPresent(favorite -> result.put("favoriteId", favorite.getId()));
             result.put("message", "극장이 즐겨찾기에 추가되었습니다");
         }
         
@@ -205,20 +203,34 @@ public class FavoriteService {
 
     // 특정 영화가 즐겨찾기에 추가되었는지 확인
     public Map<String, Boolean> checkMovieFavorite(Long movieId) {
-        User currentUser = getCurrentUser();
-        boolean isFavorite = favoriteRepository.existsByUserIdAndMovieId(currentUser.getId(), movieId);
+        boolean isFavorite = favoriteSetCacheService.isFavorite(getCurrentUserId(), FavoriteType.MOVIE, movieId);
         
         return Map.of("favorite", isFavorite);
     }
 
     // 특정 극장이 즐겨찾기에 추가되었는지 확인
     public Map<String, Boolean> checkTheaterFavorite(Long theaterId) {
-        User currentUser = getCurrentUser();
-        boolean isFavorite = favoriteRepository.existsByUserIdAndTheaterId(currentUser.getId(), theaterId);
+        boolean isFavorite = favoriteSetCacheService.isFavorite(getCurrentUserId(), FavoriteType.THEATER, theaterId);
         
         return Map.of("favorite", isFavorite);
     }
 
+    // 여러 영화/극장의 즐겨찾기 여부 한 번에 확인 (즐겨찾기한 ID만 반환)
+    public Map<String, List<Long>> checkFavorites(List<Long> movieIds, List<Long> theaterIds) {
+        List<Long> movies = movieIds != null ? movieIds : List.of();
+        List<Long> theaters = theaterIds != null ? theaterIds : List.of();
+        if (movies.size() + theaters.size() > maxCheckIds) {
+            throw new BadRequestException("한 번에 확인할 수 있는 항목은 최대 " + maxCheckIds + "개입니다");
+        }
+        
+        Long userId = getCurrentUserId();
+        Map<String, List<Long>> result = new HashMap<>();
+        result.put("movieIds", favoriteSetCacheService.filterFavorites(userId, FavoriteType.MOVIE, movies));
+        result.put("theaterIds", favoriteSetCacheService.filterFavorites(userId, FavoriteType.THEATER, theaters));
+        
+        return result;
+    }
+
     // 즐겨찾기 삭제
     @Transactional
     public void deleteFavorite(Long id) {
@@ -232,6 +244,17 @@ public class FavoriteService {
         }
         
         favoriteRepository.delete(favorite);
+        publishFavoriteChanged(favorite, false);
+    }
+    
+    // 즐겨찾기 변경 이벤트 발행 (커밋 이후 추천/집계/캐시 처리)
+    private void publishFavoriteChanged(Favorite favorite, boolean added) {
+        Long targetId = favorite.isMovieFavorite() ? favorite.getMovie().getId() : favorite.getTheater().getId();
+        publishFavoriteChanged(favorite.getUser().getId(), favorite.getFavoriteType(), targetId, added);
+    }
+    
+    private void publishFavoriteChanged(Long userId, FavoriteType favoriteType, Long targetId, boolean added) {
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, favoriteType, targetId, added));
     }
     
     // 현재 로그인한 사용자 조회
@@ -242,4 +265,13 @@ public class FavoriteService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
+    
+    // 현재 로그인한 사용자 ID 조회
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+        
+        return userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+    }
 }
@@ -0,0 +1,144 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.FavoriteChangedEvent;
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import com.moviesite.mysite.repository.FavoriteRepository;
+import com.moviesite.mysite.util.TtlLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 사용자별 즐겨찾기 영화/극장 ID 집합 캐시 (정렬된 long 배열, 추정 메모리 사용량 기준 LRU)
+// 즐겨찾기 변경은 커밋 후 캐시된 집합에 바로 반영
+@Service
+@RequiredArgsConstructor
+public class FavoriteSetCacheService {
+
+    // 캐시 항목 하나의 고정 비용 추정치 (맵 노드, 레코드, 배열 헤더)
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+    private final FavoriteRepository favoriteRepository;
+
+    // 캐시 유효 시간
+    @Value("${favorite.cache.ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
+    // 캐시가 사용할 최대 메모리 (추정치, 바이트)
+    @Value("${favorite.cache.max-bytes:16777216}")
+    private long cacheMaxBytes;
+
+    // 사용자별 즐겨찾기 ID (접근 순서 기준 LRU, 추정 메모리 사용량 합이 상한을 넘으면 제거)
+    private TtlLruCache<Long, FavoriteIds> cache;
+
+    // movieIds, theaterIds: 오름차순 정렬
+    private record FavoriteIds(long[] movieIds, long[] theaterIds) {
+
+        long[] ids(FavoriteType type) {
+            return type == FavoriteType.MOVIE ? movieIds : theaterIds;
+        }
+
+        FavoriteIds with(FavoriteType type, long[] ids) {
+            return type == FavoriteType.MOVIE
+                    ? new FavoriteIds(ids, theaterIds)
+                    : new FavoriteIds(movieIds, ids);
+        }
+
+        long sizeInBytes() {
+            return ENTRY_OVERHEAD_BYTES + 8L * (movieIds.length + theaterIds.length);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = new TtlLruCache<>(Duration.ofSeconds(cacheTtlSeconds), cacheMaxBytes, FavoriteIds::sizeInBytes);
+    }
+
+    // 사용자가 즐겨찾기했는지 확인
+    public boolean isFavorite(Long userId, FavoriteType type, Long targetId) {
+        return targetId != null && Arrays.binarySearch(get(userId).ids(type), targetId) >= 0;
+    }
+
+    // 주어진 ID 중 사용자가 즐겨찾기한 ID (요청 순서 유지)
+    public List<Long> filterFavorites(Long userId, FavoriteType type, Collection<Long> targetIds) {
+        long[] ids = get(userId).ids(type);
+        Set<Long> favorites = new LinkedHashSet<>();
+        for (Long targetId : targetIds) {
+            if (targetId != null && Arrays.binarySearch(ids, targetId) >= 0) {
+                favorites.add(targetId);
+            }
+        }
+        return new ArrayList<>(favorites);
+    }
+
+    // 즐겨찾기 추가/삭제 커밋 후 캐시된 집합 갱신 (캐시에 없으면 다음 조회 때 적재)
+    @TransactionalEventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        cache.updateIfPresent(event.getUserId(), cached -> {
+            long[] ids = cached.ids(event.getFavoriteType());
+            long[] updated = event.isAdded() ? insert(ids, event.getTargetId()) : delete(ids, event.getTargetId());
+            return updated != ids ? cached.with(event.getFavoriteType(), updated) : cached;
+        });
+    }
+
+    private FavoriteIds get(Long userId) {
+        FavoriteIds cached = cache.get(userId);
+        return cached != null ? cached : load(userId);
+    }
+
+    // 사용자의 즐겨찾기 전체를 한 번의 쿼리로 읽어 캐시
+    private FavoriteIds load(Long userId) {
+        long version = cache.version(userId);
+        List<Long> movieIds = new ArrayList<>();
+        List<Long> theaterIds = new ArrayList<>();
+        for (Object[] row : favoriteRepository.findTargetIdsByUserId(userId)) {
+            if (row[0] == FavoriteType.MOVIE && row[1] != null) {
+                movieIds.add((Long) row[1]);
+            } else if (row[0] == FavoriteType.THEATER && row[2] != null) {
+                theaterIds.add((Long) row[2]);
+            }
+        }
+        FavoriteIds loaded = new FavoriteIds(toSortedArray(movieIds), toSortedArray(theaterIds));
+        cache.putIfUnchanged(userId, version, loaded);
+        return loaded;
+    }
+
+    private long[] toSortedArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    // 정렬 순서를 유지하며 추가 (이미 있으면 원래 배열 반환)
+    private long[] insert(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int position = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        updated[position] = id;
+        System.arraycopy(ids, position, updated, position + 1, ids.length - position);
+        return updated;
+    }
+
+    // 정렬 순서를 유지하며 제거 (없으면 원래 배열 반환)
+    private long[] delete(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+}
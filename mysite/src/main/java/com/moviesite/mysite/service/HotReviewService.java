@@ -0,0 +1,299 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ReviewChangedEvent;
+import com.moviesite.mysite.event.ReviewChangedEvent.ChangeType;
+import com.moviesite.mysite.event.ReviewLikedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.entity.Review.ReviewStatus;
+import com.moviesite.mysite.repository.ReviewRepository;
+import com.moviesite.mysite.util.CursorUtil;
+import com.moviesite.mysite.util.ReviewHotScore;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 인기 리뷰 순위 (좋아요 수와 작성 시각으로 점수를 매겨 영화별/전체 상위 K개를 메모리에 유지)
+// 점수는 ReviewHotScore (좋아요 로그 + 작성 시각 항) - 시간이 지나도 점수를 다시 계산할 필요 없음
+@Service
+@RequiredArgsConstructor
+public class HotReviewService {
+
+    private static final Logger log = LoggerFactory.getLogger(HotReviewService.class);
+
+    // 점수 높은 순, 같으면 ID 큰 순
+    private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::reviewId).reversed());
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewLikeCounterService reviewLikeCounterService;
+
+    // 좋아요 10배 차이를 상쇄하는 작성 시각 차이 (초)
+    @Value("${review.hot.decay-seconds:45000}")
+    private long decaySeconds;
+
+    // 영화별 / 전체 순위에 보관할 리뷰 수
+    @Value("${review.hot.movie-capacity:200}")
+    private int movieCapacity;
+
+    @Value("${review.hot.global-capacity:1000}")
+    private int globalCapacity;
+
+    // 재적재 시 후보로 읽을 기간(일)과 최대 리뷰 수
+    @Value("${review.hot.candidate-days:30}")
+    private int candidateDays;
+
+    @Value("${review.hot.candidate-max-reviews:50000}")
+    private int candidateMaxReviews;
+
+    // 순위 정보 (모든 접근은 this로 동기화, 시작 시 적재 전까지는 비어 있음)
+    private TopK global = new TopK(0);
+    private Map<Long, TopK> byMovie = new HashMap<>();
+    private Map<Long, Ranked> tracked = new HashMap<>();
+
+    // 순위에 없는 리뷰 중 다음 조회 때 점수를 계산할 리뷰 (새 리뷰, 순위 밖 리뷰의 좋아요)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    // 순위 항목 (좋아요 수와 작성 시각을 함께 보관해 좋아요 변경 시 점수만 다시 계산)
+    public record Ranked(long reviewId, long movieId, int likes, long createdAt, double score) {
+    }
+
+    // 애플리케이션 시작 시 순위 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 최근 리뷰로 순위 재적재 (메모리에서 누적된 좋아요 수 오차 보정, 적재 중 들어온 변경은 다음 재적재 때 반영)
+    @Scheduled(initialDelayString = "${review.hot.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${review.hot.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        List<Object[]> rows = reviewRepository.findHotCandidates(ReviewStatus.ACTIVE,
+                LocalDateTime.now().minusDays(candidateDays), PageRequest.of(0, candidateMaxReviews));
+
+        TopK rebuiltGlobal = new TopK(globalCapacity);
+        Map<Long, TopK> rebuiltByMovie = new HashMap<>();
+        Map<Long, Ranked> rebuiltTracked = new HashMap<>();
+        for (Object[] row : rows) {
+            Ranked ranked = toRanked(row);
+            offer(ranked, rebuiltGlobal, rebuiltByMovie, rebuiltTracked);
+        }
+
+        synchronized (this) {
+            global = rebuiltGlobal;
+            byMovie = rebuiltByMovie;
+            tracked = rebuiltTracked;
+        }
+        log.info("Hot review ranking rebuilt: {} candidates, {} movies", rows.size(), rebuiltByMovie.size());
+    }
+
+    // 좋아요 추가/취소 커밋 후 점수 반영
+    @TransactionalEventListener
+    public void onReviewLiked(ReviewLikedEvent event) {
+        applyLike(event.getReviewId(), event.getDelta());
+    }
+
+    // 리뷰 작성 시 다음 조회 때 순위에 반영, 삭제/숨김 시 순위에서 제거
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getChangeType() == ChangeType.CREATED) {
+            pending.add(event.getReviewId());
+        } else if (event.getChangeType() == ChangeType.REMOVED) {
+            pending.remove(event.getReviewId());
+            synchronized (this) {
+                remove(event.getReviewId());
+            }
+        }
+    }
+
+    // 인기 리뷰 ID 조회 (movieId가 null이면 전체, 커서 이후 size + 1개를 반환해 다음 페이지 여부 판단)
+    public List<Ranked> getHotReviews(Long movieId, String cursor, int size) {
+        Ranked after = decodeCursor(cursor);
+        resolvePending();
+        synchronized (this) {
+            TopK ranking = movieId != null ? byMovie.get(movieId) : global;
+            if (ranking == null) {
+                return List.of();
+            }
+            return ranking.page(after, size + 1);
+        }
+    }
+
+    // 순위 항목의 다음 페이지 커서
+    public String encodeCursor(Ranked ranked) {
+        return CursorUtil.encode(Double.toString(ranked.score()), ranked.reviewId());
+    }
+
+    private synchronized void applyLike(Long reviewId, long delta) {
+        Ranked current = tracked.get(reviewId);
+        if (current == null) {
+            if (delta > 0) {
+                pending.add(reviewId);
+            }
+            return;
+        }
+        int likes = (int) Math.max(0, current.likes() + delta);
+        offer(new Ranked(current.reviewId(), current.movieId(), likes, current.createdAt(),
+                score(likes, current.createdAt())), global, byMovie, tracked);
+    }
+
+    // 대기 중인 리뷰를 한 번의 쿼리로 읽어 순위에 반영
+    private void resolvePending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        List<Object[]> rows = reviewRepository.findHotCandidatesByIds(ReviewStatus.ACTIVE, ids);
+        synchronized (this) {
+            for (Object[] row : rows) {
+                offer(toRanked(row), global, byMovie, tracked);
+            }
+        }
+    }
+
+    // 전체/영화별 순위에 항목 반영 (어느 순위에도 남지 않으면 추적 중단)
+    private void offer(Ranked ranked, TopK globalRanking, Map<Long, TopK> movieRankings, Map<Long, Ranked> trackedReviews) {
+        boolean inGlobal = globalRanking.offer(ranked);
+        boolean inMovie = movieRankings.computeIfAbsent(ranked.movieId(), id -> new TopK(movieCapacity)).offer(ranked);
+        if (inGlobal || inMovie) {
+            trackedReviews.put(ranked.reviewId(), ranked);
+        } else {
+            trackedReviews.remove(ranked.reviewId());
+        }
+        for (Long evicted : globalRanking.drainEvicted()) {
+            untrackIfAbsent(evicted, globalRanking, movieRankings, trackedReviews);
+        }
+        for (Long evicted : movieRankings.get(ranked.movieId()).drainEvicted()) {
+            untrackIfAbsent(evicted, globalRanking, movieRankings, trackedReviews);
+        }
+    }
+
+    private void untrackIfAbsent(Long reviewId, TopK globalRanking, Map<Long, TopK> movieRankings,
+                                 Map<Long, Ranked> trackedReviews) {
+        Ranked ranked = trackedReviews.get(reviewId);
+        if (ranked == null || globalRanking.contains(reviewId)) {
+            return;
+        }
+        TopK movieRanking = movieRankings.get(ranked.movieId());
+        if (movieRanking == null || !movieRanking.contains(reviewId)) {
+            trackedReviews.remove(reviewId);
+        }
+    }
+
+    private void remove(Long reviewId) {
+        Ranked ranked = tracked.remove(reviewId);
+        if (ranked == null) {
+            return;
+        }
+        global.remove(reviewId);
+        TopK movieRanking = byMovie.get(ranked.movieId());
+        if (movieRanking != null) {
+            movieRanking.remove(reviewId);
+        }
+    }
+
+    private Ranked toRanked(Object[] row) {
+        long reviewId = ((Number) row[0]).longValue();
+        long movieId = ((Number) row[1]).longValue();
+        int likes = reviewLikeCounterService.currentLikes(reviewId, row[2] != null ? ((Number) row[2]).intValue() : 0);
+        long createdAt = ReviewHotScore.toEpochSeconds((LocalDateTime) row[3]);
+        return new Ranked(reviewId, movieId, likes, createdAt, score(likes, createdAt));
+    }
+
+    private double score(int likes, long createdAt) {
+        return ReviewHotScore.score(likes, createdAt, decaySeconds);
+    }
+
+    // 커서 해석 (점수와 ID로 순위 내 위치 표시, 커서가 없으면 null)
+    private Ranked decodeCursor(String cursor) {
+        CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+        if (decoded == null) {
+            return null;
+        }
+        try {
+            return new Ranked(decoded.getId(), 0, 0, 0, Double.parseDouble(decoded.getSortKey()));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다");
+        }
+    }
+
+    // 점수 순 상위 K개 (K를 넘으면 가장 낮은 항목을 내보냄)
+    private static final class TopK {
+
+        private final int capacity;
+        private final TreeSet<Ranked> order = new TreeSet<>(ORDER);
+        private final Map<Long, Ranked> members = new HashMap<>();
+        private final List<Long> evicted = new ArrayList<>();
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        // 항목 추가/갱신 (순위에 남으면 true)
+        boolean offer(Ranked ranked) {
+            remove(ranked.reviewId());
+            if (order.size() >= capacity && !order.isEmpty() && ORDER.compare(ranked, order.last()) > 0) {
+                return false;
+            }
+            order.add(ranked);
+            members.put(ranked.reviewId(), ranked);
+            if (order.size() > capacity) {
+                Ranked lowest = order.pollLast();
+                members.remove(lowest.reviewId());
+                evicted.add(lowest.reviewId());
+            }
+            return members.containsKey(ranked.reviewId());
+        }
+
+        void remove(long reviewId) {
+            Ranked previous = members.remove(reviewId);
+            if (previous != null) {
+                order.remove(previous);
+            }
+        }
+
+        boolean contains(long reviewId) {
+            return members.containsKey(reviewId);
+        }
+
+        // 마지막 offer 이후 순위에서 밀려난 리뷰 ID
+        List<Long> drainEvicted() {
+            if (evicted.isEmpty()) {
+                return List.of();
+            }
+            List<Long> drained = new ArrayList<>(evicted);
+            evicted.clear();
+            return drained;
+        }
+
+        // after 다음 항목부터 limit개 (after가 null이면 처음부터)
+        List<Ranked> page(Ranked after, int limit) {
+            Iterable<Ranked> tail = after != null ? order.tailSet(after, false) : order;
+            List<Ranked> result = new ArrayList<>(limit);
+            for (Ranked ranked : tail) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(ranked);
+            }
+            return result;
+        }
+    }
+}
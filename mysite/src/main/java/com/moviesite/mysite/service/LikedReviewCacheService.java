@@ -0,0 +1,95 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ReviewLikedEvent;
+import com.moviesite.mysite.repository.ReviewLikeRepository;
+import com.moviesite.mysite.util.TtlLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 사용자별 좋아요한 리뷰 ID 집합 캐시 (정렬된 long 배열로 보관, 목록 조회 시 페이지 단위로 한 번에 확인)
+@Service
+@RequiredArgsConstructor
+public class LikedReviewCacheService {
+
+    private final ReviewLikeRepository reviewLikeRepository;
+
+    // 캐시 유효 시간
+    @Value("${review.like.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // 캐시에 보관할 최대 사용자 수
+    @Value("${review.like.cache-max-users:10000}")
+    private int cacheMaxUsers;
+
+    // 사용자별로 캐시할 최대 좋아요 수 (초과하는 사용자는 페이지별 IN 조회로 처리)
+    @Value("${review.like.cache-max-ids-per-user:5000}")
+    private int cacheMaxIdsPerUser;
+
+    // 사용자별 좋아요한 리뷰 ID (접근 순서 기준 LRU)
+    private TtlLruCache<Long, LikedIds> cache;
+
+    // reviewIds: 오름차순 정렬, tooLarge: 캐시 상한 초과 사용자 표시 (reviewIds는 비어 있음)
+    private record LikedIds(long[] reviewIds, boolean tooLarge) {
+
+        boolean contains(long reviewId) {
+            return Arrays.binarySearch(reviewIds, reviewId) >= 0;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = new TtlLruCache<>(Duration.ofSeconds(cacheTtlSeconds), cacheMaxUsers);
+    }
+
+    // 주어진 리뷰 중 사용자가 좋아요한 리뷰 ID (캐시가 없으면 쿼리 1회)
+    public Set<Long> findLikedReviewIds(Long userId, Collection<Long> reviewIds) {
+        if (userId == null || reviewIds.isEmpty()) {
+            return Set.of();
+        }
+
+        LikedIds liked = cache.get(userId);
+        if (liked != null && liked.tooLarge()) {
+            // 좋아요가 많은 사용자는 전체를 읽지 않고 현재 페이지만 조회
+            return new HashSet<>(reviewLikeRepository.findLikedReviewIds(userId, reviewIds));
+        }
+        if (liked == null) {
+            liked = load(userId);
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (Long reviewId : reviewIds) {
+            if (reviewId != null && liked.contains(reviewId)) {
+                result.add(reviewId);
+            }
+        }
+        return result;
+    }
+
+    // 좋아요 추가/취소 커밋 후 사용자 캐시 제거
+    @TransactionalEventListener
+    public void onReviewLiked(ReviewLikedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+
+    // 사용자의 좋아요 전체를 읽어 캐시 (상한 초과 시 표시만 남겨 다음부터 페이지 단위로 조회)
+    private LikedIds load(Long userId) {
+        long version = cache.version(userId);
+        List<Long> ids = reviewLikeRepository.findReviewIdsByUserId(userId);
+
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        boolean tooLarge = sorted.length > cacheMaxIdsPerUser;
+        cache.putIfUnchanged(userId, version, new LikedIds(tooLarge ? new long[0] : sorted, tooLarge));
+        // 이번 조회에는 읽어 온 전체 목록 사용
+        return new LikedIds(sorted, tooLarge);
+    }
+}
@@ -0,0 +1,163 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.dto.response.MovieDetailResponse;
+import com.moviesite.mysite.model.dto.response.MovieResponse;
+import com.moviesite.mysite.model.dto.response.ReviewResponse;
+import com.moviesite.mysite.model.dto.response.ScreeningResponse;
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+public class MovieDetailService {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieDetailService.class);
+
+    private final MovieService movieService;
+    private final ReviewService reviewService;
+    private final ScreeningService screeningService;
+    private final MovieRatingService movieRatingService;
+    private final FavoriteCounterService favoriteCounterService;
+    private final ExecutorService virtualThreadExecutor;
+
+    // 각 항목의 최대 대기 시간 (모든 항목이 동시에 시작하므로 전체 응답 시간의 상한)
+    @Value("${movie.detail.part-timeout-ms:1000}")
+    private long partTimeoutMs;
+
+    // 상세 조회 전체에서 동시에 실행할 수 있는 DB 조회 수 (커넥션 풀 크기보다 작게 유지)
+    @Value("${movie.detail.max-concurrent-queries:6}")
+    private int maxConcurrentQueries;
+
+    // 상세 화면에 포함할 수 있는 최대 리뷰 수
+    @Value("${movie.detail.max-review-size:50}")
+    private int maxReviewSize;
+
+    private Semaphore queryPermits;
+
+    @PostConstruct
+    public void init() {
+        queryPermits = new Semaphore(maxConcurrentQueries);
+    }
+
+    // 영화 상세 화면 데이터 조회 (항목별 병렬 조회, 시간 초과 항목은 제외하고 응답)
+    public MovieDetailResponse getMovieDetail(Long movieId, int reviewSize) {
+        if (reviewSize < 1 || reviewSize > maxReviewSize) {
+            throw new BadRequestException("리뷰 개수는 1개 이상 " + maxReviewSize + "개 이하로 입력해주세요");
+        }
+
+        // 요청 스레드의 인증 정보를 가상 스레드로 전달 (리뷰 좋아요 여부 계산용)
+        // submit이 반환하는 Future는 cancel(true) 시 작업 스레드를 인터럽트하므로 시간 초과 항목의 조회도 중단됨
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(virtualThreadExecutor);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(partTimeoutMs);
+
+        Future<MovieResponse> movie = submitQuery(executor, deadline,
+                () -> movieService.getMovieById(movieId));
+        Future<Page<ReviewResponse>> reviews = submitQuery(executor, deadline,
+                () -> reviewService.getReviewsByMovieId(movieId, false, PageRequest.of(0, reviewSize)));
+        // 메모리 카운터 조회라 DB 조회 허용량을 사용하지 않음
+        Future<Long> favoriteCount = executor.submit(
+                () -> favoriteCounterService.getCount(FavoriteType.MOVIE, movieId));
+        Future<List<ScreeningResponse>> screenings = submitQuery(executor, deadline,
+                () -> screeningService.getScreeningsByMovie(movieId));
+
+        List<String> missingParts = new ArrayList<>();
+
+        // 영화 정보는 필수 항목: 없거나 실패하면 나머지 작업을 취소하고 오류 응답
+        MovieResponse movieResponse;
+        try {
+            movieResponse = movie.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            cancelAll(reviews, favoriteCount, screenings);
+            if (e.getCause() instanceof RejectedExecutionException) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 영화 정보를 조회할 수 없습니다. 잠시 후 다시 시도해주세요");
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            cancelAll(movie, reviews, favoriteCount, screenings);
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "영화 정보 조회 시간이 초과되었습니다");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(movie, reviews, favoriteCount, screenings);
+            throw new IllegalStateException(e);
+        }
+
+        Page<ReviewResponse> reviewPage = await(reviews, "reviews", deadline, missingParts);
+
+        return MovieDetailResponse.builder()
+                .movie(movieResponse)
+                .reviews(reviewPage != null ? reviewPage.getContent() : null)
+                .reviewCount(reviewPage != null ? reviewPage.getTotalElements() : null)
+                .averageRating(movieRatingService.getAverageRating(movieId))
+                .ratingHistogram(movieRatingService.getHistogram(movieId))
+                .favoriteCount(await(favoriteCount, "favoriteCount", deadline, missingParts))
+                .screenings(await(screenings, "screenings", deadline, missingParts))
+                .missingParts(missingParts.isEmpty() ? null : missingParts)
+                .build();
+    }
+
+    // DB 조회 항목 실행 (허용량을 마감 시각까지만 기다리고, 얻지 못하면 RejectedExecutionException으로 실패)
+    private <T> Future<T> submitQuery(ExecutorService executor, long deadline, Callable<T> query) {
+        return executor.submit(() -> {
+            if (!queryPermits.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                throw new RejectedExecutionException("Movie detail query limit reached");
+            }
+            try {
+                return query.call();
+            } finally {
+                queryPermits.release();
+            }
+        });
+    }
+
+    // 남은 시간 안에 결과를 기다리고, 실패하거나 시간이 초과되면 null 반환
+    private <T> T await(Future<T> future, String part, long deadline, List<String> missingParts) {
+        try {
+            return future.get(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Movie detail part '{}' timed out", part);
+        } catch (ExecutionException e) {
+            log.warn("Movie detail part '{}' failed: {}", part, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+        }
+        missingParts.add(part);
+        return null;
+    }
+
+    private long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private void cancelAll(Future<?>... futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
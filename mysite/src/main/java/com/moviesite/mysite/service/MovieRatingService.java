@@ -0,0 +1,188 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ReviewChangedEvent;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.MovieResponse;
+import com.moviesite.mysite.model.dto.response.RatingSummaryResponse;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.model.entity.MovieRatingSummary;
+import com.moviesite.mysite.repository.MovieRatingSummaryRepository;
+import com.moviesite.mysite.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 영화별 관람객 평점 집계 (리뷰 변경 시 요약 테이블에 증감 반영, 조회는 메모리 캐시로 처리)
+@Service
+@RequiredArgsConstructor
+public class MovieRatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieRatingService.class);
+
+    private static final RatingSummary EMPTY = new RatingSummary(0, 0, new int[10]);
+
+    private final MovieRatingSummaryRepository movieRatingSummaryRepository;
+    private final MovieRepository movieRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 영화별 집계 (요약 테이블 복사본)
+    private final Map<Long, RatingSummary> summaries = new ConcurrentHashMap<>();
+
+    // 리뷰 수, 평점 x 2 합계, 평점 x 2 값(1~10)별 리뷰 수 (histogram[0] = 0.5점)
+    private record RatingSummary(int reviewCount, long ratingPoints, int[] histogram) {
+
+        Double average() {
+            if (reviewCount <= 0) {
+                return null;
+            }
+            return BigDecimal.valueOf(ratingPoints)
+                    .divide(BigDecimal.valueOf(reviewCount * 2L), 2, RoundingMode.HALF_UP)
+                    .doubleValue();
+        }
+    }
+
+    // 애플리케이션 시작 시 집계 적재 (요약 테이블이 비어 있으면 리뷰로 재계산)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (movieRatingSummaryRepository.count() == 0) {
+            rebuildSummaries();
+            return;
+        }
+        loadAll();
+    }
+
+    // 리뷰 평점 변경을 요약 테이블에 반영 (리뷰 작성/수정/삭제 트랜잭션 안에서 호출)
+    // previousRating: 변경 전 활성 평점 (새로 작성된 경우 null), rating: 변경 후 활성 평점 (삭제/숨김이면 null)
+    public void applyRatingChange(Long movieId, BigDecimal previousRating, BigDecimal rating) {
+        int removed = toPoints(previousRating);
+        int added = toPoints(rating);
+        if (removed == added) {
+            return;
+        }
+        movieRatingSummaryRepository.applyRatingChange(movieId, added, removed);
+    }
+
+    // 리뷰 변경 커밋 후 해당 영화 집계를 다시 읽어 캐시 갱신
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        movieRatingSummaryRepository.findById(event.getMovieId())
+                .ifPresentOrElse(summary -> summaries.put(summary.getMovieId(), toSummary(summary)),
+                        () -> summaries.remove(event.getMovieId()));
+    }
+
+    // 평균 평점 (리뷰가 없으면 null)
+    public Double getAverageRating(Long movieId) {
+        return summaries.getOrDefault(movieId, EMPTY).average();
+    }
+
+    // 영화 평점 집계 조회
+    public RatingSummaryResponse getRatingSummary(Long movieId) {
+        if (!movieRepository.existsById(movieId)) {
+            throw new ResourceNotFoundException("Movie not found with id: " + movieId);
+        }
+        RatingSummary summary = summaries.getOrDefault(movieId, EMPTY);
+        return RatingSummaryResponse.builder()
+                .movieId(movieId)
+                .reviewCount(summary.reviewCount())
+                .averageRating(summary.average())
+                .histogram(toHistogram(summary))
+                .build();
+    }
+
+    // 평점별 리뷰 수 ("0.5" ~ "5.0")
+    public Map<String, Integer> getHistogram(Long movieId) {
+        return toHistogram(summaries.getOrDefault(movieId, EMPTY));
+    }
+
+    // 영화 응답에 관람객 평점과 리뷰 수 설정
+    public MovieResponse withAudienceRating(MovieResponse response) {
+        RatingSummary summary = summaries.getOrDefault(response.getMovieId(), EMPTY);
+        response.setAudienceRating(summary.average());
+        response.setReviewCount(summary.reviewCount());
+        return response;
+    }
+
+    // 관람객 평점 순 영화 목록 (리뷰 수가 minReviews 이상인 영화, 동점이면 리뷰 수 많은 순)
+    public List<MovieResponse> getTopRatedMovies(int limit, int minReviews) {
+        Map<Long, RatingSummary> ranked = summaries.entrySet().stream()
+                .filter(entry -> entry.getValue().reviewCount() >= Math.max(1, minReviews))
+                .sorted(Comparator
+                        .comparing((Map.Entry<Long, RatingSummary> entry) -> entry.getValue().average(),
+                                Comparator.reverseOrder())
+                        .thenComparing(entry -> entry.getValue().reviewCount(), Comparator.reverseOrder())
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+        Map<Long, Movie> movies = movieRepository.findAllById(ranked.keySet()).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        return ranked.keySet().stream()
+                .map(movies::get)
+                .filter(movie -> movie != null)
+                .map(movie -> withAudienceRating(MovieResponse.fromEntity(movie)))
+                .toList();
+    }
+
+    // 활성 리뷰로 요약 테이블 전체 재계산 후 캐시 다시 적재 (관리자용, 최초 적재 시에도 사용)
+    public int rebuildSummaries() {
+        Integer rows = new TransactionTemplate(transactionManager).execute(status -> {
+            movieRatingSummaryRepository.deleteAllSummaries();
+            return movieRatingSummaryRepository.insertSummariesFromReviews();
+        });
+        loadAll();
+        log.info("Movie rating summaries rebuilt: {} movies", rows);
+        return rows != null ? rows : 0;
+    }
+
+    private void loadAll() {
+        Map<Long, RatingSummary> loaded = movieRatingSummaryRepository.findAll().stream()
+                .collect(Collectors.toMap(MovieRatingSummary::getMovieId, this::toSummary));
+        summaries.keySet().retainAll(loaded.keySet());
+        summaries.putAll(loaded);
+    }
+
+    private RatingSummary toSummary(MovieRatingSummary summary) {
+        int[] histogram = {
+                summary.getBucket1(), summary.getBucket2(), summary.getBucket3(), summary.getBucket4(),
+                summary.getBucket5(), summary.getBucket6(), summary.getBucket7(), summary.getBucket8(),
+                summary.getBucket9(), summary.getBucket10()
+        };
+        return new RatingSummary(Math.max(0, summary.getReviewCount()), Math.max(0, summary.getRatingPoints()),
+                histogram);
+    }
+
+    private Map<String, Integer> toHistogram(RatingSummary summary) {
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (int points = 1; points <= summary.histogram().length; points++) {
+            // 평점 x 2 값 -> 평점 문자열 (1 -> "0.5", 10 -> "5.0")
+            histogram.put(BigDecimal.valueOf(points * 5L, 1).toPlainString(),
+                    Math.max(0, summary.histogram()[points - 1]));
+        }
+        return histogram;
+    }
+
+    // 평점을 0.5점 단위 정수(1~10)로 변환 (null이면 0)
+    private int toPoints(BigDecimal rating) {
+        if (rating == null) {
+            return 0;
+        }
+        int points = rating.multiply(BigDecimal.valueOf(2)).setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(1, Math.min(10, points));
+    }
+}
@@ -3,17 +3,22 @@ package com.moviesite.mysite.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
 import com.moviesite.mysite.model.dto.request.MovieRequest;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
 import com.moviesite.mysite.model.dto.response.MovieResponse;
 import com.moviesite.mysite.model.entity.Movie;
 import com.moviesite.mysite.model.entity.Movie.MovieStatus;
 import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.util.CursorUtil;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,6 +32,7 @@ public class MovieService {
 
 	private final MovieRepository movieRepository;
     private final FileService fileService;
+    private final MovieRatingService movieRatingService;
 
     // 모든 영화 목록 조회 (페이징 처리)
     public Page<MovieResponse> getAllMovies(String title, String status, Pageable pageable) {
@@ -42,7 +48,21 @@ public class MovieService {
             movies = movieRepository.findAll(pageable);
         }
         
-        return movies.map(MovieResponse::fromEntity);
+        return movies.map(this::toResponse);
+    }
+
+    // 모든 영화 목록 조회 (커서 기반 페이징)
+    public CursorPageResponse<MovieResponse> getMoviesByCursor(String title, String status, String cursor,
+                                                               Integer size, boolean withTotal) {
+        CursorUtil.Cursor position = CursorUtil.decodeTimeCursor(cursor);
+        MovieStatus movieStatus = parseStatus(status);
+
+        Slice<Movie> movies = movieRepository.findSliceAfter(title, movieStatus,
+                position.getTimeKey(), position.getId(), PageRequest.of(0, CursorUtil.normalizeSize(size)));
+        Long total = withTotal ? movieRepository.countByFilter(title, movieStatus) : null;
+
+        return CursorPageResponse.of(movies, this::toResponse,
+                movie -> CursorUtil.encode(movie.getCreatedAt(), movie.getId()), total);
     }
 
     // 현재 상영 중인 영화 목록 조회
@@ -52,7 +72,7 @@ public class MovieService {
                 MovieStatus.NOW_SHOWING, today, today);
         
         return movies.stream()
-                .map(MovieResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -63,14 +83,14 @@ public class MovieService {
                 MovieStatus.COMING_SOON, today);
         
         return movies.stream()
-                .map(MovieResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     // 특정 영화 상세 정보 조회
     public MovieResponse getMovieById(Long id) {
         Movie movie = findMovieById(id);
-        return MovieResponse.fromEntity(movie);
+        return toResponse(movie);
     }
 
     // 영화 검색
@@ -79,7 +99,7 @@ public class MovieService {
                 keyword, keyword, keyword);
         
         return movies.stream()
-                .map(MovieResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -172,6 +192,23 @@ public class MovieService {
         return MovieResponse.fromEntity(updatedMovie);
     }
     
+    // 영화 응답 변환 (관람객 평점 포함)
+    private MovieResponse toResponse(Movie movie) {
+        return movieRatingService.withAudienceRating(MovieResponse.fromEntity(movie));
+    }
+    
+    // 영화 상태 필터 해석 (없으면 null)
+    private MovieStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return MovieStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 영화 상태입니다: " + status);
+        }
+    }
+
     // 영화 엔티티 조회 (내부 메서드)
     private Movie findMovieById(Long id) {
         return movieRepository.findById(id)
@@ -245,7 +282,7 @@ public class MovieService {
                 genre, MovieStatus.NOW_SHOWING);
         
         return movies.stream()
-                .map(MovieResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
     
@@ -254,7 +291,7 @@ public class MovieService {
         List<Movie> movies = movieRepository.findByDirectorContaining(director);
         
         return movies.stream()
-                .map(MovieResponse::fromEntity)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 }
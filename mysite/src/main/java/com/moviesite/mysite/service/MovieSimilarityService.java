@@ -0,0 +1,331 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.FavoriteChangedEvent;
+import com.moviesite.mysite.event.ReservationCreatedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.MovieResponse;
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.repository.FavoriteRepository;
+import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.repository.ReservationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class MovieSimilarityService {
+
+    private static final Logger log = LoggerFactory.getLogger(MovieSimilarityService.class);
+
+    // 포크-조인 작업 분할 단위 (영화 수)
+    private static final int BATCH_SIZE = 64;
+
+    // 한 번에 조회할 수 있는 최대 유사 영화 수
+    private static final int MAX_LIMIT = 100;
+
+    private final ReservationRepository reservationRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final MovieRepository movieRepository;
+
+    @Value("${movie.similarity.metric:COSINE}")
+    private SimilarityMetric metric;
+
+    @Value("${movie.similarity.top-k:20}")
+    private int topK;
+
+    // 상호작용 영화 수가 이 값을 넘는 사용자는 동시 출현 계산에서 제외 (헤비 유저 편향 방지)
+    @Value("${movie.similarity.max-user-movies:500}")
+    private int maxUserMovies;
+
+    // 사용자별 예매/즐겨찾기한 영화 집합 (전체 재계산 시 새 맵으로 교체)
+    private volatile Map<Long, Set<Long>> moviesByUser = new ConcurrentHashMap<>();
+
+    // 영화별 예매/즐겨찾기한 사용자 집합 (전체 재계산 시 새 맵으로 교체)
+    private volatile Map<Long, Set<Long>> usersByMovie = new ConcurrentHashMap<>();
+
+    // 상호작용 반영과 맵 교체를 직렬화 (재계산 중 들어온 상호작용은 모아 두었다가 새 맵에 다시 반영)
+    private final Object interactionLock = new Object();
+    private final List<Long[]> interactionsDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+
+    // 영화별 유사 영화 Top-K 목록 (항목 단위로 교체되는 읽기 전용 리스트)
+    private volatile Map<Long, List<SimilarMovie>> neighbors = new ConcurrentHashMap<>();
+
+    // 다음 증분 갱신 때 다시 계산할 영화
+    private final Set<Long> dirtyMovies = ConcurrentHashMap.newKeySet();
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    // 유사도 측정 방식 열거형
+    public enum SimilarityMetric {
+        COSINE, JACCARD
+    }
+
+    // 유사 영화 항목
+    @Getter
+    @AllArgsConstructor
+    public static class SimilarMovie {
+        private final Long movieId;
+        private final double score;
+    }
+
+    // 특정 영화의 유사 영화 목록 조회 (메모리의 Top-K 사용, 없으면 장르 기반으로 대체)
+    @Transactional(readOnly = true)
+    public List<MovieResponse> getSimilarMovies(Long movieId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("조회 개수는 1개 이상 " + MAX_LIMIT + "개 이하로 입력해주세요");
+        }
+        List<SimilarMovie> similar = getNeighbors(movieId, limit);
+
+        if (similar.isEmpty()) {
+            Movie movie = movieRepository.findById(movieId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Movie not found with id: " + movieId));
+            List<String> genres = movie.getGenreList();
+            if (genres.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return movieRepository.findSimilarMovies(genres.get(0).trim(), movieId, PageRequest.of(0, limit)).stream()
+                    .map(MovieResponse::fromEntity)
+                    .collect(Collectors.toList());
+        }
+
+        // 한 번의 조회로 영화 정보를 가져온 뒤 유사도 순서 유지
+        List<Long> ids = similar.stream().map(SimilarMovie::getMovieId).collect(Collectors.toList());
+        Map<Long, Movie> movies = movieRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+
+        return ids.stream()
+                .map(movies::get)
+                .filter(movie -> movie != null)
+                .map(MovieResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    // 특정 영화의 유사 영화 ID와 점수 조회 (메모리 조회만 수행)
+    public List<SimilarMovie> getNeighbors(Long movieId, int limit) {
+        List<SimilarMovie> similar = neighbors.getOrDefault(movieId, Collections.emptyList());
+        return similar.size() > limit ? similar.subList(0, Math.max(limit, 0)) : similar;
+    }
+
+    // 애플리케이션 시작 시 전체 유사도 계산
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        pool.execute(this::rebuildAll);
+    }
+
+    // 매일 새벽 전체 유사도 재계산 (증분 갱신으로 반영되지 않는 즐겨찾기 삭제, 예매 취소 정리)
+    @Scheduled(cron = "${movie.similarity.rebuild-cron:0 30 3 * * ?}")
+    public void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (interactionLock) {
+            rebuilding = true;
+            interactionsDuringRebuild.clear();
+        }
+
+        // 조회 중에도 기존 맵으로 증분 갱신이 계속되도록 새 맵을 만든 뒤 교체
+        Map<Long, Set<Long>> userMovies = new ConcurrentHashMap<>();
+        Map<Long, Set<Long>> movieUsers = new ConcurrentHashMap<>();
+        try {
+            List<Object[]> pairs = new ArrayList<>(reservationRepository.findUserMoviePairs());
+            pairs.addAll(favoriteRepository.findUserMoviePairs());
+            for (Object[] pair : pairs) {
+                addInteraction(userMovies, movieUsers, (Long) pair[0], (Long) pair[1]);
+            }
+        } finally {
+            synchronized (interactionLock) {
+                // 조회 결과에 빠졌을 수 있는 상호작용을 새 맵에 반영 (중복은 집합이라 무시됨)
+                for (Long[] interaction : interactionsDuringRebuild) {
+                    addInteraction(userMovies, movieUsers, interaction[0], interaction[1]);
+                }
+                moviesByUser = userMovies;
+                usersByMovie = movieUsers;
+                dirtyMovies.clear();
+                rebuilding = false;
+                interactionsDuringRebuild.clear();
+            }
+        }
+
+        Map<Long, List<SimilarMovie>> rebuilt = new ConcurrentHashMap<>();
+        computeInParallel(movieUsers.keySet(), rebuilt);
+        neighbors = rebuilt;
+
+        log.info("Movie similarity rebuilt: {} movies, {} users, {} ms",
+                movieUsers.size(), userMovies.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 변경된 영화만 주기적으로 재계산
+    @Scheduled(fixedDelayString = "${movie.similarity.refresh-interval-ms:60000}")
+    public void refreshDirty() {
+        if (dirtyMovies.isEmpty()) {
+            return;
+        }
+        List<Long> targets = new ArrayList<>(dirtyMovies);
+        dirtyMovies.removeAll(targets);
+        computeInParallel(targets, neighbors);
+    }
+
+    // 예매 완료 시 사용자-영화 상호작용 반영
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        recordInteraction(event.getUserId(), event.getMovieId());
+    }
+
+    // 영화 즐겨찾기 추가 시 사용자-영화 상호작용 반영 (삭제는 야간 재계산에서 정리)
+    @TransactionalEventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        if (event.getFavoriteType() == FavoriteType.MOVIE && event.isAdded()) {
+            recordInteraction(event.getUserId(), event.getTargetId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // 상호작용 추가 후 동시 출현 값이 바뀐 영화를 재계산 대상으로 표시
+    private void recordInteraction(Long userId, Long movieId) {
+        synchronized (interactionLock) {
+            if (rebuilding) {
+                interactionsDuringRebuild.add(new Long[]{userId, movieId});
+            }
+            Set<Long> userMovies = addInteraction(moviesByUser, usersByMovie, userId, movieId);
+            if (userMovies != null) {
+                dirtyMovies.addAll(userMovies);
+            }
+        }
+    }
+
+    // 사용자-영화 상호작용 추가 (새로 추가되면 사용자의 영화 집합, 이미 있으면 null 반환)
+    private Set<Long> addInteraction(Map<Long, Set<Long>> userMovies, Map<Long, Set<Long>> movieUsers,
+                                     Long userId, Long movieId) {
+        Set<Long> movies = userMovies.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet());
+        if (!movies.add(movieId)) {
+            return null;
+        }
+        movieUsers.computeIfAbsent(movieId, key -> ConcurrentHashMap.newKeySet()).add(userId);
+        return movies;
+    }
+
+    // 포크-조인 풀에서 영화별 Top-K 계산
+    private void computeInParallel(Iterable<Long> movieIds, Map<Long, List<SimilarMovie>> target) {
+        List<Long> ids = new ArrayList<>();
+        movieIds.forEach(ids::add);
+        pool.invoke(new TopKTask(ids, 0, ids.size(), target));
+    }
+
+    // 영화 하나의 유사 영화 Top-K 계산
+    private List<SimilarMovie> computeNeighbors(Long movieId) {
+        Set<Long> users = usersByMovie.getOrDefault(movieId, Collections.emptySet());
+        if (users.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 희소 동시 출현 행 계산: 이 영화를 본 사용자들이 함께 본 영화별 횟수
+        Map<Long, Integer> coCounts = new HashMap<>();
+        for (Long userId : users) {
+            Set<Long> userMovies = moviesByUser.getOrDefault(userId, Collections.emptySet());
+            if (userMovies.size() > maxUserMovies) {
+                continue;
+            }
+            for (Long other : userMovies) {
+                if (!other.equals(movieId)) {
+                    coCounts.merge(other, 1, Integer::sum);
+                }
+            }
+        }
+
+        // 최소 힙으로 상위 K개만 유지
+        int size = users.size();
+        PriorityQueue<SimilarMovie> heap = new PriorityQueue<>(
+                (a, b) -> Double.compare(a.getScore(), b.getScore()));
+        for (Map.Entry<Long, Integer> entry : coCounts.entrySet()) {
+            int otherSize = usersByMovie.getOrDefault(entry.getKey(), Collections.emptySet()).size();
+            double score = score(entry.getValue(), size, otherSize);
+            if (heap.size() < topK) {
+                heap.offer(new SimilarMovie(entry.getKey(), score));
+            } else if (score > heap.peek().getScore()) {
+                heap.poll();
+                heap.offer(new SimilarMovie(entry.getKey(), score));
+            }
+        }
+
+        List<SimilarMovie> result = new ArrayList<>(heap);
+        result.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return Collections.unmodifiableList(result);
+    }
+
+    // 유사도 점수 계산
+    private double score(int coCount, int sizeA, int sizeB) {
+        if (sizeA == 0 || sizeB == 0) {
+            return 0;
+        }
+        if (metric == SimilarityMetric.JACCARD) {
+            return (double) coCount / (sizeA + sizeB - coCount);
+        }
+        return coCount / Math.sqrt((double) sizeA * sizeB);
+    }
+
+    // 영화 ID 구간을 나누어 병렬로 Top-K를 계산하는 작업
+    private class TopKTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Long> movieIds;
+        private final int from;
+        private final int to;
+        private final transient Map<Long, List<SimilarMovie>> target;
+
+        TopKTask(List<Long> movieIds, int from, int to, Map<Long, List<SimilarMovie>> target) {
+            this.movieIds = movieIds;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    Long movieId = movieIds.get(i);
+                    List<SimilarMovie> similar = computeNeighbors(movieId);
+                    if (similar.isEmpty()) {
+                        target.remove(movieId);
+                    } else {
+                        target.put(movieId, similar);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new TopKTask(movieIds, from, mid, target), new TopKTask(movieIds, mid, to, target));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.TheaterChangedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.dto.response.NearbyTheaterResponse;
+import com.moviesite.mysite.model.dto.response.NearbyTheaterResponse.ShowtimeResponse;
+import com.moviesite.mysite.model.entity.Theater;
+import com.moviesite.mysite.repository.TheaterRepository;
+import com.moviesite.mysite.service.ScheduleIndexService.Slot;
+import com.moviesite.mysite.util.GeoGridIndex;
+import com.moviesite.mysite.util.GeoGridIndex.Neighbor;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 위치 기반 극장 검색 (극장 좌표 격자 인덱스와 상영 일정 메모리 인덱스를 결합, DB 조회 없음)
+@Service
+@RequiredArgsConstructor
+public class NearbyTheaterService {
+
+    private static final Logger log = LoggerFactory.getLogger(NearbyTheaterService.class);
+
+    private static final int MAX_LIMIT = 50;
+
+    private final TheaterRepository theaterRepository;
+    private final ScheduleIndexService scheduleIndexService;
+
+    // 격자 셀 크기 (도 단위, 0.05도는 위도 방향 약 5.6km)
+    @Value("${theater.geo.cell-degrees:0.05}")
+    private double cellDegrees;
+
+    // 기본 검색 반경 (km)
+    @Value("${theater.geo.max-distance-km:50}")
+    private double defaultMaxDistanceKm;
+
+    // 극장 좌표 인덱스 (재구성 시 통째로 교체)
+    private volatile GeoGridIndex<NearbyTheaterResponse> index = new GeoGridIndex<>(0.05);
+
+    // 특정 영화를 기간 내에 예매할 수 있는 가장 가까운 극장 목록 조회
+    public List<NearbyTheaterResponse> findNearestTheaters(Long movieId, double latitude, double longitude,
+            LocalDateTime from, LocalDateTime to, int limit, Double maxDistanceKm) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("유효하지 않은 좌표입니다");
+        }
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(1);
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("검색 시작 시간은 종료 시간보다 이전이어야 합니다");
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        double radius = maxDistanceKm != null && maxDistanceKm > 0 ? maxDistanceKm : defaultMaxDistanceKm;
+
+        // 영화를 상영하는 극장만 후보로 두고 격자 인덱스에서 가까운 순으로 탐색
+        Map<Long, List<Slot>> slotsByTheater = scheduleIndexService.findSlotsByTheater(movieId, start, end);
+        if (slotsByTheater.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Neighbor<NearbyTheaterResponse>> nearest = index.nearest(latitude, longitude, size, radius,
+                theater -> slotsByTheater.containsKey(theater.getTheaterId()));
+
+        return nearest.stream()
+                .map(neighbor -> toResponse(neighbor, slotsByTheater.get(neighbor.getValue().getTheaterId())))
+                .collect(Collectors.toList());
+    }
+
+    // 애플리케이션 시작 시 극장 좌표 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuildIndex();
+    }
+
+    // 극장 등록/수정/삭제 시 인덱스 재구성 (극장 수가 적어 전체 재구성으로 처리)
+    @TransactionalEventListener
+    public void onTheaterChanged(TheaterChangedEvent event) {
+        rebuildIndex();
+    }
+
+    // 좌표가 등록된 극장으로 격자 인덱스 재구성
+    public void rebuildIndex() {
+        GeoGridIndex<NearbyTheaterResponse> rebuilt = new GeoGridIndex<>(cellDegrees);
+        for (Theater theater : theaterRepository.findByLatitudeIsNotNullAndLongitudeIsNotNull()) {
+            rebuilt.add(theater.getLatitude(), theater.getLongitude(), NearbyTheaterResponse.builder()
+                    .theaterId(theater.getId())
+                    .name(theater.getName())
+                    .location(theater.getLocation())
+                    .address(theater.getAddress())
+                    .latitude(theater.getLatitude())
+                    .longitude(theater.getLongitude())
+                    .build());
+        }
+        index = rebuilt;
+        log.debug("Theater geo index rebuilt: {} theaters", rebuilt.size());
+    }
+
+    // 인덱스 항목은 공유되므로 응답마다 새 객체로 복사
+    private NearbyTheaterResponse toResponse(Neighbor<NearbyTheaterResponse> neighbor, List<Slot> slots) {
+        NearbyTheaterResponse theater = neighbor.getValue();
+        return NearbyTheaterResponse.builder()
+                .theaterId(theater.getTheaterId())
+                .name(theater.getName())
+                .location(theater.getLocation())
+                .address(theater.getAddress())
+                .latitude(theater.getLatitude())
+                .longitude(theater.getLongitude())
+                .distanceKm(Math.round(neighbor.getDistanceKm() * 100) / 100.0)
+                .showtimes(slots.stream()
+                        .map(slot -> ShowtimeResponse.builder()
+                                .scheduleId(slot.getScheduleId())
+                                .screenId(slot.getScreenId())
+                                .startTime(slot.getStartTime())
+                                .endTime(slot.getEndTime())
+                                .price(slot.getPrice())
+                                .availableSeats(slot.getAvailableSeats())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
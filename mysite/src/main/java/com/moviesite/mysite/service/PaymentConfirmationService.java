@@ -0,0 +1,176 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.request.PaymentWebhookRequest;
+import com.moviesite.mysite.model.entity.Payment;
+import com.moviesite.mysite.model.entity.Payment.PaymentStatus;
+import com.moviesite.mysite.model.entity.Reservation;
+import com.moviesite.mysite.repository.PaymentRepository;
+import com.moviesite.mysite.repository.ReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+
+// PG 응답/웹훅/상태 조회로 결제 상태 확정 (PENDING -> COMPLETED/FAILED 조건부 변경이라 같은 알림이 여러 번 와도 한 번만 반영)
+// 이미 실패/환불된 결제에 승인 알림이 오면 고객 돈만 빠져나간 상태이므로 경고와 지표로 드러냄
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentConfirmationService.class);
+
+    private final PaymentRepository paymentRepository;
+    private final ReservationRepository reservationRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 웹훅 서명 키 (PG와 공유, 환경 변수로만 설정 - 모의 PG에서는 비어 있으면 실행마다 새로 생성)
+    @Value("${payment.gateway.webhook-secret:}")
+    private String webhookSecret;
+
+    // PG 구현체 (simulator가 아니면 서명 키 필수)
+    @Value("${payment.gateway.type:simulator}")
+    private String gatewayType;
+
+    @PostConstruct
+    public void init() {
+        if (webhookSecret != null && !webhookSecret.isBlank()) {
+            return;
+        }
+        if (!"simulator".equals(gatewayType)) {
+            throw new IllegalStateException("payment.gateway.webhook-secret must be set when payment.gateway.type is "
+                    + gatewayType);
+        }
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        webhookSecret = HexFormat.of().formatHex(key);
+        log.info("No payment webhook secret configured, generated a random one for the simulator");
+    }
+
+    // PG가 승인 요청을 접수한 경우 거래 번호만 기록 (완료는 웹훅으로 확정)
+    @Transactional
+    public void onChargeAccepted(Long paymentId, String transactionId) {
+        paymentRepository.assignTransactionId(paymentId, transactionId);
+    }
+
+    // PG가 승인 요청을 거절했거나 승인 기록이 없는 경우 실패 처리 (예매는 대기 상태로 남아 다시 결제 가능)
+    @Transactional
+    public void onChargeFailed(Long paymentId, String transactionId, String reason) {
+        if (paymentRepository.failPending(paymentId, transactionId) > 0) {
+            log.info("Payment {} failed: {}", paymentId, reason);
+        }
+    }
+
+    // PG 승인 확정 (웹훅 또는 상태 조회 결과, 금액 확인 후 완료 처리하고 예매 확정)
+    // 승인 금액이 다르면 실패 처리하고 경고/지표로 드러냄 (대기 상태로 두면 정리 작업이 매번 같은 결제를 다시 확인)
+    @Transactional
+    public void onChargeApproved(Long paymentId, String transactionId, BigDecimal amount) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Payment not found with id: " + paymentId));
+        if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            onLateApproval(payment, transactionId);
+            return;
+        }
+        if (amount == null || payment.getAmount().compareTo(amount) != 0) {
+            if (paymentRepository.failPending(paymentId, transactionId) > 0) {
+                log.warn("Payment {} approved with amount {} instead of {}, marked failed and refund required",
+                        paymentId, amount, payment.getAmount());
+                meterRegistry.counter("payment.gateway.status-conflicts", "reported", "AMOUNT_MISMATCH").increment();
+            }
+            return;
+        }
+        if (paymentRepository.completePending(paymentId, transactionId, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        // 예매 상태 업데이트
+        Reservation reservation = payment.getReservation();
+        reservation.setPaymentMethod(payment.getPaymentMethod());
+        reservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
+        reservation.setPaymentStatus(Reservation.PaymentStatus.PAID);
+        reservationRepository.save(reservation);
+    }
+
+    // 결제 결과 웹훅 처리 (서명, 거래 번호 확인 후 반영)
+    // 거래 번호가 아직 기록되지 않았으면 거절 (PG가 다시 보내고, 끝내 확인되지 않으면 대기 결제 정리 작업이 상태 조회로 확정)
+    @Transactional
+    public void handleWebhook(PaymentWebhookRequest request) {
+        PaymentStatus status = parseStatus(request.getStatus());
+        String expected = sign(request.getPaymentId(), request.getTransactionId(), status, request.getAmount());
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                request.getSignature().getBytes(StandardCharsets.UTF_8))) {
+            throw new BadRequestException("결제 알림 서명이 올바르지 않습니다");
+        }
+
+        Payment payment = paymentRepository.findById(request.getPaymentId())
+                .orElseThrow(() -> new ResourceNotFoundException("Payment not found with id: " + request.getPaymentId()));
+        if (payment.getTransactionId() == null) {
+            throw new BadRequestException("결제 알림을 확인할 거래 번호가 아직 없습니다");
+        }
+        if (!payment.getTransactionId().equals(request.getTransactionId())) {
+            throw new BadRequestException("결제 알림의 거래 번호가 일치하지 않습니다");
+        }
+
+        if (status == PaymentStatus.COMPLETED) {
+            onChargeApproved(payment.getId(), request.getTransactionId(), request.getAmount());
+        } else if (payment.getPaymentStatus() == PaymentStatus.PENDING) {
+            onChargeFailed(payment.getId(), request.getTransactionId(), request.getMessage());
+        } else if (payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
+            log.warn("Payment {} is COMPLETED but PG reported failure: {}", payment.getId(), request.getMessage());
+            meterRegistry.counter("payment.gateway.status-conflicts", "reported", "FAILED").increment();
+        }
+    }
+
+    // 대기 상태가 아닌 결제의 승인 알림 (같은 거래의 중복 알림이 아니면 고객은 결제되었는데 예매는 확정되지 않은 상태 - 환불 확인 필요)
+    private void onLateApproval(Payment payment, String transactionId) {
+        if (payment.getPaymentStatus() == PaymentStatus.COMPLETED
+                && Objects.equals(transactionId, payment.getTransactionId())) {
+            log.debug("Payment {} already completed, duplicate approval ignored", payment.getId());
+            return;
+        }
+        log.warn("Payment {} is {} but PG approved transaction {}, refund required",
+                payment.getId(), payment.getPaymentStatus(), transactionId);
+        meterRegistry.counter("payment.gateway.status-conflicts", "reported", "APPROVED").increment();
+    }
+
+    // 웹훅 서명 (HMAC-SHA256, 금액은 소수 둘째 자리까지 고정해 표현 차이로 서명이 달라지지 않도록 함)
+    public String sign(Long paymentId, String transactionId, PaymentStatus status, BigDecimal amount) {
+        String payload = paymentId + ":" + transactionId + ":" + status.name() + ":"
+                + amount.setScale(2, RoundingMode.HALF_UP).toPlainString();
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign payment webhook", e);
+        }
+    }
+
+    // 웹훅으로 받을 수 있는 상태는 완료/실패뿐
+    private PaymentStatus parseStatus(String status) {
+        if (PaymentStatus.COMPLETED.name().equals(status)) {
+            return PaymentStatus.COMPLETED;
+        }
+        if (PaymentStatus.FAILED.name().equals(status)) {
+            return PaymentStatus.FAILED;
+        }
+        throw new BadRequestException("지원하지 않는 결제 알림 상태입니다: " + status);
+    }
+}
@@ -0,0 +1,32 @@
+package com.moviesite.mysite.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+// 외부 PG(결제 대행사) 연동 (승인 요청은 PaymentGatewayClient가 가상 스레드에서 호출, 최종 결과는 웹훅 또는 상태 조회로 확정)
+public interface PaymentGateway {
+
+    // 승인 요청 (paymentId: 가맹점 주문 번호로 전달해 웹훅에서 결제를 찾는 데 사용)
+    record ChargeRequest(Long paymentId, BigDecimal amount, String paymentMethod, String cardCompany,
+                         String cardNumber, Integer installment) {
+    }
+
+    // 승인 요청 접수 결과 (accepted가 false면 PG가 거절한 결제, transactionId는 PG 거래 번호)
+    record ChargeResult(boolean accepted, String transactionId, String message) {
+    }
+
+    // PG 거래 상태 (NOT_FOUND: PG가 승인 요청을 받은 기록이 없음)
+    enum ChargeStatus {
+        APPROVED, DECLINED, PROCESSING, NOT_FOUND
+    }
+
+    // 거래 상태 조회 결과 (APPROVED면 transactionId와 승인 금액 포함)
+    record StatusResult(ChargeStatus status, String transactionId, BigDecimal amount, String message) {
+    }
+
+    // 승인 요청 (timeout 안에 응답하지 못하면 호출하는 쪽에서 중단하므로 구현체도 같은 시간을 연결/응답 제한으로 사용)
+    ChargeResult charge(ChargeRequest request, Duration timeout) throws Exception;
+
+    // 가맹점 주문 번호(paymentId)로 거래 상태 조회 (응답이나 웹훅을 받지 못한 결제 확정용)
+    StatusResult inquire(Long paymentId, Duration timeout) throws Exception;
+}
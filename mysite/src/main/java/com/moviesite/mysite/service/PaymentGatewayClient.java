@@ -0,0 +1,131 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.service.PaymentGateway.ChargeRequest;
+import com.moviesite.mysite.service.PaymentGateway.ChargeResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// PG 승인 요청 (요청 스레드는 동시 호출 허용량만 확인하고 바로 반환, 실제 호출은 가상 스레드에서 제한 시간 안에 수행)
+// 동시 호출 허용량(bulkhead)을 넘으면 즉시 거절해 PG가 느려져도 대기 중인 호출이 무한히 쌓이지 않도록 함
+@Service
+@RequiredArgsConstructor
+public class PaymentGatewayClient {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentGatewayClient.class);
+
+    private final PaymentGateway paymentGateway;
+    private final PaymentConfirmationService confirmationService;
+    private final ExecutorService virtualThreadExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 동시에 진행할 수 있는 최대 PG 호출 수
+    @Value("${payment.gateway.max-concurrent-calls:200}")
+    private int maxConcurrentCalls;
+
+    // PG 호출 1회 제한 시간 (ms)
+    @Value("${payment.gateway.call-timeout-ms:5000}")
+    private long callTimeoutMs;
+
+    private Semaphore permits;
+    private Timer callTimer;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrentCalls);
+        callTimer = Timer.builder("payment.gateway.call")
+                .description("PG 승인 요청 처리 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("payment.gateway.available-permits", permits, Semaphore::availablePermits);
+    }
+
+    // 승인 요청 예약 (트랜잭션 안이면 커밋 후 호출하고 롤백되면 허용량 반환)
+    public void requestCharge(ChargeRequest request) {
+        if (!permits.tryAcquire()) {
+            meterRegistry.counter("payment.gateway.calls", "outcome", "rejected").increment();
+            throw new BadRequestException("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(request);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    dispatch(request);
+                } else {
+                    permits.release();
+                }
+            }
+        });
+    }
+
+    // 가상 스레드에서 호출 후 결과 반영 (허용량은 호출이 끝나거나 제한 시간이 지나면 반환)
+    private void dispatch(ChargeRequest request) {
+        try {
+            virtualThreadExecutor.execute(() -> {
+                try {
+                    call(request);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 종료 중이라 실행기가 작업을 받지 않는 경우 (결제는 대기 상태로 남아 대기 결제 정리 작업이 확정)
+            permits.release();
+            log.error("Payment {} charge could not be dispatched", request.paymentId(), e);
+        }
+    }
+
+    private void call(ChargeRequest request) {
+        long startedAt = System.nanoTime();
+        Duration timeout = Duration.ofMillis(callTimeoutMs);
+        Future<ChargeResult> future = virtualThreadExecutor.submit(() -> paymentGateway.charge(request, timeout));
+        String outcome;
+        try {
+            ChargeResult result = future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+            if (result.accepted()) {
+                outcome = "accepted";
+                confirmationService.onChargeAccepted(request.paymentId(), result.transactionId());
+            } else {
+                outcome = "declined";
+                confirmationService.onChargeFailed(request.paymentId(), result.transactionId(), result.message());
+            }
+        } catch (TimeoutException e) {
+            // PG에서는 승인되었을 수 있으므로 실패 처리하지 않고 웹훅/상태 조회를 기다림
+            future.cancel(true);
+            outcome = "timeout";
+            log.warn("Payment {} charge timed out after {} ms, waiting for webhook", request.paymentId(), callTimeoutMs);
+        } catch (ExecutionException e) {
+            // 전송 오류는 PG가 요청을 받았는지 알 수 없으므로 시간 초과와 같이 대기 상태로 두고 웹훅/상태 조회로 확정
+            outcome = "error";
+            log.warn("Payment {} charge outcome unknown, left pending", request.paymentId(), e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } catch (RuntimeException e) {
+            outcome = "error";
+            log.error("Payment {} charge result could not be saved", request.paymentId(), e);
+        }
+        callTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("payment.gateway.calls", "outcome", outcome).increment();
+    }
+}
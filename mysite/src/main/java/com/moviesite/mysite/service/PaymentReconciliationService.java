@@ -0,0 +1,384 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.dto.response.PaymentDiscrepancyResponse;
+import com.moviesite.mysite.model.entity.PaymentDiscrepancy;
+import com.moviesite.mysite.model.entity.PaymentDiscrepancy.DiscrepancyType;
+import com.moviesite.mysite.repository.PaymentDiscrepancyRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 결제/예매 대사 (예매 ID 순 커서와 결제의 예매 ID 순 커서를 병합 조인해 한 번씩만 읽음)
+// 예매 하나의 결제는 누적 값만 유지하므로 메모리 사용량은 데이터 양과 무관, 예매 ID 구간별로 나누어 병렬 실행
+// 두 커서는 서로 다른 연결에서 읽으므로 실행 중 변경된 결제는 불일치로 기록될 수 있음 (다음 실행에서 해소되는지 확인)
+// DB 연결은 구간마다 커서용 2개와 모든 구간이 함께 쓰는 저장용 1개 (커넥션 풀의 절반을 넘지 않도록 구간 수 제한)
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconciliationService.class);
+
+    private static final String RESERVATION_CURSOR_SQL = "SELECT id, total_price, status, payment_status "
+            + "FROM reservations WHERE id >= ? AND id < ? ORDER BY id";
+
+    // payments.reservation_id 외래 키 인덱스 순서로 읽음
+    private static final String PAYMENT_CURSOR_SQL = "SELECT reservation_id, id, amount, discount_amount, payment_status, created_at "
+            + "FROM payments WHERE reservation_id >= ? AND reservation_id < ? ORDER BY reservation_id, id";
+
+    private static final String INSERT_DISCREPANCY_SQL = "INSERT INTO payment_discrepancies (run_id, discrepancy_type, "
+            + "reservation_id, payment_id, reservation_amount, payment_amount, reservation_status, "
+            + "reservation_payment_status, payment_status, detail, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW())";
+
+    private final PaymentDiscrepancyRepository paymentDiscrepancyRepository;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService virtualThreadExecutor;
+
+    // 동시에 대사할 예매 ID 구간 수 (구간마다 커서용 DB 연결 2개 사용, 커넥션 풀 크기에 맞춰 줄어들 수 있음)
+    @Value("${payment.reconciliation.parallelism:4}")
+    private int parallelism;
+
+    // 커서가 한 번에 가져오는 행 수
+    @Value("${payment.reconciliation.fetch-size:1000}")
+    private int fetchSize;
+
+    // 불일치 저장 배치 크기
+    @Value("${payment.reconciliation.batch-size:500}")
+    private int batchSize;
+
+    // 이 시간(분)보다 오래 대기 중인 결제는 불일치로 기록
+    @Value("${payment.reconciliation.pending-timeout-minutes:30}")
+    private long pendingTimeoutMinutes;
+
+    // 불일치 기록 보관 기간 (일)
+    @Value("${payment.reconciliation.retention-days:30}")
+    private int retentionDays;
+
+    // 중복 실행 방지 (스케줄과 관리자 실행이 겹치는 경우)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 구간 하나의 대사 결과
+    private record PartitionResult(long reservations, long payments, long discrepancies) {
+    }
+
+    // 매일 새벽 대사 실행 (예약 작업 스레드를 오래 점유하지 않도록 가상 스레드에서 실행)
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 3 * * *}")
+    public void scheduledReconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Payment reconciliation already running, skipped");
+            return;
+        }
+        String runId = UUID.randomUUID().toString();
+        try {
+            virtualThreadExecutor.execute(() -> runExclusively(runId));
+        } catch (RuntimeException e) {
+            running.set(false);
+            log.error("Payment reconciliation {} could not be started", runId, e);
+        }
+    }
+
+    // 관리자: 대사 실행 시작 후 실행 ID 반환 (결과는 불일치 조회로 확인)
+    public String startReconciliation() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BadRequestException("결제 대사 작업이 이미 실행 중입니다");
+        }
+        String runId = UUID.randomUUID().toString();
+        try {
+            virtualThreadExecutor.execute(() -> runExclusively(runId));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return runId;
+    }
+
+    // 관리자: 대사 실행별 불일치 조회 (실행 ID가 없으면 가장 최근에 불일치가 기록된 실행)
+    public Page<PaymentDiscrepancyResponse> getDiscrepancies(String runId, String type, Pageable pageable) {
+        String targetRunId = runId != null ? runId : paymentDiscrepancyRepository.findFirstByOrderByIdDesc()
+                .map(PaymentDiscrepancy::getRunId)
+                .orElse("");
+        Page<PaymentDiscrepancy> discrepancies = type != null
+                ? paymentDiscrepancyRepository.findByRunIdAndDiscrepancyType(targetRunId, DiscrepancyType.valueOf(type), pageable)
+                : paymentDiscrepancyRepository.findByRunId(targetRunId, pageable);
+        return discrepancies.map(PaymentDiscrepancyResponse::fromEntity);
+    }
+
+    private void runExclusively(String runId) {
+        try {
+            reconcile(runId);
+        } catch (SQLException | RuntimeException e) {
+            log.error("Payment reconciliation {} failed", runId, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reconcile(String runId) throws SQLException {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Integer purged = new TransactionTemplate(transactionManager).execute(status ->
+                paymentDiscrepancyRepository.deleteCreatedBefore(now.minusDays(retentionDays)));
+        LocalDateTime pendingCutoff = now.minusMinutes(pendingTimeoutMinutes);
+
+        // 결제의 예매 ID 범위까지 포함해야 예매가 없는 결제도 확인 가능
+        long[] reservationRange = idRange("SELECT MIN(id), MAX(id) FROM reservations");
+        long[] paymentRange = idRange("SELECT MIN(reservation_id), MAX(reservation_id) FROM payments");
+        long from = Math.min(reservationRange[0], paymentRange[0]);
+        long to = Math.max(reservationRange[1], paymentRange[1]) + 1;
+        if (from >= to) {
+            log.info("Payment reconciliation {} finished: no reservations", runId);
+            return;
+        }
+
+        // 예매 ID 범위를 같은 크기의 구간으로 나누어 병렬 실행
+        int partitions = (int) Math.max(1, Math.min(maxPartitions(), to - from));
+        long width = (to - from + partitions - 1) / partitions;
+        List<Future<PartitionResult>> futures = new ArrayList<>(partitions);
+        long reservations = 0;
+        long payments = 0;
+        long discrepancies = 0;
+        Lock writeLock = new ReentrantLock();
+        try (Connection writeConnection = dataSource.getConnection()) {
+            for (long start = from; start < to; start += width) {
+                long lower = start;
+                long upper = Math.min(to, start + width);
+                futures.add(virtualThreadExecutor.submit(() ->
+                        reconcileRange(new DiscrepancyWriter(runId, writeConnection, writeLock), lower, upper, pendingCutoff)));
+            }
+            for (Future<PartitionResult> future : futures) {
+                PartitionResult result = future.get();
+                reservations += result.reservations();
+                payments += result.payments();
+                discrepancies += result.discrepancies();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Payment reconciliation interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Payment reconciliation partition failed", e.getCause());
+        }
+        log.info("Payment reconciliation {} finished: {} reservations, {} payments, {} discrepancies "
+                        + "in {} partitions, {} old records purged, {} ms", runId, reservations, payments, discrepancies,
+                futures.size(), purged, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 예매 ID [lower, upper) 구간 병합 조인 (두 커서 모두 예매 ID 오름차순, 전방 읽기 전용)
+    private PartitionResult reconcileRange(DiscrepancyWriter writer, long lower, long upper, LocalDateTime pendingCutoff)
+            throws SQLException {
+        long reservationCount = 0;
+        long paymentCount = 0;
+        try (Connection reservationConnection = dataSource.getConnection();
+             Connection paymentConnection = dataSource.getConnection();
+             PreparedStatement reservationStatement = openCursor(reservationConnection, RESERVATION_CURSOR_SQL, lower, upper);
+             PreparedStatement paymentStatement = openCursor(paymentConnection, PAYMENT_CURSOR_SQL, lower, upper);
+             ResultSet reservation = reservationStatement.executeQuery();
+             ResultSet payment = paymentStatement.executeQuery()) {
+
+            boolean hasReservation = reservation.next();
+            boolean hasPayment = payment.next();
+            PaymentTally tally = new PaymentTally();
+            while (hasReservation || hasPayment) {
+                long reservationId = hasReservation ? reservation.getLong(1) : Long.MAX_VALUE;
+
+                // 현재 예매보다 앞선 결제는 예매가 없는 결제
+                if (hasPayment && payment.getLong(1) < reservationId) {
+                    writer.add(DiscrepancyType.ORPHAN_PAYMENT, payment.getLong(1), payment.getLong(2), null,
+                            settledAmount(payment), null, null, payment.getString(5), "예매가 존재하지 않는 결제");
+                    paymentCount++;
+                    hasPayment = payment.next();
+                    continue;
+                }
+
+                // 같은 예매의 결제를 모두 누적
+                tally.reset();
+                while (hasPayment && payment.getLong(1) == reservationId) {
+                    Timestamp createdAt = payment.getTimestamp(6);
+                    tally.add(payment.getLong(2), settledAmount(payment), payment.getString(5),
+                            createdAt != null && createdAt.toLocalDateTime().isBefore(pendingCutoff));
+                    paymentCount++;
+                    hasPayment = payment.next();
+                }
+                check(writer, reservationId, reservation.getBigDecimal(2), reservation.getString(3),
+                        reservation.getString(4), tally);
+                reservationCount++;
+                hasReservation = reservation.next();
+            }
+        }
+        writer.flush();
+        return new PartitionResult(reservationCount, paymentCount, writer.written);
+    }
+
+    // 예매 하나와 그 결제들의 누적 값 비교
+    private void check(DiscrepancyWriter writer, long reservationId, BigDecimal totalPrice, String status,
+                       String paymentStatus, PaymentTally tally) throws SQLException {
+        if (tally.settledCount > 1) {
+            writer.add(DiscrepancyType.DUPLICATE_PAYMENT, reservationId, tally.lastSettledId, totalPrice,
+                    tally.lastSettledAmount, status, paymentStatus, tally.lastSettledStatus,
+                    "완료/환불된 결제 " + tally.settledCount + "건");
+        }
+        if (tally.settledCount > 0 && tally.lastSettledAmount.compareTo(totalPrice) != 0) {
+            writer.add(DiscrepancyType.AMOUNT_MISMATCH, reservationId, tally.lastSettledId, totalPrice,
+                    tally.lastSettledAmount, status, paymentStatus, tally.lastSettledStatus, "결제 금액과 예매 금액 불일치");
+        }
+        if ("COMPLETED".equals(tally.lastSettledStatus) && "PENDING".equals(paymentStatus)) {
+            writer.add(DiscrepancyType.UNPAID_RESERVATION, reservationId, tally.lastSettledId, totalPrice,
+                    tally.lastSettledAmount, status, paymentStatus, tally.lastSettledStatus, "완료된 결제가 있으나 예매가 결제 대기 상태");
+        }
+        // 결제 전에 취소된 예매도 환불 상태가 되므로 완료/환불된 결제가 있는 예매만 비교
+        if (tally.settledCount > 0 && "REFUNDED".equals(tally.lastSettledStatus) != "REFUNDED".equals(paymentStatus)) {
+            writer.add(DiscrepancyType.REFUND_MISMATCH, reservationId, tally.lastSettledId, totalPrice,
+                    tally.lastSettledAmount, status, paymentStatus, tally.lastSettledStatus, "결제와 예매의 환불 상태 불일치");
+        }
+        if ("PAID".equals(paymentStatus) && tally.settledCount == 0) {
+            writer.add(DiscrepancyType.PAID_WITHOUT_PAYMENT, reservationId, tally.stalePendingId, totalPrice,
+                    null, status, paymentStatus, null, "결제 완료된 예매에 완료된 결제가 없음");
+        }
+        if (tally.stalePendingId != null) {
+            writer.add(DiscrepancyType.STALE_PENDING, reservationId, tally.stalePendingId, totalPrice,
+                    null, status, paymentStatus, "PENDING", pendingTimeoutMinutes + "분 이상 대기 중인 결제");
+        }
+    }
+
+    // [최소 ID, 최대 ID] (행이 없으면 빈 범위)
+    private long[] idRange(String sql) {
+        long[] range = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> rs.getObject(1) == null
+                ? new long[]{Long.MAX_VALUE, Long.MIN_VALUE}
+                : new long[]{rs.getLong(1), rs.getLong(2)});
+        return range != null ? range : new long[]{Long.MAX_VALUE, Long.MIN_VALUE};
+    }
+
+    // 동시에 실행할 구간 수 (커서 연결 2개씩과 저장 연결 1개가 커넥션 풀의 절반을 넘지 않도록 제한)
+    private int maxPartitions() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return parallelism;
+        }
+        int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        int limit = Math.max(1, (poolSize / 2 - 1) / 2);
+        if (parallelism > limit) {
+            log.info("Payment reconciliation parallelism {} reduced to {} for connection pool size {}",
+                    parallelism, limit, poolSize);
+        }
+        return Math.min(parallelism, limit);
+    }
+
+    private PreparedStatement openCursor(Connection connection, String sql, long lower, long upper) throws SQLException {
+        connection.setReadOnly(true);
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        statement.setLong(1, lower);
+        statement.setLong(2, upper);
+        return statement;
+    }
+
+    // 결제 금액 + 할인 금액 (예매 금액과 비교하는 값)
+    private BigDecimal settledAmount(ResultSet payment) throws SQLException {
+        BigDecimal amount = payment.getBigDecimal(3);
+        BigDecimal discountAmount = payment.getBigDecimal(4);
+        return discountAmount != null ? amount.add(discountAmount) : amount;
+    }
+
+    // 예매 하나의 결제 누적 값 (완료/환불된 결제는 가장 마지막 결제 기준)
+    private static final class PaymentTally {
+        int settledCount;
+        Long lastSettledId;
+        BigDecimal lastSettledAmount;
+        String lastSettledStatus;
+        Long stalePendingId;
+
+        void reset() {
+            settledCount = 0;
+            lastSettledId = null;
+            lastSettledAmount = null;
+            lastSettledStatus = null;
+            stalePendingId = null;
+        }
+
+        void add(long paymentId, BigDecimal amount, String status, boolean createdBeforeCutoff) {
+            if ("COMPLETED".equals(status) || "REFUNDED".equals(status)) {
+                settledCount++;
+                lastSettledId = paymentId;
+                lastSettledAmount = amount;
+                lastSettledStatus = status;
+            } else if ("PENDING".equals(status) && createdBeforeCutoff) {
+                stalePendingId = paymentId;
+            }
+        }
+    }
+
+    // 불일치를 모아 배치로 저장 (구간마다 하나, 배치 크기만큼만 보관)
+    // 저장 연결은 모든 구간이 함께 쓰므로 배치 하나를 보내는 동안 잠금 (가상 스레드가 캐리어 스레드에 고정되지 않도록 ReentrantLock 사용)
+    private final class DiscrepancyWriter {
+        private final String runId;
+        private final Connection connection;
+        private final Lock connectionLock;
+        private final List<Object[]> buffer = new ArrayList<>();
+        private long written;
+
+        DiscrepancyWriter(String runId, Connection connection, Lock connectionLock) {
+            this.runId = runId;
+            this.connection = connection;
+            this.connectionLock = connectionLock;
+        }
+
+        void add(DiscrepancyType type, long reservationId, Long paymentId, BigDecimal reservationAmount,
+                 BigDecimal paymentAmount, String reservationStatus, String reservationPaymentStatus,
+                 String paymentStatus, String detail) throws SQLException {
+            buffer.add(new Object[]{runId, type.name(), reservationId, paymentId, reservationAmount, paymentAmount,
+                    reservationStatus, reservationPaymentStatus, paymentStatus, detail});
+            if (buffer.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            connectionLock.lock();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_DISCREPANCY_SQL)) {
+                for (Object[] row : buffer) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            } finally {
+                connectionLock.unlock();
+            }
+            written += buffer.size();
+            buffer.clear();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.moviesite.mysite.service;
 import com.moviesite.mysite.model.dto.request.PaymentRequest;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
 import com.moviesite.mysite.model.dto.response.PaymentResponse;
 import com.moviesite.mysite.model.entity.Coupon;
 import com.moviesite.mysite.model.entity.Payment;
@@ -13,9 +14,13 @@ import com.moviesite.mysite.repository.CouponRepository;
 import com.moviesite.mysite.repository.PaymentRepository;
 import com.moviesite.mysite.repository.ReservationRepository;
 import com.moviesite.mysite.repository.UserRepository;
+import com.moviesite.mysite.service.PaymentGateway.ChargeRequest;
+import com.moviesite.mysite.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -35,12 +40,13 @@ public class PaymentService {
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
+    private final PaymentGatewayClient paymentGatewayClient;
 
-    // 결제 처리
+    // 결제 요청 (대기 상태로 저장 후 커밋되면 PG 승인 요청, 완료 여부는 웹훅으로 확정)
     @Transactional
     public PaymentResponse processPayment(PaymentRequest paymentRequest) {
-        // 예매 정보 조회
-        Reservation reservation = reservationRepository.findById(paymentRequest.getReservationId())
+        // 예매 정보 조회 (중복 결제 확인과 결제 저장 사이에 다른 요청이 끼어들지 않도록 행 잠금)
+        Reservation reservation = reservationRepository.findByIdForUpdate(paymentRequest.getReservationId())
                 .orElseThrow(() -> new ResourceNotFoundException("Reservation not found with id: " + paymentRequest.getReservationId()));
         
         // 현재 사용자 조회
@@ -51,6 +57,12 @@ public class PaymentService {
             throw new BadRequestException("해당 예매에 대한 결제 권한이 없습니다");
         }
         
+        // 진행 중이거나 완료된 결제가 있으면 중복 결제 방지
+        if (paymentRepository.existsByReservationIdAndPaymentStatusIn(reservation.getId(),
+                List.of(PaymentStatus.PENDING, PaymentStatus.COMPLETED))) {
+            throw new BadRequestException("이미 결제가 진행 중이거나 완료된 예매입니다");
+        }
+        
         // 할인 금액 계산
         BigDecimal discountAmount = BigDecimal.ZERO;
         Coupon coupon = null;
@@ -74,23 +86,20 @@ public class PaymentService {
                 .user(currentUser)
                 .amount(finalAmount)
                 .paymentMethod(paymentRequest.getPaymentMethod())
-                .paymentStatus(PaymentStatus.COMPLETED)
-                .transactionId(paymentRequest.getTransactionId())
+                .paymentStatus(PaymentStatus.PENDING)
                 .cardCompany(paymentRequest.getCardCompany())
                 .cardNumber(paymentRequest.getCardNumber())
                 .installment(paymentRequest.getInstallment())
                 .discountAmount(discountAmount)
                 .coupon(coupon)
-                .paymentTime(LocalDateTime.now())
                 .build();
         
         Payment savedPayment = paymentRepository.save(payment);
         
-        // 예매 상태 업데이트
-        reservation.setPaymentMethod(paymentRequest.getPaymentMethod());
-        reservation.setStatus(Reservation.ReservationStatus.CONFIRMED);
-        reservation.setPaymentStatus(Reservation.PaymentStatus.PAID);
-        reservationRepository.save(reservation);
+        // PG 승인 요청 (동시 호출 허용량을 넘으면 예외로 결제 저장도 취소)
+        paymentGatewayClient.requestCharge(new ChargeRequest(savedPayment.getId(), finalAmount,
+                savedPayment.getPaymentMethod(), savedPayment.getCardCompany(), savedPayment.getCardNumber(),
+                savedPayment.getInstallment()));
         
         return PaymentResponse.fromEntity(savedPayment);
     }
@@ -127,7 +136,7 @@ public class PaymentService {
             throw new BadRequestException("해당 예매의 결제 정보에 접근할 권한이 없습니다");
         }
         
-        Payment payment = paymentRepository.findByReservation(reservation)
+        Payment payment = paymentRepository.findFirstByReservationOrderByIdDesc(reservation)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found for reservation id: " + reservationId));
         
         return PaymentResponse.fromEntity(payment);
@@ -186,7 +195,39 @@ public class PaymentService {
         
         return payments.map(PaymentResponse::fromEntity);
     }
+
+    // 관리자: 모든 결제 내역 조회 (커서 기반 페이징)
+    public CursorPageResponse<PaymentResponse> getAllPaymentsByCursor(String status, String method, String cursor,
+                                                                      Integer size, boolean withTotal) {
+        // 현재 사용자가 관리자인지 확인
+        User currentUser = getCurrentUser();
+        if (!currentUser.isAdmin()) {
+            throw new BadRequestException("관리자만 접근 가능합니다");
+        }
+        
+        CursorUtil.Cursor position = CursorUtil.decodeTimeCursor(cursor);
+        PaymentStatus paymentStatus = parseStatus(status);
+        
+        Slice<Payment> payments = paymentRepository.findSliceAfter(paymentStatus, method,
+                position.getTimeKey(), position.getId(), PageRequest.of(0, CursorUtil.normalizeSize(size)));
+        Long total = withTotal ? paymentRepository.countByFilter(paymentStatus, method) : null;
+        
+        return CursorPageResponse.of(payments, PaymentResponse::fromEntity,
+                payment -> CursorUtil.encode(payment.getCreatedAt(), payment.getId()), total);
+    }
     
+    // 결제 상태 필터 해석 (없으면 null)
+    private PaymentStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return PaymentStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 결제 상태입니다: " + status);
+        }
+    }
+
     // 현재 로그인한 사용자 조회
     private User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -0,0 +1,114 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.repository.PaymentRepository;
+import com.moviesite.mysite.service.PaymentGateway.StatusResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 오래 대기 중인 결제 정리 (응답 시간 초과, 전송 오류, 웹훅 유실, 종료 중 호출 누락으로 확정되지 않은 결제)
+// PG 상태 조회 결과로 완료/실패를 확정해 대기 결제가 예매의 재결제를 영원히 막지 않도록 함
+@Service
+@RequiredArgsConstructor
+public class PaymentSettlementService {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentSettlementService.class);
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentConfirmationService confirmationService;
+    private final ExecutorService virtualThreadExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 생성 후 이 시간(분)이 지나도 대기 중인 결제를 정리 대상으로 봄
+    @Value("${payment.gateway.pending-timeout-minutes:10}")
+    private long pendingTimeoutMinutes;
+
+    // 한 번에 조회할 대기 결제 수
+    @Value("${payment.gateway.sweep-batch-size:200}")
+    private int batchSize;
+
+    // PG 호출 1회 제한 시간 (ms)
+    @Value("${payment.gateway.call-timeout-ms:5000}")
+    private long callTimeoutMs;
+
+    // 중복 실행 방지 (이전 정리가 길어져 다음 주기와 겹치는 경우)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 주기적으로 정리 (예약 작업 스레드를 오래 점유하지 않도록 가상 스레드에서 실행)
+    @Scheduled(fixedDelayString = "${payment.gateway.sweep-interval-ms:60000}")
+    public void scheduledSettle() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            virtualThreadExecutor.execute(() -> {
+                try {
+                    settlePending();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    // 기준 시각 이전에 생성된 대기 결제를 ID 순으로 조회해 하나씩 확정
+    private void settlePending() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTimeoutMinutes);
+        long afterId = 0;
+        int settled = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> ids = paymentRepository.findPendingIdsCreatedBefore(cutoff, afterId, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                if (settle(id)) {
+                    settled++;
+                }
+            }
+            if (ids.size() < batchSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (settled > 0) {
+            log.info("Settled {} stale pending payments", settled);
+        }
+    }
+
+    // PG 상태 조회 결과 반영 (PG가 아직 처리 중이거나 조회에 실패하면 다음 주기에 다시 확인)
+    private boolean settle(Long paymentId) {
+        String outcome;
+        try {
+            StatusResult result = paymentGateway.inquire(paymentId, Duration.ofMillis(callTimeoutMs));
+            switch (result.status()) {
+                case APPROVED -> confirmationService.onChargeApproved(paymentId, result.transactionId(), result.amount());
+                case DECLINED -> confirmationService.onChargeFailed(paymentId, result.transactionId(), result.message());
+                case NOT_FOUND -> confirmationService.onChargeFailed(paymentId, null, "PG에 승인 요청 기록 없음");
+                case PROCESSING -> {
+                }
+            }
+            outcome = result.status().name();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            outcome = "error";
+            log.warn("Payment {} status inquiry failed, retried next sweep", paymentId, e);
+        }
+        meterRegistry.counter("payment.gateway.settlements", "outcome", outcome).increment();
+        return !"error".equals(outcome) && !"PROCESSING".equals(outcome);
+    }
+}
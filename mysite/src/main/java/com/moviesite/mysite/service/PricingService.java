@@ -0,0 +1,313 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.PricingRuleChangedEvent;
+import com.moviesite.mysite.event.ScheduleChangedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.request.PricingRuleRequest;
+import com.moviesite.mysite.model.dto.response.PricingRuleResponse;
+import com.moviesite.mysite.model.dto.response.SeatPriceResponse;
+import com.moviesite.mysite.model.entity.PricingRule;
+import com.moviesite.mysite.model.entity.PricingRule.AdjustmentType;
+import com.moviesite.mysite.model.entity.PricingRule.DayType;
+import com.moviesite.mysite.model.entity.Schedule;
+import com.moviesite.mysite.model.entity.Seat;
+import com.moviesite.mysite.model.entity.Seat.SeatType;
+import com.moviesite.mysite.repository.PricingRuleRepository;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.repository.SeatRepository;
+import com.moviesite.mysite.util.PriceTable;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 규칙 기반 좌석 가격 계산 (활성 규칙을 상영 일정별 가격표로 미리 계산해 두고 조회 시 배열 접근만 수행)
+@Service
+@RequiredArgsConstructor
+public class PricingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PricingService.class);
+
+    private static final SeatType[] SEAT_TYPES = SeatType.values();
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final SeatRepository seatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 현재 규칙과 그 규칙으로 만든 가격표 (규칙 변경 시 통째로 교체)
+    private volatile PricingState state = new PricingState(List.of());
+
+    // 평가용 규칙 (문자열 정규화, 좌석 타입 순번 변환을 미리 해둠)
+    private record CompiledRule(int seatTypeIndex, String screenType, DayType dayType, LocalTime startTimeFrom,
+                                LocalTime startTimeTo, Integer minOccupancyPercent, AdjustmentType adjustmentType,
+                                int adjustmentValue) {
+    }
+
+    // 가격표와 가격표를 만들 때 사용한 상영 일정 값 (값이 바뀌었으면 다시 계산)
+    private record CachedTable(int basePrice, LocalDateTime startTime, String screenType, PriceTable table) {
+    }
+
+    private static final class PricingState {
+        private final List<CompiledRule> rules;
+        private final Map<Long, CachedTable> tables = new ConcurrentHashMap<>();
+
+        private PricingState(List<CompiledRule> rules) {
+            this.rules = rules;
+        }
+    }
+
+    // 애플리케이션 시작 시 활성 규칙 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reloadRules();
+    }
+
+    // 규칙 변경 시 규칙 다시 적재 (기존 가격표는 모두 폐기)
+    @TransactionalEventListener
+    public void onPricingRuleChanged(PricingRuleChangedEvent event) {
+        reloadRules();
+    }
+
+    // 상영 일정 변경/마감 시 해당 가격표 제거 (값 변경은 조회 시에도 확인하므로 메모리 정리 목적)
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        state.tables.keySet().removeAll(event.getScheduleIds());
+    }
+
+    // 현재 예매율 기준 좌석 타입별 가격 (SeatType 순번으로 조회)
+    public int[] quote(Schedule schedule) {
+        PriceTable table = getPriceTable(schedule);
+        return table.row(table.tier(occupancyPercent(schedule)));
+    }
+
+    // 상영 일정의 좌석별 가격 조회 (좌석 배치도 표시용)
+    @Transactional(readOnly = true)
+    public SeatPriceResponse getSeatPrices(Long scheduleId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new ResourceNotFoundException("Schedule not found with id: " + scheduleId));
+
+        int occupancy = occupancyPercent(schedule);
+        PriceTable table = getPriceTable(schedule);
+        int tier = table.tier(occupancy);
+
+        Map<String, Integer> seatTypePrices = new LinkedHashMap<>();
+        for (SeatType seatType : SEAT_TYPES) {
+            seatTypePrices.put(seatType.name(), table.price(tier, seatType.ordinal()));
+        }
+
+        List<SeatPriceResponse.SeatPrice> seats = seatRepository.findByScreenIdAndIsActiveTrue(
+                        schedule.getScreen().getId()).stream()
+                .map(seat -> SeatPriceResponse.SeatPrice.builder()
+                        .seatId(seat.getId())
+                        .seatLabel(seat.getSeatLabel())
+                        .seatType(seat.getSeatType().name())
+                        .price(table.price(tier, seat.getSeatType().ordinal()))
+                        .build())
+                .toList();
+
+        return SeatPriceResponse.builder()
+                .scheduleId(schedule.getId())
+                .basePrice(schedule.getPrice())
+                .occupancyPercent(occupancy)
+                .seatTypePrices(seatTypePrices)
+                .seats(seats)
+                .build();
+    }
+
+    // 가격 정책 규칙 목록 조회 (관리자용)
+    @Transactional(readOnly = true)
+    public List<PricingRuleResponse> getAllRules() {
+        return pricingRuleRepository.findAllByOrderByPriorityAscIdAsc().stream()
+                .map(PricingRuleResponse::fromEntity)
+                .toList();
+    }
+
+    // 가격 정책 규칙 등록 (관리자용)
+    @Transactional
+    public PricingRuleResponse createRule(PricingRuleRequest request) {
+        PricingRule rule = new PricingRule();
+        updateRuleFromRequest(rule, request);
+        PricingRule savedRule = pricingRuleRepository.save(rule);
+        eventPublisher.publishEvent(new PricingRuleChangedEvent(savedRule.getId()));
+        return PricingRuleResponse.fromEntity(savedRule);
+    }
+
+    // 가격 정책 규칙 수정 (관리자용)
+    @Transactional
+    public PricingRuleResponse updateRule(Long id, PricingRuleRequest request) {
+        PricingRule rule = findRuleById(id);
+        updateRuleFromRequest(rule, request);
+        PricingRule updatedRule = pricingRuleRepository.save(rule);
+        eventPublisher.publishEvent(new PricingRuleChangedEvent(updatedRule.getId()));
+        return PricingRuleResponse.fromEntity(updatedRule);
+    }
+
+    // 가격 정책 규칙 삭제 (관리자용)
+    @Transactional
+    public void deleteRule(Long id) {
+        PricingRule rule = findRuleById(id);
+        pricingRuleRepository.delete(rule);
+        eventPublisher.publishEvent(new PricingRuleChangedEvent(id));
+    }
+
+    // 상영 일정의 가격표 조회 (없거나 상영 일정 값이 바뀌었으면 현재 규칙으로 계산)
+    private PriceTable getPriceTable(Schedule schedule) {
+        PricingState current = state;
+        String screenType = normalizeScreenType(schedule.getScreen().getType());
+        CachedTable cached = current.tables.get(schedule.getId());
+        if (cached != null && cached.basePrice() == schedule.getPrice()
+                && cached.startTime().equals(schedule.getStartTime())
+                && Objects.equals(cached.screenType(), screenType)) {
+            return cached.table();
+        }
+
+        PriceTable table = compile(current.rules, schedule.getPrice(), schedule.getStartTime(), screenType);
+        current.tables.put(schedule.getId(),
+                new CachedTable(schedule.getPrice(), schedule.getStartTime(), screenType, table));
+        return table;
+    }
+
+    // 상영 일정 단위 조건(요일, 시간대, 상영관 타입)으로 규칙을 거른 뒤 예매율 구간 x 좌석 타입 가격 계산
+    private PriceTable compile(List<CompiledRule> rules, int basePrice, LocalDateTime startTime, String screenType) {
+        DayOfWeek dayOfWeek = startTime.getDayOfWeek();
+        DayType dayType = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY
+                ? DayType.WEEKEND : DayType.WEEKDAY;
+        LocalTime time = startTime.toLocalTime();
+
+        List<CompiledRule> applicable = rules.stream()
+                .filter(rule -> rule.dayType() == null || rule.dayType() == dayType)
+                .filter(rule -> rule.screenType() == null || rule.screenType().equals(screenType))
+                .filter(rule -> rule.startTimeFrom() == null || !time.isBefore(rule.startTimeFrom()))
+                .filter(rule -> rule.startTimeTo() == null || time.isBefore(rule.startTimeTo()))
+                .toList();
+
+        int[] thresholds = applicable.stream()
+                .map(CompiledRule::minOccupancyPercent)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .filter(percent -> percent > 0)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int[][] prices = new int[thresholds.length + 1][SEAT_TYPES.length];
+        for (int tier = 0; tier <= thresholds.length; tier++) {
+            // 구간의 하한 예매율 (구간 0은 0%)
+            int occupancy = tier == 0 ? 0 : thresholds[tier - 1];
+            for (int seatTypeIndex = 0; seatTypeIndex < SEAT_TYPES.length; seatTypeIndex++) {
+                int price = basePrice;
+                for (CompiledRule rule : applicable) {
+                    if (rule.seatTypeIndex() >= 0 && rule.seatTypeIndex() != seatTypeIndex) {
+                        continue;
+                    }
+                    if (rule.minOccupancyPercent() != null && occupancy < rule.minOccupancyPercent()) {
+                        continue;
+                    }
+                    price = apply(rule, price);
+                }
+                prices[tier][seatTypeIndex] = price;
+            }
+        }
+        return new PriceTable(thresholds, prices);
+    }
+
+    private int apply(CompiledRule rule, int price) {
+        long adjusted = rule.adjustmentType() == AdjustmentType.PERCENT
+                ? price + Math.round((long) price * rule.adjustmentValue() / 100.0)
+                : (long) price + rule.adjustmentValue();
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, adjusted));
+    }
+
+    // 현재 예매율 (%) - 상영관 좌석 수 대비 판매된 좌석 수
+    private int occupancyPercent(Schedule schedule) {
+        int seatsCount = schedule.getScreen().getSeatsCount();
+        if (seatsCount <= 0) {
+            return 0;
+        }
+        int sold = Math.max(0, seatsCount - schedule.getAvailableSeats());
+        return Math.min(100, sold * 100 / seatsCount);
+    }
+
+    private void reloadRules() {
+        List<CompiledRule> rules = pricingRuleRepository.findByActiveTrueOrderByPriorityAscIdAsc().stream()
+                .map(rule -> new CompiledRule(
+                        rule.getSeatType() != null ? rule.getSeatType().ordinal() : -1,
+                        normalizeScreenType(rule.getScreenType()),
+                        rule.getDayType(),
+                        rule.getStartTimeFrom(),
+                        rule.getStartTimeTo(),
+                        rule.getMinOccupancyPercent(),
+                        rule.getAdjustmentType(),
+                        rule.getAdjustmentValue()))
+                .toList();
+        state = new PricingState(rules);
+        log.info("Pricing rules loaded: {}", rules.size());
+    }
+
+    private String normalizeScreenType(String screenType) {
+        if (screenType == null || screenType.isBlank()) {
+            return null;
+        }
+        return screenType.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private void updateRuleFromRequest(PricingRule rule, PricingRuleRequest request) {
+        AdjustmentType adjustmentType = parseEnum(AdjustmentType.class, request.getAdjustmentType(), "조정 유형");
+        if (adjustmentType == AdjustmentType.PERCENT && request.getAdjustmentValue() < -100) {
+            throw new BadRequestException("할인율은 100%를 초과할 수 없습니다");
+        }
+        if (request.getStartTimeFrom() != null && request.getStartTimeTo() != null
+                && !request.getStartTimeFrom().isBefore(request.getStartTimeTo())) {
+            throw new BadRequestException("시작 시간 범위가 올바르지 않습니다");
+        }
+
+        rule.setName(request.getName());
+        rule.setSeatType(parseEnum(SeatType.class, request.getSeatType(), "좌석 타입"));
+        rule.setScreenType(normalizeScreenType(request.getScreenType()));
+        rule.setDayType(parseEnum(DayType.class, request.getDayType(), "요일 구분"));
+        rule.setStartTimeFrom(request.getStartTimeFrom());
+        rule.setStartTimeTo(request.getStartTimeTo());
+        rule.setMinOccupancyPercent(request.getMinOccupancyPercent());
+        rule.setAdjustmentType(adjustmentType);
+        rule.setAdjustmentValue(request.getAdjustmentValue());
+        if (request.getPriority() != null) {
+            rule.setPriority(request.getPriority());
+        }
+        if (request.getActive() != null) {
+            rule.setActive(request.getActive());
+        }
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String label) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 " + label + "입니다: " + value);
+        }
+    }
+
+    private PricingRule findRuleById(Long id) {
+        return pricingRuleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Pricing rule not found with id: " + id));
+    }
+}
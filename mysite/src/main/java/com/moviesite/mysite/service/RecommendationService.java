@@ -0,0 +1,371 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.FavoriteChangedEvent;
+import com.moviesite.mysite.event.ReservationCreatedEvent;
+import com.moviesite.mysite.event.ReviewChangedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.MovieResponse;
+import com.moviesite.mysite.model.entity.Favorite;
+import com.moviesite.mysite.model.entity.Favorite.FavoriteType;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.model.entity.User;
+import com.moviesite.mysite.repository.FavoriteRepository;
+import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.repository.ReservationRepository;
+import com.moviesite.mysite.repository.ReviewRepository;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.repository.UserRepository;
+import com.moviesite.mysite.service.MovieSimilarityService.SimilarMovie;
+import com.moviesite.mysite.util.SparseVector;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    // 상호작용별 프로필 가중치
+    private static final float BOOKING_WEIGHT = 3.0f;
+    private static final float FAVORITE_WEIGHT = 2.0f;
+    private static final float GENRE_SHARE = 0.5f;
+
+    // 리뷰 평점 중립값 (0.5 ~ 5.0 척도)
+    private static final float NEUTRAL_RATING = 3.0f;
+
+    // 점수 결합 비율
+    private static final double GENRE_BONUS = 0.5;
+    private static final double THEATER_BONUS = 0.3;
+
+    private final FavoriteRepository favoriteRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReviewRepository reviewRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final MovieRepository movieRepository;
+    private final UserRepository userRepository;
+    private final MovieSimilarityService movieSimilarityService;
+
+    @Value("${recommendation.feed-size:20}")
+    private int feedSize;
+
+    // 마지막 조회 후 이 시간 동안 활성 사용자로 보고 추천 결과를 미리 계산
+    @Value("${recommendation.active-user-hours:24}")
+    private long activeUserHours;
+
+    // 사용자별 프로필 벡터
+    private final Map<Long, UserProfile> profiles = new ConcurrentHashMap<>();
+
+    // 사용자별 사전 계산된 추천 목록
+    private final Map<Long, List<MovieResponse>> feeds = new ConcurrentHashMap<>();
+
+    // 사용자별 마지막 추천 조회 시각 (epoch millis)
+    private final Map<Long, Long> lastSeen = new ConcurrentHashMap<>();
+
+    // 장르 문자열 -> 정수 인덱스 사전
+    private final Map<String, Integer> genreIndex = new ConcurrentHashMap<>();
+    private final AtomicInteger genreSequence = new AtomicInteger();
+
+    // 영화별 장르 인덱스
+    private final Map<Long, int[]> movieGenres = new ConcurrentHashMap<>();
+
+    // 현재 예매 가능한 후보 영화 스냅샷
+    private volatile CandidateSnapshot candidates = new CandidateSnapshot(Collections.emptyMap(), Collections.emptyMap());
+
+    // 현재 사용자의 추천 영화 조회 (사전 계산된 결과 조회, 최대 추천 목록 크기까지)
+    @Transactional(readOnly = true)
+    public List<MovieResponse> getMyRecommendations(int limit) {
+        if (limit < 1 || limit > feedSize) {
+            throw new BadRequestException("조회 개수는 1개 이상 " + feedSize + "개 이하로 입력해주세요");
+        }
+        Long userId = getCurrentUser().getId();
+        lastSeen.put(userId, System.currentTimeMillis());
+
+        List<MovieResponse> feed = feeds.get(userId);
+        if (feed == null) {
+            feed = computeFeed(userId, loadProfile(userId));
+            feeds.put(userId, feed);
+        }
+        return feed.size() > limit ? feed.subList(0, limit) : feed;
+    }
+
+    // 애플리케이션 시작 시 후보 영화 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshCandidates();
+    }
+
+    // 후보 영화 스냅샷 갱신 후 활성 사용자 추천 결과 재계산
+    @Scheduled(fixedDelayString = "${recommendation.refresh-interval-ms:300000}")
+    public void refreshFeeds() {
+        refreshCandidates();
+
+        long threshold = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(activeUserHours);
+        lastSeen.entrySet().removeIf(entry -> entry.getValue() < threshold);
+        profiles.keySet().retainAll(lastSeen.keySet());
+        feeds.keySet().retainAll(lastSeen.keySet());
+
+        lastSeen.keySet().parallelStream().forEach(userId -> {
+            UserProfile profile = profiles.get(userId);
+            if (profile != null) {
+                feeds.put(userId, computeFeed(userId, profile));
+            }
+        });
+    }
+
+    // 예매 시 프로필 갱신
+    @TransactionalEventListener
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        UserProfile profile = profiles.get(event.getUserId());
+        if (profile == null) {
+            return;
+        }
+        profile.addMovie(event.getMovieId(), BOOKING_WEIGHT, genresOf(event.getMovieId()));
+        profile.addTheater(event.getTheaterId(), 1.0f);
+        profile.markWatched(event.getMovieId());
+        recompute(event.getUserId(), profile);
+    }
+
+    // 즐겨찾기 변경 시 프로필 갱신
+    @TransactionalEventListener
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        UserProfile profile = profiles.get(event.getUserId());
+        if (profile == null) {
+            return;
+        }
+        float weight = event.isAdded() ? FAVORITE_WEIGHT : -FAVORITE_WEIGHT;
+        if (event.getFavoriteType() == FavoriteType.MOVIE) {
+            profile.addMovie(event.getTargetId(), weight, genresOf(event.getTargetId()));
+        } else {
+            profile.addTheater(event.getTargetId(), weight);
+        }
+        recompute(event.getUserId(), profile);
+    }
+
+    // 리뷰 작성/수정/삭제 시 프로필 갱신 (평점의 중립값 대비 차이만큼 반영)
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        UserProfile profile = profiles.get(event.getUserId());
+        if (profile == null) {
+            return;
+        }
+        float delta = ratingWeight(event.getRating()) - ratingWeight(event.getPreviousRating());
+        profile.addMovie(event.getMovieId(), delta, genresOf(event.getMovieId()));
+        profile.markWatched(event.getMovieId());
+        recompute(event.getUserId(), profile);
+    }
+
+    // 후보 영화 스냅샷 갱신 (예매 가능한 상영 일정이 있는 영화와 상영 극장)
+    private void refreshCandidates() {
+        Map<Long, Set<Long>> theatersByMovie = new HashMap<>();
+        for (Object[] row : scheduleRepository.findBookableMovieTheaterPairs(ScheduleStatus.OPEN)) {
+            theatersByMovie.computeIfAbsent((Long) row[0], key -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        Map<Long, MovieResponse> responses = new HashMap<>();
+        for (Movie movie : movieRepository.findAllById(theatersByMovie.keySet())) {
+            responses.put(movie.getId(), MovieResponse.fromEntity(movie));
+            movieGenres.put(movie.getId(), toGenreIndexes(movie.getGenre()));
+        }
+        candidates = new CandidateSnapshot(responses, theatersByMovie);
+        log.debug("Recommendation candidates refreshed: {} movies", responses.size());
+    }
+
+    // 사용자 프로필 조회 (없으면 DB에서 한 번 적재)
+    private UserProfile loadProfile(Long userId) {
+        UserProfile existing = profiles.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+
+        UserProfile profile = new UserProfile();
+        for (Object[] row : reservationRepository.findMovieTheaterPairsByUserId(userId)) {
+            Long movieId = (Long) row[0];
+            profile.addMovie(movieId, BOOKING_WEIGHT, genresOf(movieId));
+            profile.addTheater((Long) row[1], 1.0f);
+            profile.markWatched(movieId);
+        }
+        for (Favorite favorite : favoriteRepository.findByUserId(userId)) {
+            if (favorite.isMovieFavorite()) {
+                Long movieId = favorite.getMovie().getId();
+                profile.addMovie(movieId, FAVORITE_WEIGHT, genresOf(movieId));
+            } else {
+                profile.addTheater(favorite.getTheater().getId(), FAVORITE_WEIGHT);
+            }
+        }
+        for (Object[] row : reviewRepository.findActiveMovieRatingsByUserId(userId)) {
+            Long movieId = (Long) row[0];
+            profile.addMovie(movieId, ratingWeight((BigDecimal) row[1]), genresOf(movieId));
+            profile.markWatched(movieId);
+        }
+
+        existing = profiles.putIfAbsent(userId, profile);
+        return existing != null ? existing : profile;
+    }
+
+    // 프로필 변경 후 활성 사용자의 추천 결과 즉시 재계산
+    private void recompute(Long userId, UserProfile profile) {
+        if (lastSeen.containsKey(userId)) {
+            feeds.put(userId, computeFeed(userId, profile));
+        }
+    }
+
+    // 후보 영화 점수 계산 후 상위 목록 생성
+    private List<MovieResponse> computeFeed(Long userId, UserProfile profile) {
+        CandidateSnapshot snapshot = candidates;
+        Map<Long, Double> scores = new HashMap<>();
+
+        synchronized (profile) {
+            // 1) 프로필의 영화와 유사한 후보 영화 점수 누적
+            for (int i = 0; i < profile.movies.size(); i++) {
+                long movieId = profile.movies.keyAt(i);
+                float weight = profile.movies.valueAt(i);
+                for (SimilarMovie similar : movieSimilarityService.getNeighbors(movieId, Integer.MAX_VALUE)) {
+                    if (snapshot.responses.containsKey(similar.getMovieId())) {
+                        scores.merge(similar.getMovieId(), weight * similar.getScore(), Double::sum);
+                    }
+                }
+            }
+
+            // 2) 장르 선호도와 선호 극장 상영 여부 반영
+            float genreMax = Math.max(profile.genres.maxValue(), 1f);
+            float theaterMax = Math.max(profile.theaters.maxValue(), 1f);
+            for (Map.Entry<Long, Set<Long>> entry : snapshot.theatersByMovie.entrySet()) {
+                Long movieId = entry.getKey();
+                if (profile.watched.contains(movieId)) {
+                    scores.remove(movieId);
+                    continue;
+                }
+                double genreScore = 0;
+                for (int genre : movieGenres.getOrDefault(movieId, new int[0])) {
+                    genreScore = Math.max(genreScore, profile.genres.get(genre) / genreMax);
+                }
+                double theaterScore = 0;
+                for (Long theaterId : entry.getValue()) {
+                    theaterScore = Math.max(theaterScore, profile.theaters.get(theaterId) / theaterMax);
+                }
+                double bonus = GENRE_BONUS * genreScore + THEATER_BONUS * theaterScore;
+                if (bonus != 0 || scores.containsKey(movieId)) {
+                    scores.merge(movieId, bonus, Double::sum);
+                }
+            }
+        }
+
+        List<MovieResponse> feed = scores.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(feedSize)
+                .map(entry -> snapshot.responses.get(entry.getKey()))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        // 선호 정보가 부족한 경우 평점 순 인기 영화로 채움
+        if (feed.size() < feedSize) {
+            Set<Long> included = feed.stream().map(MovieResponse::getMovieId).collect(Collectors.toSet());
+            snapshot.responses.values().stream()
+                    .filter(movie -> !included.contains(movie.getMovieId()) && !profile.watched.contains(movie.getMovieId()))
+                    .sorted(Comparator.comparing(MovieResponse::getRating,
+                            Comparator.nullsLast(Comparator.reverseOrder())))
+                    .limit(feedSize - feed.size())
+                    .forEach(feed::add);
+        }
+        return Collections.unmodifiableList(feed);
+    }
+
+    // 영화의 장르 인덱스 조회 (후보에 없는 영화는 DB에서 한 번 조회)
+    private int[] genresOf(Long movieId) {
+        return movieGenres.computeIfAbsent(movieId, id -> movieRepository.findById(id)
+                .map(movie -> toGenreIndexes(movie.getGenre()))
+                .orElse(new int[0]));
+    }
+
+    // 쉼표로 구분된 장르 문자열을 인덱스 배열로 변환
+    private int[] toGenreIndexes(String genre) {
+        if (genre == null || genre.isBlank()) {
+            return new int[0];
+        }
+        return Arrays.stream(genre.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .mapToInt(name -> genreIndex.computeIfAbsent(name, key -> genreSequence.getAndIncrement()))
+                .toArray();
+    }
+
+    // 리뷰 평점을 프로필 가중치로 변환
+    private float ratingWeight(BigDecimal rating) {
+        return rating == null ? 0f : rating.floatValue() - NEUTRAL_RATING;
+    }
+
+    // 현재 로그인한 사용자 조회
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+    }
+
+    // 사용자 프로필 벡터 (영화/장르/극장 선호도와 이미 본 영화)
+    private static class UserProfile {
+
+        private final SparseVector movies = new SparseVector();
+        private final SparseVector genres = new SparseVector();
+        private final SparseVector theaters = new SparseVector();
+        private final SparseVector watched = new SparseVector();
+
+        synchronized void addMovie(Long movieId, float weight, int[] genreIndexes) {
+            movies.add(movieId, weight);
+            for (int genre : genreIndexes) {
+                genres.add(genre, weight * GENRE_SHARE);
+            }
+        }
+
+        synchronized void addTheater(Long theaterId, float weight) {
+            theaters.add(theaterId, weight);
+        }
+
+        synchronized void markWatched(Long movieId) {
+            if (!watched.contains(movieId)) {
+                watched.add(movieId, 1f);
+            }
+        }
+    }
+
+    // 예매 가능한 후보 영화 (응답 객체와 상영 극장)
+    private static class CandidateSnapshot {
+
+        private final Map<Long, MovieResponse> responses;
+        private final Map<Long, Set<Long>> theatersByMovie;
+
+        CandidateSnapshot(Map<Long, MovieResponse> responses, Map<Long, Set<Long>> theatersByMovie) {
+            this.responses = responses;
+            this.theatersByMovie = theatersByMovie;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.moviesite.mysite.service;
 
+import com.moviesite.mysite.event.ReservationCreatedEvent;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
 import com.moviesite.mysite.model.dto.request.ReservationRequest;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
 import com.moviesite.mysite.model.dto.response.ReservationResponse;
 import com.moviesite.mysite.model.entity.Reservation;
 import com.moviesite.mysite.model.entity.Reservation.PaymentStatus;
@@ -16,9 +18,15 @@ import com.moviesite.mysite.repository.ReservationSeatRepository;
 import com.moviesite.mysite.repository.ScheduleRepository;
 import com.moviesite.mysite.repository.SeatRepository;
 import com.moviesite.mysite.repository.UserRepository;
+import com.moviesite.mysite.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -45,6 +53,8 @@ public class ReservationService {
     private final ScheduleRepository scheduleRepository;
     private final SeatRepository seatRepository;
     private final ReservationSeatRepository reservationSeatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PricingService pricingService;
 
     // 현재 로그인한 사용자의 모든 예매 내역 조회
     public Page<ReservationResponse> getMyReservations(Pageable pageable) {
@@ -55,7 +65,55 @@ public class ReservationService {
 
     // 관리자: 모든 사용자의 예매 내역 조회 (필터링 및 페이징)
     public Page<ReservationResponse> getAllReservations(String userName, String movieTitle, String status, Pageable pageable) {
-        Specification<Reservation> spec = (root, query, cb) -> {
+        Specification<Reservation> spec = buildReservationSpec(userName, movieTitle, status);
+
+        Page<Reservation> reservations = reservationRepository.findAll(spec, pageable);
+        return reservations.map(ReservationResponse::fromEntity);
+    }
+
+    // 현재 로그인한 사용자의 모든 예매 내역 조회 (커서 기반 페이징)
+    public CursorPageResponse<ReservationResponse> getMyReservationsByCursor(String cursor, Integer size, boolean withTotal) {
+        User currentUser = getCurrentUser();
+        CursorUtil.Cursor position = CursorUtil.decodeTimeCursor(cursor);
+
+        Slice<Reservation> reservations = reservationRepository.findSliceByUserAfter(currentUser,
+                position.getTimeKey(), position.getId(), PageRequest.of(0, CursorUtil.normalizeSize(size)));
+        Long total = withTotal ? reservationRepository.countByUser(currentUser) : null;
+
+        return CursorPageResponse.of(reservations, ReservationResponse::fromEntity,
+                reservation -> CursorUtil.encode(reservation.getReservationTime(), reservation.getId()), total);
+    }
+
+    // 관리자: 모든 사용자의 예매 내역 조회 (필터링 및 커서 기반 페이징)
+    public CursorPageResponse<ReservationResponse> getAllReservationsByCursor(String userName, String movieTitle, String status,
+                                                                            String cursor, Integer size, boolean withTotal) {
+        CursorUtil.Cursor position = CursorUtil.decodeTimeCursor(cursor);
+        int pageSize = CursorUtil.normalizeSize(size);
+        Specification<Reservation> filter = buildReservationSpec(userName, movieTitle, status);
+
+        // 키셋 조건: (reservationTime, id) < (커서 시간, 커서 ID)
+        LocalDateTime cursorTime = position.getTimeKey();
+        Long cursorId = position.getId();
+        Specification<Reservation> seek = (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("reservationTime"), cursorTime),
+                cb.and(cb.equal(root.get("reservationTime"), cursorTime), cb.lessThan(root.get("id"), cursorId)));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Sort sort = Sort.by(Sort.Direction.DESC, "reservationTime").and(Sort.by(Sort.Direction.DESC, "id"));
+        List<Reservation> rows = reservationRepository.findBy(filter.and(seek),
+                q -> q.sortBy(sort).limit(pageSize + 1).all());
+        boolean hasNext = rows.size() > pageSize;
+        Slice<Reservation> reservations = new SliceImpl<>(hasNext ? rows.subList(0, pageSize) : rows,
+                PageRequest.of(0, pageSize), hasNext);
+        Long total = withTotal ? reservationRepository.count(filter) : null;
+
+        return CursorPageResponse.of(reservations, ReservationResponse::fromEntity,
+                reservation -> CursorUtil.encode(reservation.getReservationTime(), reservation.getId()), total);
+    }
+
+    // 관리자 예매 내역 필터 조건 생성
+    private Specification<Reservation> buildReservationSpec(String userName, String movieTitle, String status) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (userName != null && !userName.trim().isEmpty()) {
@@ -77,9 +135,6 @@ public class ReservationService {
             }
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        Page<Reservation> reservations = reservationRepository.findAll(spec, pageable);
-        return reservations.map(ReservationResponse::fromEntity);
     }
 
     // 특정 예매 상세 정보 조회
@@ -101,6 +156,11 @@ public class ReservationService {
             throw new BadRequestException("이미 시작된 상영입니다");
         }
         
+        // 상영 상태 검증 (마감/취소된 상영은 예매 불가)
+        if (schedule.getStatus() != Schedule.ScheduleStatus.OPEN) {
+            throw new BadRequestException("예매할 수 없는 상영 일정입니다");
+        }
+        
         // 좌석 유효성 검증
         List<Seat> selectedSeats = seatRepository.findAllById(request.getSeatIds());
         if (selectedSeats.size() != request.getSeatIds().size()) {
@@ -119,9 +179,12 @@ public class ReservationService {
             throw new BadRequestException("티켓 수량과 선택된 좌석 수가 일치하지 않습니다");
         }
 
-        // 총 결제 금액 계산
-        BigDecimal pricePerTicket = BigDecimal.valueOf(schedule.getPrice());
-        BigDecimal totalPrice = pricePerTicket.multiply(BigDecimal.valueOf(request.getNumberOfTickets()));
+        // 좌석 타입별 가격표로 좌석 가격 및 총 결제 금액 계산
+        int[] seatTypePrices = pricingService.quote(schedule);
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        for (Seat seat : selectedSeats) {
+            totalPrice = totalPrice.add(BigDecimal.valueOf(seatTypePrices[seat.getSeatType().ordinal()]));
+        }
 
         // 예매 생성
         Reservation reservation = Reservation.builder()
@@ -142,12 +205,16 @@ public class ReservationService {
             ReservationSeat reservationSeat = ReservationSeat.builder()
                     .reservation(savedReservation)
                     .seat(seat)
-                    .price(pricePerTicket)
+                    .price(BigDecimal.valueOf(seatTypePrices[seat.getSeatType().ordinal()]))
                     .build();
             reservationSeats.add(reservationSeat);
         }
         reservationSeatRepository.saveAll(reservationSeats);
 
+        // 추천/유사도 등 후속 처리를 위한 이벤트 발행 (커밋 이후 처리)
+        eventPublisher.publishEvent(new ReservationCreatedEvent(savedReservation.getId(), currentUser.getId(),
+                schedule.getMovie().getId(), schedule.getScreen().getTheater().getId(), schedule.getId()));
+
         return ReservationResponse.fromEntity(savedReservation);
     }
 
@@ -0,0 +1,139 @@
+package com.moviesite.mysite.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 리뷰 좋아요 수 증감 누적 (리뷰별 LongAdder에 모아 두었다가 주기적으로 일괄 UPDATE)
+// 좋아요가 몰리는 리뷰도 클릭마다 reviews 행을 잠그지 않음
+@Service
+@RequiredArgsConstructor
+public class ReviewLikeCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewLikeCounterService.class);
+
+    private static final String ADD_LIKES_SQL = "UPDATE reviews SET likes = GREATEST(likes + ?, 0) WHERE id = ?";
+
+    // 한 번의 배치로 보낼 최대 UPDATE 수
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 아직 반영되지 않은 리뷰별 증감
+    private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+
+    // 직전 반영 때 맵에서 떼어낸 카운터 (떼어내는 순간 증가 중이던 값을 다음 반영 때 마저 수거)
+    private Map<Long, LongAdder> retired = new HashMap<>();
+
+    // 반영 중인 증감 (묶음이 커밋될 때까지 조회 값에 포함)
+    private volatile Map<Long, Long> inFlight = Map.of();
+
+    // 좋아요 증감 기록 (트랜잭션 안이면 커밋된 경우에만 기록)
+    public void record(Long reviewId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(reviewId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(reviewId, delta);
+            }
+        });
+    }
+
+    // 아직 DB에 반영되지 않은 증감
+    public long pendingDelta(Long reviewId) {
+        LongAdder adder = deltas.get(reviewId);
+        long pending = adder != null ? adder.sum() : 0;
+        return pending + inFlight.getOrDefault(reviewId, 0L);
+    }
+
+    // DB 좋아요 수에 미반영 증감을 더한 현재 좋아요 수
+    public int currentLikes(Long reviewId, int storedLikes) {
+        return (int) Math.max(0, storedLikes + pendingDelta(reviewId));
+    }
+
+    // 누적된 증감을 리뷰 ID 순으로 일괄 반영 (ID 순서로 잠가 다른 인스턴스와의 교착 방지)
+    @Scheduled(fixedDelayString = "${review.like.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> batch = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : retired.entrySet()) {
+            collect(batch, entry.getKey(), entry.getValue().sumThenReset());
+        }
+
+        Map<Long, LongAdder> detached = new HashMap<>();
+        for (Long reviewId : deltas.keySet()) {
+            LongAdder adder = deltas.remove(reviewId);
+            if (adder != null) {
+                collect(batch, reviewId, adder.sumThenReset());
+                detached.put(reviewId, adder);
+            }
+        }
+        retired = detached;
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> flushing = new ConcurrentHashMap<>(batch);
+        inFlight = flushing;
+        List<Object[]> args = new ArrayList<>(batch.size());
+        batch.forEach((reviewId, delta) -> args.add(new Object[] { delta, reviewId }));
+        // 배치 단위로 커밋 (실패한 배치는 통째로 롤백되므로 그 배치부터 다시 누적해도 중복 반영되지 않음)
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int from = 0;
+        try {
+            for (; from < args.size(); from += BATCH_SIZE) {
+                List<Object[]> chunk = args.subList(from, Math.min(args.size(), from + BATCH_SIZE));
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_LIKES_SQL, chunk));
+                // 커밋된 묶음은 DB 값에 포함되므로 반영 중 목록에서 제외
+                chunk.forEach(row -> flushing.remove((Long) row[1]));
+            }
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증감은 미반영 증감으로 되돌린 뒤 반영 중 목록을 비워 조회 값이 잠시라도 줄지 않도록 함
+            log.warn("Review like flush failed, retrying next cycle: {}", e.getMessage());
+            for (Object[] row : args.subList(from, args.size())) {
+                add((Long) row[1], (Long) row[0]);
+            }
+        } finally {
+            inFlight = Map.of();
+        }
+    }
+
+    // 종료 전 남은 증감 반영 (두 번째 반영으로 떼어낸 카운터의 늦은 증가분까지 수거)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush();
+    }
+
+    private void add(Long reviewId, long delta) {
+        deltas.computeIfAbsent(reviewId, id -> new LongAdder()).add(delta);
+    }
+
+    private void collect(Map<Long, Long> batch, Long reviewId, long delta) {
+        if (delta != 0) {
+            batch.merge(reviewId, delta, Long::sum);
+        }
+    }
+}
@@ -1,16 +1,16 @@
 package com.moviesite.mysite.service;
 
-import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.event.ReviewLikedEvent;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
 import com.moviesite.mysite.model.dto.response.ReviewLikeResponse;
 import com.moviesite.mysite.model.dto.response.UserResponse;
-import com.moviesite.mysite.model.entity.Review;
 import com.moviesite.mysite.model.entity.ReviewLike;
 import com.moviesite.mysite.model.entity.User;
 import com.moviesite.mysite.repository.ReviewLikeRepository;
 import com.moviesite.mysite.repository.ReviewRepository;
 import com.moviesite.mysite.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -19,7 +19,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,47 +29,37 @@ public class ReviewLikeService {
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final ReviewLikeCounterService reviewLikeCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 리뷰 좋아요 토글
+    // 리뷰 좋아요 토글 (삭제 또는 INSERT IGNORE로 처리하므로 중복 요청에도 한 번만 반영)
+    // 좋아요 수는 리뷰 행을 직접 갱신하지 않고 카운터에 증감만 기록 (주기적으로 일괄 반영)
     @Transactional
     public Map<String, Object> toggleReviewLike(Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
+        int storedLikes = reviewRepository.findLikesById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found with id: " + reviewId));
         
         User currentUser = getCurrentUser();
-        Optional<ReviewLike> existingLike = reviewLikeRepository.findByUserIdAndReviewId(currentUser.getId(), reviewId);
-        
         Map<String, Object> result = new HashMap<>();
         
-        if (existingLike.isPresent()) {
+        long delta;
+        if (reviewLikeRepository.deleteLike(currentUser.getId(), reviewId) > 0) {
             // 좋아요 취소
-            reviewLikeRepository.delete(existingLike.get());
-            
-            // 리뷰의 좋아요 수 감소
-            review.setLikes(review.getLikes() - 1);
-            reviewRepository.save(review);
-            
+            delta = -1;
             result.put("liked", false);
-            result.put("likeCount", review.getLikes());
             result.put("message", "리뷰 좋아요가 취소되었습니다");
         } else {
-            // 좋아요 추가
-            ReviewLike reviewLike = ReviewLike.builder()
-                    .user(currentUser)
-                    .review(review)
-                    .build();
-            
-            reviewLikeRepository.save(reviewLike);
-            
-            // 리뷰의 좋아요 수 증가
-            review.setLikes(review.getLikes() + 1);
-            reviewRepository.save(review);
-            
+            // 좋아요 추가 (동시에 같은 요청이 먼저 추가했으면 증감 없음)
+            delta = reviewLikeRepository.insertIgnore(currentUser.getId(), reviewId);
             result.put("liked", true);
-            result.put("likeCount", review.getLikes());
             result.put("message", "리뷰에 좋아요를 눌렀습니다");
         }
         
+        reviewLikeCounterService.record(reviewId, delta);
+        if (delta != 0) {
+            eventPublisher.publishEvent(new ReviewLikedEvent(reviewId, currentUser.getId(), delta));
+        }
+        result.put("likeCount", reviewLikeCounterService.currentLikes(reviewId, storedLikes) + (int) delta);
         return result;
     }
 
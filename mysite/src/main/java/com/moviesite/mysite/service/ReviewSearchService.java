@@ -0,0 +1,226 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ReviewChangedEvent;
+import com.moviesite.mysite.event.ReviewChangedEvent.ChangeType;
+import com.moviesite.mysite.event.ReviewLikedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.entity.Review.ReviewStatus;
+import com.moviesite.mysite.repository.ReviewRepository;
+import com.moviesite.mysite.util.BigramIndex;
+import com.moviesite.mysite.util.ReviewHotScore;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 리뷰 본문 검색 (영화별 bigram 역색인, 리뷰 변경 커밋 후 색인 갱신)
+// 검색어 문법: 단어(부분 일치), "여러 단어"(구문 일치), 단어*(단어 시작 일치) - 모든 조건을 만족하는 리뷰를 좋아요/최신 순으로 정렬
+@Service
+@RequiredArgsConstructor
+public class ReviewSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewSearchService.class);
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewLikeCounterService reviewLikeCounterService;
+
+    // 좋아요 10배 차이를 상쇄하는 작성 시각 차이 (초)
+    @Value("${review.search.decay-seconds:604800}")
+    private long decaySeconds;
+
+    // 시작 시 색인할 때 한 번에 읽는 리뷰 수
+    @Value("${review.search.index-batch-size:1000}")
+    private int indexBatchSize;
+
+    // 영화 ID -> 색인 (각 색인은 자기 자신으로 동기화)
+    private final Map<Long, BigramIndex> partitions = new ConcurrentHashMap<>();
+
+    // 리뷰 ID -> 정렬용 정보
+    private final Map<Long, Indexed> indexed = new ConcurrentHashMap<>();
+
+    private record Indexed(long movieId, int likes, long createdAt) {
+    }
+
+    // 검색 조건 (prefix: 단어 시작 일치)
+    private record Term(String text, boolean prefix) {
+    }
+
+    private record Match(long reviewId, double score) {
+    }
+
+    // 애플리케이션 시작 시 활성 리뷰 전체 색인 (ID 순으로 나누어 읽음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.nanoTime();
+        long afterId = 0;
+        int count = 0;
+        while (true) {
+            List<Object[]> rows = reviewRepository.findSearchRowsAfter(ReviewStatus.ACTIVE, afterId,
+                    PageRequest.of(0, indexBatchSize));
+            for (Object[] row : rows) {
+                index(row);
+            }
+            count += rows.size();
+            if (rows.size() < indexBatchSize) {
+                break;
+            }
+            afterId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+        log.info("Review search index built: {} reviews, {} movies in {} ms", count, partitions.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // 리뷰 작성/수정 시 다시 색인, 삭제/숨김 시 색인에서 제거
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getChangeType() == ChangeType.REMOVED) {
+            remove(event.getReviewId());
+            return;
+        }
+        List<Object[]> rows = reviewRepository.findSearchRowsByIds(ReviewStatus.ACTIVE, List.of(event.getReviewId()));
+        if (rows.isEmpty()) {
+            remove(event.getReviewId());
+        }
+        rows.forEach(this::index);
+    }
+
+    // 좋아요 추가/취소 커밋 후 정렬용 좋아요 수 갱신
+    @TransactionalEventListener
+    public void onReviewLiked(ReviewLikedEvent event) {
+        indexed.computeIfPresent(event.getReviewId(), (id, current) -> new Indexed(current.movieId(),
+                (int) Math.max(0, current.likes() + event.getDelta()), current.createdAt()));
+    }
+
+    // 검색어에 맞는 리뷰 ID (movieId가 null이면 전체 영화, 좋아요/최신 점수 높은 순 limit개)
+    public List<Long> search(Long movieId, String query, int limit) {
+        List<Term> terms = parse(query);
+        int[] keys = BigramIndex.bigrams(String.join(" ", terms.stream().map(Term::text).toList()));
+        if (keys.length == 0) {
+            throw new BadRequestException("검색어는 2글자 이상 입력해주세요");
+        }
+
+        Collection<BigramIndex> targets;
+        if (movieId != null) {
+            BigramIndex partition = partitions.get(movieId);
+            targets = partition != null ? List.of(partition) : List.of();
+        } else {
+            targets = partitions.values();
+        }
+
+        // 점수 낮은 항목이 앞에 오는 힙으로 상위 limit개 유지
+        PriorityQueue<Match> top = new PriorityQueue<>(Comparator.comparingDouble(Match::score));
+        for (BigramIndex partition : targets) {
+            synchronized (partition) {
+                for (Long reviewId : partition.candidates(keys)) {
+                    Indexed info = indexed.get(reviewId);
+                    if (info == null || !matches(partition.text(reviewId), terms)) {
+                        continue;
+                    }
+                    top.add(new Match(reviewId, score(info)));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble(Match::score).reversed());
+        return ranked.stream().map(Match::reviewId).toList();
+    }
+
+    private void index(Object[] row) {
+        long reviewId = ((Number) row[0]).longValue();
+        long movieId = ((Number) row[1]).longValue();
+        String content = (String) row[2];
+        int likes = reviewLikeCounterService.currentLikes(reviewId, row[3] != null ? ((Number) row[3]).intValue() : 0);
+        long createdAt = ReviewHotScore.toEpochSeconds((LocalDateTime) row[4]);
+
+        Indexed previous = indexed.put(reviewId, new Indexed(movieId, likes, createdAt));
+        if (previous != null && previous.movieId() != movieId) {
+            removeFromPartition(previous.movieId(), reviewId);
+        }
+        BigramIndex partition = partitions.computeIfAbsent(movieId, id -> new BigramIndex());
+        synchronized (partition) {
+            partition.put(reviewId, content);
+        }
+    }
+
+    private void remove(Long reviewId) {
+        Indexed previous = indexed.remove(reviewId);
+        if (previous != null) {
+            removeFromPartition(previous.movieId(), reviewId);
+        }
+    }
+
+    private void removeFromPartition(long movieId, long reviewId) {
+        BigramIndex partition = partitions.get(movieId);
+        if (partition != null) {
+            synchronized (partition) {
+                partition.remove(reviewId);
+            }
+        }
+    }
+
+    // 검색어 해석 ("..."는 구문, 끝이 *인 단어는 단어 시작 일치)
+    private List<Term> parse(String query) {
+        List<Term> terms = new ArrayList<>();
+        if (query != null) {
+            String[] segments = query.split("\"", -1);
+            for (int i = 0; i < segments.length; i++) {
+                if (i % 2 == 1) {
+                    addTerm(terms, segments[i], false);
+                    continue;
+                }
+                for (String word : segments[i].trim().split("\\s+")) {
+                    boolean prefix = word.endsWith("*");
+                    addTerm(terms, prefix ? word.substring(0, word.length() - 1) : word, prefix);
+                }
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new BadRequestException("검색어를 입력해주세요");
+        }
+        return terms;
+    }
+
+    private void addTerm(List<Term> terms, String text, boolean prefix) {
+        String normalized = BigramIndex.normalize(text);
+        if (!normalized.isEmpty()) {
+            terms.add(new Term(normalized, prefix));
+        }
+    }
+
+    private boolean matches(String text, List<Term> terms) {
+        if (text == null) {
+            return false;
+        }
+        for (Term term : terms) {
+            boolean found = term.prefix()
+                    ? text.startsWith(term.text()) || text.contains(" " + term.text())
+                    : text.contains(term.text());
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double score(Indexed info) {
+        return ReviewHotScore.score(info.likes(), info.createdAt(), decaySeconds);
+    }
+}
@@ -1,8 +1,11 @@
 package com.moviesite.mysite.service;
 
 import com.moviesite.mysite.model.dto.request.ReviewRequest;
+import com.moviesite.mysite.event.ReviewChangedEvent;
+import com.moviesite.mysite.event.ReviewChangedEvent.ChangeType;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.CursorPageResponse;
 import com.moviesite.mysite.model.dto.response.ReviewResponse;
 import com.moviesite.mysite.model.entity.Movie;
 import com.moviesite.mysite.model.entity.Review;
@@ -12,16 +15,28 @@ import com.moviesite.mysite.repository.MovieRepository;
 import com.moviesite.mysite.repository.ReviewLikeRepository;
 import com.moviesite.mysite.repository.ReviewRepository;
 import com.moviesite.mysite.repository.UserRepository;
+import com.moviesite.mysite.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,10 +44,19 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    // 요청 속성에 보관하는 현재 사용자 ID 키
+    private static final String CURRENT_USER_ID_ATTRIBUTE = ReviewService.class.getName() + ".currentUserId";
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final MovieRepository movieRepository;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MovieRatingService movieRatingService;
+    private final LikedReviewCacheService likedReviewCacheService;
+    private final HotReviewService hotReviewService;
+    private final ReviewSearchService reviewSearchService;
+    private final ReviewLikeCounterService reviewLikeCounterService;
 
     // 특정 영화의 리뷰 목록 조회
     public Page<ReviewResponse> getReviewsByMovieId(Long movieId, Boolean spoilerFilter, Pageable pageable) {
@@ -46,15 +70,50 @@ public class ReviewService {
                     movieId, ReviewStatus.ACTIVE, pageable);
         }
         
-        User currentUser = getCurrentUserOrNull();
-        return reviews.map(review -> {
-            ReviewResponse response = ReviewResponse.fromEntity(review);
-            if (currentUser != null) {
-                boolean userLiked = reviewLikeRepository.existsByUserIdAndReviewId(currentUser.getId(), review.getId());
-                response.withCurrentUserLikeStatus(userLiked);
-            }
-            return response;
-        });
+        return reviews.map(toResponseMapper(reviews.getContent(), getCurrentUserIdOrNull()));
+    }
+    
+    // 특정 영화의 리뷰 목록 조회 (커서 기반 페이징)
+    public CursorPageResponse<ReviewResponse> getReviewsByMovieIdCursor(Long movieId, Boolean spoilerFilter,
+                                                                        String cursor, Integer size, boolean withTotal) {
+        CursorUtil.Cursor position = CursorUtil.decodeTimeCursor(cursor);
+        boolean excludeSpoiler = spoilerFilter != null && spoilerFilter;
+
+        Slice<Review> reviews = reviewRepository.findSliceByMovieIdAfter(movieId, ReviewStatus.ACTIVE, excludeSpoiler,
+                position.getTimeKey(), position.getId(), PageRequest.of(0, CursorUtil.normalizeSize(size)));
+        Long total = withTotal
+                ? reviewRepository.countByMovieIdAndFilter(movieId, ReviewStatus.ACTIVE, excludeSpoiler)
+                : null;
+
+        return CursorPageResponse.of(reviews, toResponseMapper(reviews.getContent(), getCurrentUserIdOrNull()),
+                review -> CursorUtil.encode(review.getCreatedAt(), review.getId()), total);
+    }
+    
+    // 인기 리뷰 목록 조회 (movieId가 없으면 전체, 메모리 순위 기준 커서 페이징)
+    public CursorPageResponse<ReviewResponse> getHotReviews(Long movieId, String cursor, Integer size) {
+        int pageSize = CursorUtil.normalizeSize(size);
+        List<HotReviewService.Ranked> ranked = hotReviewService.getHotReviews(movieId, cursor, pageSize);
+        boolean hasNext = ranked.size() > pageSize;
+        List<HotReviewService.Ranked> page = hasNext ? ranked.subList(0, pageSize) : ranked;
+
+        List<Review> reviews = findActiveReviewsInOrder(page.stream().map(HotReviewService.Ranked::reviewId).toList());
+        String nextCursor = hasNext ? hotReviewService.encodeCursor(page.get(page.size() - 1)) : null;
+        Function<Review, ReviewResponse> mapper = toResponseMapper(reviews, getCurrentUserIdOrNull());
+        return CursorPageResponse.<ReviewResponse>builder()
+                .content(reviews.stream().map(mapper).collect(Collectors.toList()))
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    // 리뷰 본문 검색 (movieId가 없으면 전체 영화, 좋아요/최신 순)
+    public List<ReviewResponse> searchReviews(String query, Long movieId, Integer size) {
+        List<Review> reviews = findActiveReviewsInOrder(
+                reviewSearchService.search(movieId, query, CursorUtil.normalizeSize(size)));
+        return reviews.stream()
+                .map(toResponseMapper(reviews, getCurrentUserIdOrNull()))
+                .collect(Collectors.toList());
     }
     
     // 특정 사용자의 리뷰 목록 조회
@@ -65,15 +124,7 @@ public class ReviewService {
         Page<Review> reviews = reviewRepository.findByUserAndStatusOrderByCreatedAtDesc(
                 user, ReviewStatus.ACTIVE, pageable);
         
-        User currentUser = getCurrentUserOrNull();
-        return reviews.map(review -> {
-            ReviewResponse response = ReviewResponse.fromEntity(review);
-            if (currentUser != null) {
-                boolean userLiked = reviewLikeRepository.existsByUserIdAndReviewId(currentUser.getId(), review.getId());
-                response.withCurrentUserLikeStatus(userLiked);
-            }
-            return response;
-        });
+        return reviews.map(toResponseMapper(reviews.getContent(), getCurrentUserIdOrNull()));
     }
     
     // 내가 작성한 리뷰 목록 조회
@@ -82,12 +133,7 @@ public class ReviewService {
         Page<Review> reviews = reviewRepository.findByUserAndStatusOrderByCreatedAtDesc(
                 currentUser, ReviewStatus.ACTIVE, pageable);
         
-        return reviews.map(review -> {
-            ReviewResponse response = ReviewResponse.fromEntity(review);
-            boolean userLiked = reviewLikeRepository.existsByUserIdAndReviewId(currentUser.getId(), review.getId());
-            response.withCurrentUserLikeStatus(userLiked);
-            return response;
-        });
+        return reviews.map(toResponseMapper(reviews.getContent(), currentUser.getId()));
     }
     
     // 특정 리뷰 상세 조회
@@ -99,12 +145,12 @@ public class ReviewService {
             throw new ResourceNotFoundException("Review not found with id: " + id);
         }
         
-        ReviewResponse response = ReviewResponse.fromEntity(review);
+        ReviewResponse response = toResponse(review);
         
         // 현재 로그인한 사용자의 좋아요 여부 확인
-        User currentUser = getCurrentUserOrNull();
-        if (currentUser != null) {
-            boolean userLiked = reviewLikeRepository.existsByUserIdAndReviewId(currentUser.getId(), review.getId());
+        Long currentUserId = getCurrentUserIdOrNull();
+        if (currentUserId != null) {
+            boolean userLiked = reviewLikeRepository.existsByUserIdAndReviewId(currentUserId, review.getId());
             response.withCurrentUserLikeStatus(userLiked);
         }
         
@@ -134,7 +180,8 @@ public class ReviewService {
                 .build();
         
         Review savedReview = reviewRepository.save(review);
-        return ReviewResponse.fromEntity(savedReview);
+        publishReviewChanged(savedReview, ChangeType.CREATED, null, savedReview.getRating());
+        return toResponse(savedReview);
     }
     
     // 리뷰 수정
@@ -143,13 +190,17 @@ public class ReviewService {
         Review review = findReviewById(id);
         validateReviewOwnership(review);
         
+        BigDecimal previousRating = review.getRating();
         review.setRating(request.getRating());
         review.setContent(request.getContent());
         review.setSpoiler(request.getSpoiler());
         review.setUpdatedAt(LocalDateTime.now());
         
         Review updatedReview = reviewRepository.save(review);
-        return ReviewResponse.fromEntity(updatedReview);
+        if (updatedReview.getStatus() == ReviewStatus.ACTIVE) {
+            publishReviewChanged(updatedReview, ChangeType.UPDATED, previousRating, updatedReview.getRating());
+        }
+        return toResponse(updatedReview);
     }
     
     // 리뷰 삭제
@@ -158,9 +209,13 @@ public class ReviewService {
         Review review = findReviewById(id);
         validateReviewOwnership(review);
         
+        boolean wasActive = review.getStatus() == ReviewStatus.ACTIVE;
         review.setStatus(ReviewStatus.DELETED);
         review.setUpdatedAt(LocalDateTime.now());
         reviewRepository.save(review);
+        if (wasActive) {
+            publishReviewChanged(review, ChangeType.REMOVED, review.getRating(), null);
+        }
     }
     
     // 리뷰 숨김 처리 (관리자용)
@@ -172,11 +227,32 @@ public class ReviewService {
         }
         
         Review review = findReviewById(id);
+        boolean wasActive = review.getStatus() == ReviewStatus.ACTIVE;
         review.setStatus(ReviewStatus.HIDDEN);
         review.setUpdatedAt(LocalDateTime.now());
         
         Review updatedReview = reviewRepository.save(review);
-        return ReviewResponse.fromEntity(updatedReview);
+        if (wasActive) {
+            publishReviewChanged(updatedReview, ChangeType.REMOVED, updatedReview.getRating(), null);
+        }
+        return toResponse(updatedReview);
+    }
+    
+    // 영화 평점 집계 갱신 후 리뷰 변경 이벤트 발행 (커밋 이후 집계 캐시/추천 처리)
+    private void publishReviewChanged(Review review, ChangeType changeType, BigDecimal previousRating, BigDecimal rating) {
+        movieRatingService.applyRatingChange(review.getMovie().getId(), previousRating, rating);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getId(), review.getMovie().getId(),
+                review.getUser().getId(), changeType, previousRating, rating));
+    }
+    
+    // 주어진 ID 순서대로 활성 리뷰 조회 (색인/순위 반영 전에 삭제/숨김된 리뷰는 제외)
+    private List<Review> findActiveReviewsInOrder(List<Long> reviewIds) {
+        Map<Long, Review> reviewsById = reviewRepository.findByIdInAndStatus(reviewIds, ReviewStatus.ACTIVE).stream()
+                .collect(Collectors.toMap(Review::getId, Function.identity()));
+        return reviewIds.stream()
+                .map(reviewsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
     
     // 리뷰 엔티티 조회 (내부 메서드)
@@ -194,13 +270,43 @@ public class ReviewService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
     }
     
-    // 현재 로그인한 사용자 조회 (없을 경우 null 반환)
-    private User getCurrentUserOrNull() {
-        try {
-            return getCurrentUser();
-        } catch (Exception e) {
+    // 현재 로그인한 사용자 ID 조회 (없을 경우 null 반환, 같은 요청 안에서는 한 번만 조회)
+    private Long getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
             return null;
         }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(CURRENT_USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long userId) {
+            return userId;
+        }
+        Long userId = userRepository.findIdByEmail(authentication.getName()).orElse(null);
+        if (attributes != null && userId != null) {
+            attributes.setAttribute(CURRENT_USER_ID_ATTRIBUTE, userId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userId;
+    }
+
+    // 리뷰 목록 응답 변환 함수 (현재 사용자의 좋아요 여부는 목록 전체를 한 번에 확인)
+    private Function<Review, ReviewResponse> toResponseMapper(List<Review> reviews, Long currentUserId) {
+        if (currentUserId == null) {
+            return this::toResponse;
+        }
+        Set<Long> likedReviewIds = likedReviewCacheService.findLikedReviewIds(currentUserId,
+                reviews.stream().map(Review::getId).toList());
+        return review -> toResponse(review)
+                .withCurrentUserLikeStatus(likedReviewIds.contains(review.getId()));
+    }
+    
+    // 리뷰 응답 변환 (좋아요 수는 아직 DB에 반영되지 않은 증감까지 포함)
+    private ReviewResponse toResponse(Review review) {
+        ReviewResponse response = ReviewResponse.fromEntity(review);
+        response.setLikes(reviewLikeCounterService.currentLikes(review.getId(),
+                review.getLikes() != null ? review.getLikes() : 0));
+        return response;
     }
     
     // 리뷰 소유권 확인
@@ -0,0 +1,337 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.dto.request.ScheduleRequest;
+import com.moviesite.mysite.model.dto.response.ScheduleConflictResponse;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.model.entity.Screening.ScreeningStatus;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.repository.ScreeningRepository;
+import com.moviesite.mysite.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 상영관 점유 구간 인덱스 (상영관별 구간 트리로 상영 일정/상영 정보의 시간 중복을 메모리에서 검사)
+// 변경/해제 전 구간은 트랜잭션이 커밋될 때까지 계속 점유해 롤백 시 다른 항목과 겹치지 않고 되돌릴 수 있도록 함
+@Service
+@RequiredArgsConstructor
+public class ScheduleConflictService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleConflictService.class);
+
+    private static final String SCHEDULE_CONFLICT_MESSAGE = "해당 상영관에 이미 같은 시간대에 예정된 상영 일정이 있습니다";
+    private static final String SCREENING_CONFLICT_MESSAGE = "해당 상영관에 이미 같은 시간대에 예정된 상영이 있습니다";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScreeningRepository screeningRepository;
+
+    // 상영 사이에 확보할 청소 시간 (분)
+    @Value("${schedule.conflict.cleaning-buffer-minutes:15}")
+    private long cleaningBufferMinutes;
+
+    // 점유 구간 종류 (상영 일정과 상영 정보는 같은 회차를 나타낼 수 있으므로 별도로 관리)
+    public enum OccupancyType {
+        SCHEDULE, SCREENING
+    }
+
+    // 종류별, 상영관별 구간 트리
+    private final Map<OccupancyType, Map<Long, IntervalTree>> trees = new EnumMap<>(OccupancyType.class);
+
+    // 종류별, 항목 ID별 상영관 ID (상영관 변경/삭제 시 기존 트리 확인용)
+    private final Map<OccupancyType, Map<Long, Long>> screenByItem = new EnumMap<>(OccupancyType.class);
+
+    {
+        for (OccupancyType type : OccupancyType.values()) {
+            trees.put(type, new ConcurrentHashMap<>());
+            screenByItem.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    // 상영 일정 구간 점유 (겹치면 예외, 이전 구간은 커밋 시 해제하고 롤백 시 그대로 유지)
+    public void reserveSchedule(Long scheduleId, Long screenId, LocalDateTime startTime, LocalDateTime endTime) {
+        reserve(OccupancyType.SCHEDULE, scheduleId, screenId, startTime, endTime, SCHEDULE_CONFLICT_MESSAGE);
+    }
+
+    // 상영 일정 구간 해제 (삭제/취소 시, 커밋된 경우에만 해제)
+    public void releaseSchedule(Long scheduleId) {
+        release(OccupancyType.SCHEDULE, scheduleId);
+    }
+
+    // 상영 정보 구간 점유 (겹치면 예외, 이전 구간은 커밋 시 해제하고 롤백 시 그대로 유지)
+    public void reserveScreening(Long screeningId, Long screenId, LocalDateTime startTime, LocalDateTime endTime) {
+        reserve(OccupancyType.SCREENING, screeningId, screenId, startTime, endTime, SCREENING_CONFLICT_MESSAGE);
+    }
+
+    // 상영 정보 구간 해제 (삭제/취소 시, 커밋된 경우에만 해제)
+    public void releaseScreening(Long screeningId) {
+        release(OccupancyType.SCREENING, screeningId);
+    }
+
+    // 등록 예정 상영 일정 목록을 한 번에 검증 (기존 일정 및 요청 내 다른 항목과의 중복, 점유는 하지 않음)
+    public List<ScheduleConflictResponse> validateSchedules(List<ScheduleRequest> requests) {
+        long buffer = cleaningBufferMinutes * 60;
+        List<ScheduleConflictResponse> results = new ArrayList<>(requests.size());
+        Map<Long, List<Integer>> indexesByScreen = new HashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ScheduleRequest request = requests.get(i);
+            ScheduleConflictResponse result = ScheduleConflictResponse.builder()
+                    .index(i)
+                    .screenId(request.getScreenId())
+                    .startTime(request.getStartTime())
+                    .endTime(request.getEndTime())
+                    .valid(true)
+                    .build();
+            results.add(result);
+
+            if (request.getScreenId() == null || request.getStartTime() == null || request.getEndTime() == null) {
+                invalidate(result, "상영관 ID와 상영 시작/종료 시간은 필수 입력값입니다");
+                continue;
+            }
+            if (!request.getStartTime().isBefore(request.getEndTime())) {
+                invalidate(result, "시작 시간은 종료 시간보다 이전이어야 합니다");
+                continue;
+            }
+
+            // 기존 상영 일정과의 중복 검사
+            IntervalTree tree = trees.get(OccupancyType.SCHEDULE).get(request.getScreenId());
+            if (tree != null) {
+                List<Long> conflicts;
+                synchronized (tree) {
+                    conflicts = tree.findOverlaps(toEpoch(request.getStartTime()) - buffer,
+                            toEpoch(request.getEndTime()) + buffer, -1);
+                }
+                if (!conflicts.isEmpty()) {
+                    // 변경 중인 일정의 이전 구간은 일정 ID로 표시
+                    result.setConflictScheduleIds(conflicts.stream().map(Math::abs).distinct().toList());
+                    invalidate(result, SCHEDULE_CONFLICT_MESSAGE);
+                }
+            }
+            indexesByScreen.computeIfAbsent(request.getScreenId(), key -> new ArrayList<>()).add(i);
+        }
+
+        // 요청 내 중복 검사: 상영관별로 시작 시간 순 정렬 후 앞선 항목들의 최대 종료 시간과 비교
+        for (List<Integer> indexes : indexesByScreen.values()) {
+            indexes.sort(Comparator.comparing((Integer index) -> requests.get(index).getStartTime()));
+            long maxEnd = Long.MIN_VALUE;
+            int maxEndIndex = -1;
+            for (int index : indexes) {
+                ScheduleRequest request = requests.get(index);
+                long start = toEpoch(request.getStartTime());
+                long end = toEpoch(request.getEndTime());
+                if (maxEndIndex >= 0 && start < maxEnd + buffer) {
+                    markBatchConflict(results.get(index), maxEndIndex);
+                    markBatchConflict(results.get(maxEndIndex), index);
+                }
+                if (end > maxEnd) {
+                    maxEnd = end;
+                    maxEndIndex = index;
+                }
+            }
+        }
+        return results;
+    }
+
+    // 애플리케이션 시작 시 취소되지 않은 현재 이후 구간으로 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        int schedules = 0;
+        for (Object[] row : scheduleRepository.findOccupancyRows(ScheduleStatus.CANCELED, now)) {
+            schedules += load(OccupancyType.SCHEDULE, (Long) row[0], (Long) row[1],
+                    (LocalDateTime) row[2], (LocalDateTime) row[3]);
+        }
+
+        int screenings = 0;
+        for (Object[] row : screeningRepository.findOccupancyRows(ScreeningStatus.CANCELED, now.toLocalDate())) {
+            LocalDate date = (LocalDate) row[2];
+            screenings += load(OccupancyType.SCREENING, (Long) row[0], (Long) row[1],
+                    LocalDateTime.of(date, (LocalTime) row[3]), LocalDateTime.of(date, (LocalTime) row[4]));
+        }
+
+        log.info("Screen occupancy index loaded: {} schedules, {} screenings, {} ms",
+                schedules, screenings, System.currentTimeMillis() - startedAt);
+    }
+
+    // 이미 끝난 구간 정리
+    @Scheduled(cron = "${schedule.conflict.prune-cron:0 0 4 * * ?}")
+    public void pruneEnded() {
+        long cutoff = toEpoch(LocalDateTime.now());
+        for (OccupancyType type : OccupancyType.values()) {
+            for (IntervalTree tree : trees.get(type).values()) {
+                synchronized (tree) {
+                    for (Long itemId : tree.idsEndingBefore(cutoff)) {
+                        tree.remove(itemId);
+                        screenByItem.get(type).remove(itemId);
+                    }
+                }
+            }
+        }
+    }
+
+    private void reserve(OccupancyType type, Long itemId, Long screenId, LocalDateTime startTime,
+            LocalDateTime endTime, String conflictMessage) {
+        if (!startTime.isBefore(endTime)) {
+            throw new BadRequestException("시작 시간은 종료 시간보다 이전이어야 합니다");
+        }
+        long start = toEpoch(startTime);
+        long end = toEpoch(endTime);
+        long buffer = cleaningBufferMinutes * 60;
+
+        Long previousScreenId = screenByItem.get(type).get(itemId);
+        boolean sameScreen = screenId.equals(previousScreenId);
+
+        // 같은 상영관 안에서는 검사와 추가를 한 번에 처리해 동시 등록 간 중복을 차단
+        // 같은 상영관에서 옮기면 이전 구간은 임시 ID로 남겨 커밋 전까지 다른 항목이 차지하지 못하도록 함
+        IntervalTree tree = treeFor(type, screenId);
+        long[] previous;
+        synchronized (tree) {
+            if (hasConflict(tree, start - buffer, end + buffer, itemId)) {
+                throw new BadRequestException(conflictMessage);
+            }
+            previous = sameScreen ? tree.get(itemId) : null;
+            if (previous != null) {
+                tree.insert(holdId(itemId), previous[0], previous[1]);
+            }
+            tree.insert(itemId, start, end);
+        }
+        screenByItem.get(type).put(itemId, screenId);
+
+        afterCompletion(committed -> {
+            if (committed) {
+                // 이전 구간 해제
+                if (previous != null) {
+                    removeFrom(type, screenId, holdId(itemId));
+                } else if (previousScreenId != null && !sameScreen) {
+                    removeFrom(type, previousScreenId, itemId);
+                }
+                return;
+            }
+            // 새 구간만 해제 (이전 구간은 계속 점유하고 있었으므로 겹칠 수 없음)
+            synchronized (tree) {
+                tree.remove(holdId(itemId));
+                if (previous != null) {
+                    tree.insert(itemId, previous[0], previous[1]);
+                } else {
+                    tree.remove(itemId);
+                }
+            }
+            if (previousScreenId != null) {
+                screenByItem.get(type).put(itemId, previousScreenId);
+            } else {
+                screenByItem.get(type).remove(itemId);
+            }
+        });
+    }
+
+    private void release(OccupancyType type, Long itemId) {
+        Long screenId = screenByItem.get(type).get(itemId);
+        if (screenId == null) {
+            return;
+        }
+        afterCompletion(committed -> {
+            if (committed) {
+                removeFrom(type, screenId, itemId);
+                screenByItem.get(type).remove(itemId, screenId);
+            }
+        });
+    }
+
+    // 트랜잭션 종료 후 커밋 여부를 전달 (트랜잭션 밖이면 바로 커밋된 것으로 처리)
+    private void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    // 자기 자신(과 변경 전 구간)을 제외하고 겹치는 구간이 있는지 확인
+    private static boolean hasConflict(IntervalTree tree, long start, long end, Long itemId) {
+        for (Long id : tree.findOverlaps(start, end, itemId)) {
+            if (id != holdId(itemId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 변경 전 구간을 커밋 전까지 붙잡아 두는 임시 ID (항목 ID는 양수)
+    private static long holdId(Long itemId) {
+        return -itemId;
+    }
+
+    private int load(OccupancyType type, Long itemId, Long screenId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            return 0;
+        }
+        IntervalTree tree = treeFor(type, screenId);
+        synchronized (tree) {
+            tree.insert(itemId, toEpoch(startTime), toEpoch(endTime));
+        }
+        screenByItem.get(type).put(itemId, screenId);
+        return 1;
+    }
+
+    private void removeFrom(OccupancyType type, Long screenId, Long itemId) {
+        IntervalTree tree = trees.get(type).get(screenId);
+        if (tree != null) {
+            synchronized (tree) {
+                tree.remove(itemId);
+            }
+        }
+    }
+
+    private IntervalTree treeFor(OccupancyType type, Long screenId) {
+        return trees.get(type).computeIfAbsent(screenId, key -> new IntervalTree());
+    }
+
+    private void invalidate(ScheduleConflictResponse result, String message) {
+        result.setValid(false);
+        if (result.getMessage() == null) {
+            result.setMessage(message);
+        }
+    }
+
+    private void markBatchConflict(ScheduleConflictResponse result, int otherIndex) {
+        if (result.getConflictRequestIndexes() == null) {
+            result.setConflictRequestIndexes(new ArrayList<>());
+        }
+        if (!result.getConflictRequestIndexes().contains(otherIndex)) {
+            result.getConflictRequestIndexes().add(otherIndex);
+        }
+        invalidate(result, "요청 목록 안에 같은 상영관의 시간이 겹치는 항목이 있습니다");
+    }
+
+    private static long toEpoch(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,207 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ScheduleChangedEvent;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 예매 가능한 상영 일정의 메모리 인덱스 (영화별로 시작 시간 순 정렬된 슬롯 배열 유지)
+@Service
+@RequiredArgsConstructor
+public class ScheduleIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleIndexService.class);
+
+    private static final Slot[] EMPTY = new Slot[0];
+    private static final Comparator<Slot> BY_START_TIME =
+            Comparator.comparing(Slot::getStartTime).thenComparing(Slot::getScheduleId);
+
+    private final ScheduleRepository scheduleRepository;
+
+    // 인덱스에 올리는 상영 일정 범위 (현재 시점부터 일 단위)
+    @Value("${schedule.index.horizon-days:14}")
+    private int horizonDays;
+
+    // 영화별 예매 가능 슬롯 (교체 방식으로만 갱신되는 정렬 배열)
+    private final Map<Long, Slot[]> slotsByMovie = new ConcurrentHashMap<>();
+
+    // 상영 일정별 영화 ID (수정/삭제 시 기존 슬롯 위치 확인용)
+    private final Map<Long, Long> movieBySchedule = new ConcurrentHashMap<>();
+
+    // 상영 슬롯 항목
+    @Getter
+    @AllArgsConstructor
+    public static class Slot {
+        private final Long scheduleId;
+        private final Long movieId;
+        private final Long theaterId;
+        private final Long screenId;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final Integer price;
+        private final Integer availableSeats;
+    }
+
+    // 특정 영화의 기간 내 예매 가능 슬롯 조회 (시작 시간 이진 탐색 후 순차 스캔)
+    public List<Slot> findSlots(Long movieId, LocalDateTime from, LocalDateTime to) {
+        Slot[] slots = slotsByMovie.getOrDefault(movieId, EMPTY);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lower = from != null && from.isAfter(now) ? from : now;
+
+        List<Slot> result = new ArrayList<>();
+        for (int i = lowerBound(slots, lower); i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (to != null && !slot.getStartTime().isBefore(to)) {
+                break;
+            }
+            if (slot.getAvailableSeats() != null && slot.getAvailableSeats() > 0) {
+                result.add(slot);
+            }
+        }
+        return result;
+    }
+
+    // 특정 영화의 기간 내 예매 가능 슬롯을 극장별로 묶어서 조회
+    public Map<Long, List<Slot>> findSlotsByTheater(Long movieId, LocalDateTime from, LocalDateTime to) {
+        Map<Long, List<Slot>> result = new LinkedHashMap<>();
+        for (Slot slot : findSlots(movieId, from, to)) {
+            result.computeIfAbsent(slot.getTheaterId(), key -> new ArrayList<>()).add(slot);
+        }
+        return result;
+    }
+
+    // 애플리케이션 시작 시 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 주기적으로 전체 인덱스 재구성 (지난 상영 정리, 잔여 좌석 수 반영)
+    @Scheduled(fixedDelayString = "${schedule.index.refresh-interval-ms:300000}")
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, List<Slot>> grouped = new HashMap<>();
+        for (Object[] row : scheduleRepository.findSlotRows(ScheduleStatus.OPEN, now, now.plusDays(horizonDays))) {
+            Slot slot = toSlot(row);
+            grouped.computeIfAbsent(slot.getMovieId(), key -> new ArrayList<>()).add(slot);
+        }
+
+        Map<Long, Long> scheduleMovies = new HashMap<>();
+        Map<Long, Slot[]> rebuilt = new HashMap<>();
+        grouped.forEach((movieId, slots) -> {
+            Slot[] sorted = slots.toArray(EMPTY);
+            Arrays.sort(sorted, BY_START_TIME);
+            rebuilt.put(movieId, sorted);
+            slots.forEach(slot -> scheduleMovies.put(slot.getScheduleId(), movieId));
+        });
+
+        slotsByMovie.keySet().retainAll(rebuilt.keySet());
+        slotsByMovie.putAll(rebuilt);
+        movieBySchedule.keySet().retainAll(scheduleMovies.keySet());
+        movieBySchedule.putAll(scheduleMovies);
+
+        log.debug("Schedule index rebuilt: {} movies, {} slots, {} ms",
+                rebuilt.size(), scheduleMovies.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    // 상영 일정 변경 시 해당 일정만 다시 읽어 반영
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        refresh(event.getScheduleIds());
+    }
+
+    // 특정 상영 일정들의 슬롯 갱신 (삭제되었거나 예매 불가 상태가 된 일정은 제거)
+    public synchronized void refresh(Collection<Long> scheduleIds) {
+        if (scheduleIds == null || scheduleIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plusDays(horizonDays);
+
+        Map<Long, List<Slot>> added = new HashMap<>();
+        for (Object[] row : scheduleRepository.findSlotRowsByIds(scheduleIds)) {
+            Slot slot = toSlot(row);
+            ScheduleStatus status = (ScheduleStatus) row[8];
+            if (status == ScheduleStatus.OPEN && slot.getStartTime().isAfter(now)
+                    && slot.getStartTime().isBefore(horizon)) {
+                added.computeIfAbsent(slot.getMovieId(), key -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        Set<Long> affectedMovies = new HashSet<>(added.keySet());
+        for (Long scheduleId : scheduleIds) {
+            Long movieId = movieBySchedule.remove(scheduleId);
+            if (movieId != null) {
+                affectedMovies.add(movieId);
+            }
+        }
+
+        Set<Long> changed = new HashSet<>(scheduleIds);
+        for (Long movieId : affectedMovies) {
+            List<Slot> slots = new ArrayList<>();
+            for (Slot slot : slotsByMovie.getOrDefault(movieId, EMPTY)) {
+                if (!changed.contains(slot.getScheduleId())) {
+                    slots.add(slot);
+                }
+            }
+            for (Slot slot : added.getOrDefault(movieId, Collections.emptyList())) {
+                slots.add(slot);
+                movieBySchedule.put(slot.getScheduleId(), movieId);
+            }
+
+            if (slots.isEmpty()) {
+                slotsByMovie.remove(movieId);
+            } else {
+                Slot[] sorted = slots.toArray(EMPTY);
+                Arrays.sort(sorted, BY_START_TIME);
+                slotsByMovie.put(movieId, sorted);
+            }
+        }
+    }
+
+    // 시작 시간이 from 이상인 첫 슬롯 위치
+    private int lowerBound(Slot[] slots, LocalDateTime from) {
+        int low = 0;
+        int high = slots.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (slots[mid].getStartTime().isBefore(from)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Slot toSlot(Object[] row) {
+        return new Slot((Long) row[0], (Long) row[1], (Long) row[2], (Long) row[3],
+                (LocalDateTime) row[4], (LocalDateTime) row[5], (Integer) row[6], (Integer) row[7]);
+    }
+}
@@ -0,0 +1,227 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ScheduleChangedEvent;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.model.entity.Screening.ScreeningStatus;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.repository.ScreeningRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 상영 일정/상영 정보 상태 자동 전환 (시작 시각에 상영 일정 CLOSED, 종료 시각에 상영 정보 COMPLETED)
+// 가까운 시일의 전환 시각을 지연 큐에 올려두고 전용 스레드가 만기된 항목을 모아 일괄 UPDATE
+@Service
+@RequiredArgsConstructor
+public class ScheduleLifecycleService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleLifecycleService.class);
+
+    // 한 번의 UPDATE로 처리할 최대 ID 수
+    private static final int CHUNK_SIZE = 500;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScreeningRepository screeningRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // 지연 큐에 올려둘 전환 시각 범위 (시간 단위, 재적재 주기보다 길어야 함)
+    @Value("${schedule.lifecycle.lookahead-hours:6}")
+    private long lookaheadHours;
+
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+
+    // 큐에 올라간 전환 키 (주기적 재적재 시 중복 방지)
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    private volatile Thread worker;
+
+    // 전환 종류
+    private enum TransitionType {
+        SCHEDULE_START, SCREENING_END
+    }
+
+    // 지연 큐 항목 (만기 시각이 되면 꺼낼 수 있음)
+    private static class Transition implements Delayed {
+        private final TransitionType type;
+        private final Long itemId;
+        private final long dueAtMillis;
+
+        Transition(TransitionType type, Long itemId, LocalDateTime dueAt) {
+            this.type = type;
+            this.itemId = itemId;
+            this.dueAtMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        String key() {
+            return type + ":" + itemId + ":" + dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Transition) other).dueAtMillis);
+        }
+    }
+
+    // 애플리케이션 시작 시 누락된 전환을 보정하고 전용 스레드 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        worker = Thread.ofPlatform().name("schedule-lifecycle").daemon().start(this::runWorker);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    // 주기적으로 지난 전환을 일괄 보정하고 다음 범위의 전환 시각을 큐에 적재
+    @Scheduled(fixedDelayString = "${schedule.lifecycle.reload-interval-ms:600000}",
+            initialDelayString = "${schedule.lifecycle.reload-interval-ms:600000}")
+    public void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        catchUp(now);
+
+        LocalDateTime horizon = now.plusHours(lookaheadHours);
+        int added = 0;
+        for (Object[] row : scheduleRepository.findStartTimes(ScheduleStatus.OPEN, now, horizon)) {
+            added += enqueue(new Transition(TransitionType.SCHEDULE_START, (Long) row[0], (LocalDateTime) row[1]));
+        }
+        // 전날 시작해 자정을 넘겨 끝나는 상영도 포함
+        for (Object[] row : screeningRepository.findEndTimes(ScreeningStatus.ACTIVE, now.toLocalDate().minusDays(1),
+                horizon.toLocalDate())) {
+            LocalDateTime endAt = endAt((LocalDate) row[1], (LocalTime) row[2], (LocalTime) row[3]);
+            if (endAt.isAfter(now) && !endAt.isAfter(horizon)) {
+                added += enqueue(new Transition(TransitionType.SCREENING_END, (Long) row[0], endAt));
+            }
+        }
+        log.debug("Lifecycle transitions queued: {} added, {} pending", added, queue.size());
+    }
+
+    // 상영 일정이 등록/수정되면 새 시작 시각을 큐에 적재 (이전 시각 항목은 만기 시 조건 불일치로 무시됨)
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        LocalDateTime horizon = LocalDateTime.now().plusHours(lookaheadHours);
+        for (Object[] row : scheduleRepository.findStartTimesByIds(event.getScheduleIds())) {
+            LocalDateTime startTime = (LocalDateTime) row[2];
+            if (row[1] == ScheduleStatus.OPEN && !startTime.isAfter(horizon)) {
+                enqueue(new Transition(TransitionType.SCHEDULE_START, (Long) row[0], startTime));
+            }
+        }
+    }
+
+    // 만기된 전환을 모아서 처리 (하나를 기다린 뒤 같은 시점에 만기된 항목을 함께 꺼냄)
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Transition> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due);
+
+                List<Long> schedules = new ArrayList<>();
+                List<Long> screenings = new ArrayList<>();
+                for (Transition transition : due) {
+                    queued.remove(transition.key());
+                    (transition.type == TransitionType.SCHEDULE_START ? schedules : screenings).add(transition.itemId);
+                }
+                closeSchedules(schedules, LocalDateTime.now());
+                completeScreenings(screenings, LocalDateTime.now());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // 실패한 항목은 다음 재적재 시 보정 단계에서 다시 처리됨
+                log.warn("Lifecycle transition failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 시작 시각이 지났는데 전환되지 않은 항목 일괄 처리 (서버 중단, 큐 적재 이후 등록된 항목 등)
+    private void catchUp(LocalDateTime now) {
+        List<Long> schedules = scheduleRepository.findIdsStartedBefore(ScheduleStatus.OPEN, now);
+        List<Long> screenings = screeningRepository.findIdsEndedBefore(ScreeningStatus.ACTIVE,
+                now.toLocalDate(), now.toLocalDate().minusDays(1), now.toLocalTime());
+        closeSchedules(schedules, now);
+        completeScreenings(screenings, now);
+        if (!schedules.isEmpty() || !screenings.isEmpty()) {
+            log.info("Lifecycle catch-up: {} schedules closed, {} screenings completed",
+                    schedules.size(), screenings.size());
+        }
+    }
+
+    // 상영 일정 CLOSED 전환 후 캐시 갱신 이벤트 발행 (청크별 트랜잭션, 이벤트는 커밋 후 처리)
+    private void closeSchedules(List<Long> ids, LocalDateTime now) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            transaction.executeWithoutResult(status -> {
+                int updated = scheduleRepository.updateStatusOfStarted(chunk, ScheduleStatus.OPEN,
+                        ScheduleStatus.CLOSED, now);
+                if (updated == 0) {
+                    return;
+                }
+                Set<Long> theaterIds = new HashSet<>();
+                Set<LocalDate> dates = new HashSet<>();
+                for (Object[] row : scheduleRepository.findTheaterAndStartTimeByIds(chunk)) {
+                    theaterIds.add((Long) row[1]);
+                    dates.add(((LocalDateTime) row[2]).toLocalDate());
+                }
+                eventPublisher.publishEvent(new ScheduleChangedEvent(new HashSet<>(chunk), theaterIds, dates));
+            });
+        }
+    }
+
+    // 상영 정보 COMPLETED 전환 (청크별 트랜잭션)
+    private void completeScreenings(List<Long> ids, LocalDateTime now) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            transaction.executeWithoutResult(status -> screeningRepository.updateStatus(chunk,
+                    ScreeningStatus.ACTIVE, ScreeningStatus.COMPLETED, now));
+        }
+    }
+
+    // 상영 종료 시각 (종료 시간이 시작 시간보다 이르면 자정을 넘겨 다음 날 종료)
+    private static LocalDateTime endAt(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        LocalDateTime endAt = LocalDateTime.of(date, endTime);
+        return endTime.isBefore(startTime) ? endAt.plusDays(1) : endAt;
+    }
+
+    private int enqueue(Transition transition) {
+        if (!queued.add(transition.key())) {
+            return 0;
+        }
+        queue.add(transition);
+        return 1;
+    }
+}
@@ -0,0 +1,464 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ScheduleChangedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.request.SchedulePlanRequest;
+import com.moviesite.mysite.model.dto.request.SchedulePlanRequest.MovieTarget;
+import com.moviesite.mysite.model.dto.request.SchedulePlanRequest.ScreenHours;
+import com.moviesite.mysite.model.dto.response.SchedulePlanResponse;
+import com.moviesite.mysite.model.dto.response.SchedulePlanResponse.PlannedShow;
+import com.moviesite.mysite.model.dto.response.SchedulePlanResponse.UnplacedShow;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.model.entity.Screen;
+import com.moviesite.mysite.model.entity.Screening.ScreeningStatus;
+import com.moviesite.mysite.model.entity.User;
+import com.moviesite.mysite.repository.MovieRepository;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.repository.ScreenRepository;
+import com.moviesite.mysite.repository.ScreeningRepository;
+import com.moviesite.mysite.repository.SeatRepository;
+import com.moviesite.mysite.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 주간 상영 일정 일괄 편성 (상영관별 운영 시간 안에 충돌 없이 배치한 뒤 배치 INSERT로 한 번에 저장)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SchedulePlannerService {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulePlannerService.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    // 상영 시작 시간 단위 (분)
+    private static final int START_STEP_MINUTES = 5;
+
+    private static final String INSERT_SCHEDULE_SQL = "INSERT INTO schedules "
+            + "(movie_id, screen_id, start_time, end_time, price, available_seats, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SCREENING_SQL = "INSERT INTO screenings "
+            + "(movie_id, screen_id, schedule_id, screening_date, screening_time, end_time, is_full, available_seats, "
+            + "status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final MovieRepository movieRepository;
+    private final ScreenRepository screenRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ScreeningRepository screeningRepository;
+    private final SeatRepository seatRepository;
+    private final UserRepository userRepository;
+    private final ScheduleConflictService scheduleConflictService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기본 첫 회 시작 시간
+    @Value("${schedule.planner.open-time:09:00}")
+    private String defaultOpenTime;
+
+    // 기본 마지막 회 시작 가능 시간
+    @Value("${schedule.planner.last-start-time:22:00}")
+    private String defaultLastStartTime;
+
+    // 상영 사이 최소 정리 시간 (상영관 시간 중복 검사와 같은 값)
+    @Value("${schedule.conflict.cleaning-buffer-minutes:15}")
+    private int cleaningBufferMinutes;
+
+    // 상영관 하루 운영 구간
+    private static class ScreenDay {
+        private final Long screenId;
+        private final LocalDate date;
+        private final LocalDateTime open;
+        private final LocalDateTime lastStart;
+        private final List<LocalDateTime[]> occupied;
+        private long remainingMinutes;
+        private final List<MovieTarget> assigned = new ArrayList<>();
+
+        ScreenDay(Long screenId, LocalDate date, LocalDateTime open, LocalDateTime lastStart,
+                List<LocalDateTime[]> occupied, long remainingMinutes) {
+            this.screenId = screenId;
+            this.date = date;
+            this.open = open;
+            this.lastStart = lastStart;
+            this.occupied = occupied;
+            this.remainingMinutes = remainingMinutes;
+        }
+    }
+
+    // 상영관 하루 시간표 배치 결과
+    private static class PackResult {
+        private final List<PlannedShow> placed = new ArrayList<>();
+        private final List<Long> missingMovieIds = new ArrayList<>();
+    }
+
+    // 영화별 목표 상영 횟수에 맞춰 상영관 운영 시간 안에 일정을 편성하고 저장 (관리자용)
+    @Transactional
+    public SchedulePlanResponse planSchedules(SchedulePlanRequest request) {
+        User currentUser = getAuthenticatedUser();
+        if (!currentUser.isAdmin()) {
+            throw new BadRequestException("관리자만 접근 가능합니다");
+        }
+
+        Map<Long, Screen> screens = resolveScreens(request);
+        Map<Long, ScreenHours> hours = request.getScreens() != null
+                ? request.getScreens().stream().collect(Collectors.toMap(ScreenHours::getScreenId, Function.identity(),
+                        (a, b) -> b))
+                : Map.of();
+        Map<Long, Movie> movies = resolveMovies(request.getMovies());
+
+        int days = request.getDays() != null ? request.getDays() : 7;
+        int turnaround = Math.max(cleaningBufferMinutes,
+                request.getTurnaroundMinutes() != null ? request.getTurnaroundMinutes() : 0);
+        LocalDate startDate = request.getStartDate();
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = startDate.plusDays(days).atStartOfDay();
+
+        // 기존 일정과 상영 정보는 상영관별로 한 번에 조회해 배치 시 피해 감
+        // (상영 정보만 따로 등록된 구간도 피해야 저장 시 상영관 점유 등록이 충돌로 전체 롤백되지 않음)
+        Map<Long, List<LocalDateTime[]>> occupiedByScreen = new HashMap<>();
+        for (Object[] row : scheduleRepository.findOccupancyRowsByScreens(screens.keySet(), ScheduleStatus.CANCELED,
+                rangeStart, rangeEnd)) {
+            occupiedByScreen.computeIfAbsent((Long) row[1], key -> new ArrayList<>())
+                    .add(new LocalDateTime[] { (LocalDateTime) row[2], (LocalDateTime) row[3] });
+        }
+        for (Object[] row : screeningRepository.findOccupancyRowsByScreens(screens.keySet(), ScreeningStatus.CANCELED,
+                startDate.minusDays(1), startDate.plusDays(days))) {
+            LocalDate date = (LocalDate) row[1];
+            LocalDateTime start = LocalDateTime.of(date, (LocalTime) row[2]);
+            LocalDateTime end = LocalDateTime.of(date, (LocalTime) row[3]);
+            // 종료 시간이 시작 시간보다 이르면 자정을 넘긴 상영
+            if (!end.isAfter(start)) {
+                end = end.plusDays(1);
+            }
+            if (start.isBefore(rangeEnd) && end.isAfter(rangeStart)) {
+                occupiedByScreen.computeIfAbsent((Long) row[0], key -> new ArrayList<>())
+                        .add(new LocalDateTime[] { start, end });
+            }
+        }
+
+        // 1단계: 날짜별로 긴 상영부터 남은 운영 시간이 가장 많은 상영관에 배정
+        List<ScreenDay> screenDays = new ArrayList<>();
+        Map<LocalDate, Map<Long, Integer>> missing = new LinkedHashMap<>();
+        for (int d = 0; d < days; d++) {
+            LocalDate date = startDate.plusDays(d);
+            PriorityQueue<ScreenDay> byRemaining = new PriorityQueue<>(
+                    Comparator.comparingLong((ScreenDay screenDay) -> screenDay.remainingMinutes).reversed());
+            for (Screen screen : screens.values()) {
+                ScreenDay screenDay = createScreenDay(screen.getId(), date, hours.get(screen.getId()),
+                        occupiedByScreen.getOrDefault(screen.getId(), List.of()));
+                screenDays.add(screenDay);
+                byRemaining.add(screenDay);
+            }
+
+            List<MovieTarget> shows = new ArrayList<>();
+            for (MovieTarget target : request.getMovies()) {
+                for (int i = 0; i < target.getShowsPerDay(); i++) {
+                    shows.add(target);
+                }
+            }
+            shows.sort(Comparator.comparingInt((MovieTarget target) ->
+                    movies.get(target.getMovieId()).getRunningTime()).reversed());
+
+            for (MovieTarget show : shows) {
+                long length = movies.get(show.getMovieId()).getRunningTime() + turnaround;
+                ScreenDay screenDay = byRemaining.poll();
+                if (screenDay == null || screenDay.remainingMinutes < length) {
+                    missing.computeIfAbsent(date, key -> new LinkedHashMap<>())
+                            .merge(show.getMovieId(), 1, Integer::sum);
+                    if (screenDay != null) {
+                        byRemaining.add(screenDay);
+                    }
+                    continue;
+                }
+                screenDay.assigned.add(show);
+                screenDay.remainingMinutes -= length;
+                byRemaining.add(screenDay);
+            }
+        }
+
+        // 2단계: 상영관-날짜별 시간표는 서로 독립적이므로 병렬로 배치
+        List<PackResult> packed = screenDays.parallelStream()
+                .map(screenDay -> pack(screenDay, movies, request.getPrice(), turnaround))
+                .collect(Collectors.toList());
+
+        List<PlannedShow> planned = new ArrayList<>();
+        for (int i = 0; i < screenDays.size(); i++) {
+            PackResult result = packed.get(i);
+            planned.addAll(result.placed);
+            for (Long movieId : result.missingMovieIds) {
+                missing.computeIfAbsent(screenDays.get(i).date, key -> new LinkedHashMap<>())
+                        .merge(movieId, 1, Integer::sum);
+            }
+        }
+        List<UnplacedShow> unplaced = new ArrayList<>();
+        missing.forEach((date, counts) -> counts.forEach((movieId, count) -> unplaced.add(
+                UnplacedShow.builder().movieId(movieId).date(date).count(count).build())));
+        planned.sort(Comparator.comparing(PlannedShow::getStartTime).thenComparing(PlannedShow::getScreenId));
+
+        int screeningCount = 0;
+        if (!request.isDryRun() && !planned.isEmpty()) {
+            applySeatInventory(planned, screens);
+            screeningCount = persist(planned, screens, rangeStart, rangeEnd);
+        }
+
+        log.info("Schedule plan: {} schedules, {} unplaced groups, dryRun={}",
+                planned.size(), unplaced.size(), request.isDryRun());
+
+        return SchedulePlanResponse.builder()
+                .dryRun(request.isDryRun())
+                .scheduleCount(planned.size())
+                .screeningCount(screeningCount)
+                .schedules(planned)
+                .unplaced(unplaced.isEmpty() ? null : unplaced)
+                .build();
+    }
+
+    // 상영관 하루 운영 구간 생성 (남은 운영 시간은 기존 일정이 차지한 시간을 제외)
+    private ScreenDay createScreenDay(Long screenId, LocalDate date, ScreenHours screenHours,
+            List<LocalDateTime[]> occupied) {
+        LocalTime openTime = screenHours != null && screenHours.getOpenTime() != null
+                ? screenHours.getOpenTime() : LocalTime.parse(defaultOpenTime);
+        LocalTime lastStartTime = screenHours != null && screenHours.getLastStartTime() != null
+                ? screenHours.getLastStartTime() : LocalTime.parse(defaultLastStartTime);
+        if (!openTime.isBefore(lastStartTime)) {
+            throw new BadRequestException("첫 회 시작 시간은 마지막 회 시작 시간보다 이전이어야 합니다");
+        }
+
+        LocalDateTime open = date.atTime(openTime);
+        LocalDateTime lastStart = date.atTime(lastStartTime);
+        LocalDateTime close = date.plusDays(1).atStartOfDay();
+
+        List<LocalDateTime[]> sameDay = new ArrayList<>();
+        long busy = 0;
+        for (LocalDateTime[] interval : occupied) {
+            if (interval[0].isBefore(close) && interval[1].isAfter(open)) {
+                sameDay.add(interval);
+                LocalDateTime from = interval[0].isAfter(open) ? interval[0] : open;
+                LocalDateTime to = interval[1].isBefore(close) ? interval[1] : close;
+                busy += Duration.between(from, to).toMinutes();
+            }
+        }
+        sameDay.sort(Comparator.comparing((LocalDateTime[] interval) -> interval[0]));
+        long available = Duration.between(open, close).toMinutes() - busy;
+        return new ScreenDay(screenId, date, open, lastStart, sameDay, Math.max(0, available));
+    }
+
+    // 상영관 하루 시간표 배치 (영화를 번갈아 배치하며 기존 일정과 정리 시간을 피함, 자정을 넘기는 상영은 제외)
+    private PackResult pack(ScreenDay screenDay, Map<Long, Movie> movies, Integer defaultPrice, int turnaround) {
+        Map<Long, Deque<MovieTarget>> byMovie = new LinkedHashMap<>();
+        for (MovieTarget target : screenDay.assigned) {
+            byMovie.computeIfAbsent(target.getMovieId(), key -> new ArrayDeque<>()).add(target);
+        }
+        List<MovieTarget> ordered = new ArrayList<>();
+        while (!byMovie.isEmpty()) {
+            byMovie.values().removeIf(queue -> {
+                ordered.add(queue.poll());
+                return queue.isEmpty();
+            });
+        }
+
+        PackResult result = new PackResult();
+        LocalDateTime cursor = screenDay.open;
+        for (MovieTarget target : ordered) {
+            int runningTime = movies.get(target.getMovieId()).getRunningTime();
+            LocalDateTime start = findStart(cursor, runningTime, turnaround, screenDay.occupied);
+            LocalDateTime end = start.plusMinutes(runningTime);
+            if (start.isAfter(screenDay.lastStart) || !end.toLocalDate().equals(screenDay.date)) {
+                result.missingMovieIds.add(target.getMovieId());
+                continue;
+            }
+            result.placed.add(PlannedShow.builder()
+                    .movieId(target.getMovieId())
+                    .screenId(screenDay.screenId)
+                    .startTime(start)
+                    .endTime(end)
+                    .price(target.getPrice() != null ? target.getPrice() : defaultPrice)
+                    .build());
+            cursor = end.plusMinutes(turnaround);
+        }
+        return result;
+    }
+
+    // cursor 이후 기존 일정과 정리 시간이 겹치지 않는 첫 시작 시간
+    private LocalDateTime findStart(LocalDateTime cursor, int runningTime, int turnaround,
+            List<LocalDateTime[]> occupied) {
+        LocalDateTime start = roundUp(cursor);
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            for (LocalDateTime[] interval : occupied) {
+                LocalDateTime end = start.plusMinutes(runningTime);
+                if (start.isBefore(interval[1].plusMinutes(turnaround))
+                        && interval[0].isBefore(end.plusMinutes(turnaround))) {
+                    start = roundUp(interval[1].plusMinutes(turnaround));
+                    moved = true;
+                }
+            }
+        }
+        return start;
+    }
+
+    private LocalDateTime roundUp(LocalDateTime time) {
+        LocalDateTime truncated = time.withSecond(0).withNano(0);
+        if (truncated.isBefore(time)) {
+            truncated = truncated.plusMinutes(1);
+        }
+        int remainder = truncated.getMinute() % START_STEP_MINUTES;
+        return remainder == 0 ? truncated : truncated.plusMinutes(START_STEP_MINUTES - remainder);
+    }
+
+    // 상영관 활성 좌석 수로 회차별 좌석 재고 설정 (좌석 정보가 없으면 상영관 좌석 수 사용)
+    private void applySeatInventory(List<PlannedShow> planned, Map<Long, Screen> screens) {
+        Map<Long, Integer> seats = new HashMap<>();
+        for (Object[] row : seatRepository.countActiveSeatsByScreenIds(screens.keySet())) {
+            seats.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        for (PlannedShow show : planned) {
+            show.setAvailableSeats(seats.getOrDefault(show.getScreenId(), screens.get(show.getScreenId()).getSeatsCount()));
+        }
+    }
+
+    // 상영 일정과 좌석 재고(상영 정보)를 배치 INSERT로 저장하고 상영관 점유 구간 등록
+    private int persist(List<PlannedShow> planned, Map<Long, Screen> screens, LocalDateTime rangeStart,
+            LocalDateTime rangeEnd) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SCHEDULE_SQL, planned, BATCH_SIZE, (ps, show) -> {
+            ps.setLong(1, show.getMovieId());
+            ps.setLong(2, show.getScreenId());
+            ps.setTimestamp(3, Timestamp.valueOf(show.getStartTime()));
+            ps.setTimestamp(4, Timestamp.valueOf(show.getEndTime()));
+            ps.setInt(5, show.getPrice());
+            ps.setInt(6, show.getAvailableSeats());
+            ps.setString(7, ScheduleStatus.OPEN.name());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+
+        // 배치 INSERT는 생성 ID를 돌려주지 않으므로 (상영관, 시작 시간)으로 다시 조회해 연결
+        Map<String, Long> idsBySlot = new HashMap<>();
+        for (Object[] row : scheduleRepository.findOccupancyRowsByScreens(screens.keySet(), ScheduleStatus.CANCELED,
+                rangeStart, rangeEnd)) {
+            idsBySlot.put(row[1] + "|" + row[2], (Long) row[0]);
+        }
+        for (PlannedShow show : planned) {
+            show.setScheduleId(idsBySlot.get(show.getScreenId() + "|" + show.getStartTime()));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SCREENING_SQL, planned, BATCH_SIZE, (ps, show) -> {
+            ps.setLong(1, show.getMovieId());
+            ps.setLong(2, show.getScreenId());
+            ps.setLong(3, show.getScheduleId());
+            ps.setDate(4, Date.valueOf(show.getStartTime().toLocalDate()));
+            ps.setTime(5, Time.valueOf(show.getStartTime().toLocalTime()));
+            ps.setTime(6, Time.valueOf(show.getEndTime().toLocalTime()));
+            ps.setBoolean(7, show.getAvailableSeats() <= 0);
+            ps.setInt(8, show.getAvailableSeats());
+            ps.setString(9, ScreeningStatus.ACTIVE.name());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+
+        // 점유 구간 등록 (동시에 다른 일정이 등록되어 겹치면 예외로 전체 롤백)
+        Set<Long> scheduleIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        for (PlannedShow show : planned) {
+            scheduleConflictService.reserveSchedule(show.getScheduleId(), show.getScreenId(),
+                    show.getStartTime(), show.getEndTime());
+            scheduleIds.add(show.getScheduleId());
+            dates.add(show.getStartTime().toLocalDate());
+        }
+        Map<Long, PlannedShow> showsByScheduleId = planned.stream()
+                .collect(Collectors.toMap(PlannedShow::getScheduleId, Function.identity()));
+        List<Object[]> screenings = screeningRepository.findIdsByScheduleIds(scheduleIds);
+        for (Object[] row : screenings) {
+            PlannedShow show = showsByScheduleId.get((Long) row[1]);
+            scheduleConflictService.reserveScreening((Long) row[0], show.getScreenId(),
+                    show.getStartTime(), show.getEndTime());
+        }
+
+        Set<Long> theaterIds = screens.values().stream()
+                .map(screen -> screen.getTheater().getId())
+                .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleIds, theaterIds, dates));
+        return screenings.size();
+    }
+
+    // 편성 대상 상영관 조회 (극장 전체 또는 지정 상영관)
+    private Map<Long, Screen> resolveScreens(SchedulePlanRequest request) {
+        List<Screen> screens;
+        if (request.getTheaterId() != null) {
+            screens = screenRepository.findByTheater_Id(request.getTheaterId());
+        } else if (request.getScreens() != null && !request.getScreens().isEmpty()) {
+            List<Long> ids = request.getScreens().stream().map(ScreenHours::getScreenId).collect(Collectors.toList());
+            screens = screenRepository.findAllById(ids);
+            if (screens.size() != new HashSet<>(ids).size()) {
+                throw new ResourceNotFoundException("Screen not found with ids: " + ids);
+            }
+        } else {
+            throw new BadRequestException("극장 ID 또는 상영관 목록을 지정해야 합니다");
+        }
+        if (screens.isEmpty()) {
+            throw new BadRequestException("편성할 상영관이 없습니다");
+        }
+        Map<Long, Screen> result = new LinkedHashMap<>();
+        screens.forEach(screen -> result.put(screen.getId(), screen));
+        return result;
+    }
+
+    // 편성 대상 영화 조회 (상영 시간이 있어야 배치 가능)
+    private Map<Long, Movie> resolveMovies(List<MovieTarget> targets) {
+        Set<Long> ids = targets.stream().map(MovieTarget::getMovieId).collect(Collectors.toSet());
+        Map<Long, Movie> movies = movieRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity()));
+        for (Long id : ids) {
+            Movie movie = movies.get(id);
+            if (movie == null) {
+                throw new ResourceNotFoundException("Movie not found with id: " + id);
+            }
+            if (movie.getRunningTime() == null || movie.getRunningTime() <= 0) {
+                throw new BadRequestException("상영 시간이 등록되지 않은 영화입니다: " + movie.getTitle());
+            }
+        }
+        return movies;
+    }
+
+    // 현재 로그인한 사용자 조회
+    private User getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+    }
+}
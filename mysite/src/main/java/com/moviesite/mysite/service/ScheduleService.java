@@ -1,8 +1,10 @@
 package com.moviesite.mysite.service;
 
+import com.moviesite.mysite.event.ScheduleChangedEvent;
 import com.moviesite.mysite.model.dto.request.ScheduleRequest;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.ScheduleConflictResponse;
 import com.moviesite.mysite.model.dto.response.ScheduleResponse;
 import com.moviesite.mysite.model.entity.Movie;
 import com.moviesite.mysite.model.entity.Schedule;
@@ -13,6 +15,7 @@ import com.moviesite.mysite.repository.ScheduleRepository;
 import com.moviesite.mysite.repository.ScreenRepository;
 import com.moviesite.mysite.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -20,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,6 +37,8 @@ public class ScheduleService {
     private final MovieRepository movieRepository;
     private final ScreenRepository screenRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleConflictService scheduleConflictService;
 
     // 특정 상영 일정 상세 조회
     public ScheduleResponse getScheduleById(Long id) {
@@ -72,9 +79,20 @@ public class ScheduleService {
                 .build();
         
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        occupyScreen(savedSchedule);
+        publishScheduleChanged(savedSchedule, null, null);
         return ScheduleResponse.fromEntity(savedSchedule);
     }
     
+    // 등록 예정 상영 일정 일괄 검증 (관리자용, 상영관별 시간 중복 및 청소 시간 확인)
+    public List<ScheduleConflictResponse> validateSchedules(List<ScheduleRequest> requests) {
+        User currentUser = getAuthenticatedUser();
+        if (!currentUser.isAdmin()) {
+            throw new BadRequestException("관리자만 접근 가능합니다");
+        }
+        return scheduleConflictService.validateSchedules(requests);
+    }
+    
     // 상영 일정 수정 (관리자용)
     @Transactional
     public ScheduleResponse updateSchedule(Long id, ScheduleRequest request) {
@@ -97,6 +115,11 @@ public class ScheduleService {
         // 시간 유효성 검사
         validateScheduleTime(request.getStartTime(), request.getEndTime(), screen.getId(), id);
         
+        // 변경 전 상영관/극장/날짜 (좌석 수 갱신과 캐시 무효화에 사용)
+        Long previousScreenId = schedule.getScreen().getId();
+        Long previousTheaterId = schedule.getScreen().getTheater().getId();
+        LocalDate previousDate = schedule.getStartTime().toLocalDate();
+        
         // 상영 일정 업데이트
         schedule.setMovie(movie);
         schedule.setScreen(screen);
@@ -105,7 +128,7 @@ public class ScheduleService {
         schedule.setPrice(request.getPrice());
         
         // 상영관 변경 시 좌석 수 업데이트
-        if (!schedule.getScreen().getId().equals(screen.getId())) {
+        if (!previousScreenId.equals(screen.getId())) {
             schedule.setAvailableSeats(screen.getSeatsCount());  // Screen 엔티티의 seatsCount 필드 사용
         }
         
@@ -116,6 +139,8 @@ public class ScheduleService {
         schedule.setUpdatedAt(LocalDateTime.now());
         
         Schedule updatedSchedule = scheduleRepository.save(schedule);
+        occupyScreen(updatedSchedule);
+        publishScheduleChanged(updatedSchedule, previousTheaterId, previousDate);
         return ScheduleResponse.fromEntity(updatedSchedule);
     }
     
@@ -133,6 +158,8 @@ public class ScheduleService {
         schedule.setUpdatedAt(LocalDateTime.now());
         
         Schedule updatedSchedule = scheduleRepository.save(schedule);
+        occupyScreen(updatedSchedule);
+        publishScheduleChanged(updatedSchedule, null, null);
         return ScheduleResponse.fromEntity(updatedSchedule);
     }
     
@@ -147,15 +174,41 @@ public class ScheduleService {
         
         Schedule schedule = findScheduleById(id);
         scheduleRepository.delete(schedule);
+        scheduleConflictService.releaseSchedule(schedule.getId());
+        publishScheduleChanged(schedule, null, null);
     }
     
     // 상영 일정 시간 유효성 검사 (내부 메서드)
     private void validateScheduleTime(LocalDateTime startTime, LocalDateTime endTime, Long screenId, Long excludeScheduleId) {
-        // 시작 시간이 종료 시간보다 이후인지 확인
-        if (startTime.isAfter(endTime)) {
+        // 시작 시간이 종료 시간보다 이전인지 확인 (같은 상영관의 시간 중복은 저장 후 occupyScreen에서 검사)
+        if (!startTime.isBefore(endTime)) {
             throw new BadRequestException("시작 시간은 종료 시간보다 이전이어야 합니다");
         }
-        
+    }
+    
+    // 상영관 점유 구간 반영 (다른 일정과 겹치면 예외로 트랜잭션 롤백, 취소된 일정은 점유 해제)
+    private void occupyScreen(Schedule schedule) {
+        if (schedule.getStatus() == Schedule.ScheduleStatus.CANCELED) {
+            scheduleConflictService.releaseSchedule(schedule.getId());
+            return;
+        }
+        scheduleConflictService.reserveSchedule(schedule.getId(), schedule.getScreen().getId(),
+                schedule.getStartTime(), schedule.getEndTime());
+    }
+    
+    // 상영 일정 변경 이벤트 발행 (수정 시에는 변경 전 극장/날짜도 함께 전달)
+    private void publishScheduleChanged(Schedule schedule, Long previousTheaterId, LocalDate previousDate) {
+        Set<Long> theaterIds = new HashSet<>();
+        Set<LocalDate> dates = new HashSet<>();
+        theaterIds.add(schedule.getScreen().getTheater().getId());
+        dates.add(schedule.getStartTime().toLocalDate());
+        if (previousTheaterId != null) {
+            theaterIds.add(previousTheaterId);
+        }
+        if (previousDate != null) {
+            dates.add(previousDate);
+        }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(Set.of(schedule.getId()), theaterIds, dates));
     }
     
     // 스케줄 엔티티 조회 (내부 메서드)
@@ -36,11 +36,12 @@ public class ScreeningService {
     private final ScreenRepository screenRepository;
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final ScheduleConflictService scheduleConflictService;
 
     // 특정 영화의 상영 정보 조회
     public List<ScreeningResponse> getScreeningsByMovie(Long movieId) {
-        List<Screening> screenings = screeningRepository.findByMovieIdAndStatusAndScreeningDateAfterOrderByScreeningDateAscScreeningTimeAsc(
-                movieId, Screening.ScreeningStatus.ACTIVE, LocalDate.now());
+        List<Screening> screenings = screeningRepository.findByMovieIdAndStatusOrderByScreeningDateAscScreeningTimeAsc(
+                movieId, Screening.ScreeningStatus.ACTIVE);
 
         return screenings.stream()
                 .map(ScreeningResponse::fromEntity)
@@ -49,8 +50,8 @@ public class ScreeningService {
 
     // 특정 상영관의 상영 정보 조회
     public List<ScreeningResponse> getScreeningsByScreen(Long screenId) {
-        List<Screening> screenings = screeningRepository.findByScreenIdAndStatusAndScreeningDateAfterOrderByScreeningDateAscScreeningTimeAsc(
-                screenId, Screening.ScreeningStatus.ACTIVE, LocalDate.now());
+        List<Screening> screenings = screeningRepository.findByScreenIdAndStatusOrderByScreeningDateAscScreeningTimeAsc(
+                screenId, Screening.ScreeningStatus.ACTIVE);
 
         return screenings.stream()
                 .map(ScreeningResponse::fromEntity)
@@ -131,6 +132,7 @@ public class ScreeningService {
                 .build();
 
         Screening savedScreening = screeningRepository.save(screening);
+        occupyScreen(savedScreening);
         return ScreeningResponse.fromEntity(savedScreening);
     }
 
@@ -177,6 +179,7 @@ public class ScreeningService {
         screening.setUpdatedAt(LocalDateTime.now());
 
         Screening updatedScreening = screeningRepository.save(screening);
+        occupyScreen(updatedScreening);
         return ScreeningResponse.fromEntity(updatedScreening);
     }
 
@@ -194,6 +197,7 @@ public class ScreeningService {
         screening.setUpdatedAt(LocalDateTime.now());
 
         Screening updatedScreening = screeningRepository.save(screening);
+        occupyScreen(updatedScreening);
         return ScreeningResponse.fromEntity(updatedScreening);
     }
 
@@ -208,32 +212,26 @@ public class ScreeningService {
 
         Screening screening = findScreeningById(id);
         screeningRepository.delete(screening);
+        scheduleConflictService.releaseScreening(screening.getId());
     }
 
-    // 상영 시간 유효성 검사 (내부 메서드)
+    // 상영 시간 유효성 검사 (내부 메서드, 같은 상영관의 시간 중복은 저장 후 occupyScreen에서 검사)
     private void validateScreeningTime(LocalDate date, LocalTime startTime, LocalTime endTime, Long screenId, Long excludeScreeningId) {
-        // 시작 시간이 종료 시간보다 이후인지 확인
-        if (startTime.isAfter(endTime)) {
+        // 시작 시간이 종료 시간보다 이전인지 확인
+        if (!startTime.isBefore(endTime)) {
             throw new BadRequestException("시작 시간은 종료 시간보다 이전이어야 합니다");
         }
+    }
 
-        // 상영 시간 중복 확인
-        LocalDateTime screeningStart = LocalDateTime.of(date, startTime);
-        LocalDateTime screeningEnd = LocalDateTime.of(date, endTime);
-
-        List<Screening> overlappingScreenings;
-
-        if (excludeScreeningId != null) {
-            overlappingScreenings = screeningRepository.findOverlappingScreeningsExcluding(
-                    screenId, date, startTime, endTime, excludeScreeningId);
-        } else {
-            overlappingScreenings = screeningRepository.findOverlappingScreenings(
-                    screenId, date, startTime, endTime);
-        }
-
-        if (!overlappingScreenings.isEmpty()) {
-            throw new BadRequestException("해당 상영관에 이미 같은 시간대에 예정된 상영이 있습니다");
+    // 상영관 점유 구간 반영 (다른 상영과 겹치면 예외로 트랜잭션 롤백, 취소된 상영은 점유 해제)
+    private void occupyScreen(Screening screening) {
+        if (screening.getStatus() == Screening.ScreeningStatus.CANCELED) {
+            scheduleConflictService.releaseScreening(screening.getId());
+            return;
         }
+        scheduleConflictService.reserveScreening(screening.getId(), screening.getScreen().getId(),
+                LocalDateTime.of(screening.getScreeningDate(), screening.getScreeningTime()),
+                LocalDateTime.of(screening.getScreeningDate(), screening.getEndTime()));
     }
 
     // 상영 엔티티 조회 (내부 메서드)
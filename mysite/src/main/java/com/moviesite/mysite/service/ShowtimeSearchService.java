@@ -0,0 +1,167 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ScheduleChangedEvent;
+import com.moviesite.mysite.event.TheaterChangedEvent;
+import com.moviesite.mysite.exception.BadRequestException;
+import com.moviesite.mysite.model.dto.request.ShowtimeSearchRequest;
+import com.moviesite.mysite.model.dto.response.ShowtimeSearchResponse;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.util.TtlLruCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import static com.moviesite.mysite.repository.ScheduleRepositoryCustom.*;
+
+// 상영 시간 통합 검색 (여러 조건을 단일 쿼리로 조회, 정규화된 조건 기준 단기 캐시)
+@Service
+@RequiredArgsConstructor
+public class ShowtimeSearchService {
+
+    private final ScheduleRepository scheduleRepository;
+
+    // 캐시 유효 시간 (잔여 좌석 수가 이 시간만큼 늦게 반영될 수 있음)
+    @Value("${showtime.search.cache-ttl-seconds:10}")
+    private long cacheTtlSeconds;
+
+    // 캐시에 보관할 최대 검색 조건 수
+    @Value("${showtime.search.cache-max-entries:1000}")
+    private int cacheMaxEntries;
+
+    // 한 번에 조회할 수 있는 최대 기간 (일)
+    @Value("${showtime.search.max-days:14}")
+    private int maxDays;
+
+    // 최대 결과 수 (요청 limit의 상한)
+    @Value("${showtime.search.max-results:500}")
+    private int maxResults;
+
+    // 정규화된 검색 조건별 결과 캐시 (접근 순서 기준 LRU)
+    private TtlLruCache<ShowtimeSearchRequest, List<ShowtimeSearchResponse>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new TtlLruCache<>(Duration.ofSeconds(cacheTtlSeconds), cacheMaxEntries);
+    }
+
+    // 조건에 맞는 예매 가능한 상영 시간 검색
+    @Transactional(readOnly = true)
+    public List<ShowtimeSearchResponse> searchShowtimes(ShowtimeSearchRequest request) {
+        ShowtimeSearchRequest filter = normalize(request);
+        List<ShowtimeSearchResponse> cached = cache.get(filter);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = cache.version(filter);
+        List<ShowtimeSearchResponse> showtimes = scheduleRepository.searchShowtimes(filter, filter.getLimit())
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        cache.putIfUnchanged(filter, version, showtimes);
+        return showtimes;
+    }
+
+    // 상영 일정 변경 시 캐시 전체 무효화 (검색 조건이 여러 극장/날짜에 걸치므로 항목별 무효화하지 않음)
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // 극장 정보 변경 시 캐시 전체 무효화 (극장명 반영)
+    @TransactionalEventListener
+    public void onTheaterChanged(TheaterChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    // 검색 조건 정규화 (목록 정렬/중복 제거, 기본값 적용) - 같은 의미의 조건은 같은 캐시 키가 됨
+    private ShowtimeSearchRequest normalize(ShowtimeSearchRequest request) {
+        LocalDate fromDate = request.getFromDate() != null ? request.getFromDate() : LocalDate.now();
+        LocalDate toDate = request.getToDate() != null ? request.getToDate() : fromDate;
+        if (toDate.isBefore(fromDate)) {
+            throw new BadRequestException("검색 종료 날짜는 시작 날짜 이후여야 합니다");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= maxDays) {
+            throw new BadRequestException("검색 기간은 " + maxDays + "일을 초과할 수 없습니다");
+        }
+        if (request.getStartTimeFrom() != null && request.getStartTimeTo() != null
+                && !request.getStartTimeFrom().isBefore(request.getStartTimeTo())) {
+            throw new BadRequestException("시작 시간 범위가 올바르지 않습니다");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new BadRequestException("최소 가격은 최대 가격 이하여야 합니다");
+        }
+
+        List<String> screenTypes = null;
+        if (request.getScreenTypes() != null) {
+            screenTypes = sortedDistinct(request.getScreenTypes().stream()
+                    .filter(Objects::nonNull)
+                    .map(type -> type.trim().toUpperCase(Locale.ROOT))
+                    .filter(type -> !type.isEmpty())
+                    .toList());
+        }
+
+        return ShowtimeSearchRequest.builder()
+                .movieIds(sortedDistinct(request.getMovieIds()))
+                .theaterIds(sortedDistinct(request.getTheaterIds()))
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .startTimeFrom(request.getStartTimeFrom())
+                .startTimeTo(request.getStartTimeTo())
+                .screenTypes(screenTypes)
+                .minAvailableSeats(request.getMinAvailableSeats())
+                .minPrice(request.getMinPrice())
+                .maxPrice(request.getMaxPrice())
+                .limit(request.getLimit() != null ? Math.min(request.getLimit(), maxResults) : maxResults)
+                .build();
+    }
+
+    // null 제거, 정렬, 중복 제거 (비어 있으면 조건 미적용을 뜻하는 null)
+    private <T extends Comparable<T>> List<T> sortedDistinct(Collection<T> values) {
+        if (values == null) {
+            return null;
+        }
+        TreeSet<T> sorted = new TreeSet<>();
+        for (T value : values) {
+            if (value != null) {
+                sorted.add(value);
+            }
+        }
+        return sorted.isEmpty() ? null : new ArrayList<>(sorted);
+    }
+
+    private ShowtimeSearchResponse toResponse(Tuple row) {
+        return ShowtimeSearchResponse.builder()
+                .scheduleId(row.get(SCHEDULE_ID, Long.class))
+                .movieId(row.get(MOVIE_ID, Long.class))
+                .movieTitle(row.get(MOVIE_TITLE, String.class))
+                .moviePosterUrl(row.get(MOVIE_POSTER_URL, String.class))
+                .ageRating(row.get(AGE_RATING, String.class))
+                .theaterId(row.get(THEATER_ID, Long.class))
+                .theaterName(row.get(THEATER_NAME, String.class))
+                .screenId(row.get(SCREEN_ID, Long.class))
+                .screenName(row.get(SCREEN_NAME, String.class))
+                .screenType(row.get(SCREEN_TYPE, String.class))
+                .startTime(row.get(START_TIME, LocalDateTime.class))
+                .endTime(row.get(END_TIME, LocalDateTime.class))
+                .price(row.get(PRICE, Integer.class))
+                .availableSeats(row.get(AVAILABLE_SEATS, Integer.class))
+                .build();
+    }
+}
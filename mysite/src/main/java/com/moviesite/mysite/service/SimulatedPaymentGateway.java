@@ -0,0 +1,97 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.model.dto.request.PaymentWebhookRequest;
+import com.moviesite.mysite.model.entity.Payment.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 로컬 PG 모의 구현 (부하 테스트/개발용 - 응답 지연, 거절 비율, 웹훅 지연을 설정으로 조절)
+// 승인하면 실제 PG처럼 서명한 웹훅을 별도 스레드에서 전달 (HTTP 웹훅과 같은 처리 경로 사용, 거절되면 몇 번 더 시도)
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.gateway.type", havingValue = "simulator", matchIfMissing = true)
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatedPaymentGateway.class);
+
+    // 웹훅 전달 시도 횟수
+    private static final int WEBHOOK_ATTEMPTS = 3;
+
+    private final PaymentConfirmationService confirmationService;
+    private final ExecutorService virtualThreadExecutor;
+
+    // 승인 응답 지연 (ms, 호출 제한 시간보다 길게 설정하면 시간 초과 상황 재현)
+    @Value("${payment.gateway.simulator.latency-ms:300}")
+    private long latencyMs;
+
+    // 응답 지연에 더할 무작위 편차 최대값 (ms)
+    @Value("${payment.gateway.simulator.jitter-ms:200}")
+    private long jitterMs;
+
+    // 승인 거절 비율 (0.0 ~ 1.0)
+    @Value("${payment.gateway.simulator.failure-rate:0.05}")
+    private double failureRate;
+
+    // 승인 후 웹훅 전달까지의 지연 (ms)
+    @Value("${payment.gateway.simulator.webhook-delay-ms:1000}")
+    private long webhookDelayMs;
+
+    // 결제별 거래 상태 (상태 조회용, 실제 PG 기록처럼 제거하지 않음 - 재시작하면 사라지는 모의 구현 한정)
+    private final Map<Long, StatusResult> transactions = new ConcurrentHashMap<>();
+
+    @Override
+    public ChargeResult charge(ChargeRequest request, Duration timeout) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        transactions.put(request.paymentId(), new StatusResult(ChargeStatus.PROCESSING, null, null, null));
+        Thread.sleep(latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0));
+
+        String transactionId = "SIM" + UUID.randomUUID().toString().replace("-", "").substring(0, 20).toUpperCase();
+        if (random.nextDouble() < failureRate) {
+            transactions.put(request.paymentId(), new StatusResult(ChargeStatus.DECLINED, transactionId, null, "모의 PG 승인 거절"));
+            return new ChargeResult(false, transactionId, "모의 PG 승인 거절");
+        }
+        transactions.put(request.paymentId(), new StatusResult(ChargeStatus.APPROVED, transactionId, request.amount(), null));
+        virtualThreadExecutor.execute(() -> deliverWebhook(request.paymentId(), transactionId, request.amount()));
+        return new ChargeResult(true, transactionId, null);
+    }
+
+    @Override
+    public StatusResult inquire(Long paymentId, Duration timeout) {
+        return transactions.getOrDefault(paymentId, new StatusResult(ChargeStatus.NOT_FOUND, null, null, null));
+    }
+
+    // 실제 PG처럼 처리되지 않은 웹훅은 간격을 두고 다시 전달
+    private void deliverWebhook(Long paymentId, String transactionId, BigDecimal amount) {
+        for (int attempt = 1; attempt <= WEBHOOK_ATTEMPTS; attempt++) {
+            try {
+                Thread.sleep(webhookDelayMs * attempt);
+                confirmationService.handleWebhook(PaymentWebhookRequest.builder()
+                        .paymentId(paymentId)
+                        .transactionId(transactionId)
+                        .status(PaymentStatus.COMPLETED.name())
+                        .amount(amount)
+                        .signature(confirmationService.sign(paymentId, transactionId, PaymentStatus.COMPLETED, amount))
+                        .build());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Simulated webhook for payment {} failed (attempt {}/{}): {}",
+                        paymentId, attempt, WEBHOOK_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+}
@@ -5,12 +5,14 @@ import lombok.RequiredArgsConstructor;
 import org.hibernate.service.spi.ServiceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.moviesite.mysite.event.TheaterChangedEvent;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
 import com.moviesite.mysite.model.dto.request.TheaterRequest;
 import com.moviesite.mysite.model.dto.response.TheaterResponse;
@@ -30,6 +32,7 @@ public class TheaterService {
 
 	private final TheaterRepository theaterRepository;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
     
     private static final Logger log = LoggerFactory.getLogger(TheaterService.class);
 
@@ -104,6 +107,7 @@ public class TheaterService {
         theater.setUpdatedAt(LocalDateTime.now());
         
         Theater savedTheater = theaterRepository.save(theater);
+        eventPublisher.publishEvent(new TheaterChangedEvent(savedTheater.getId()));
         return TheaterResponse.fromEntity(savedTheater);
     }
 
@@ -117,6 +121,7 @@ public class TheaterService {
         theater.setUpdatedAt(LocalDateTime.now());
         
         Theater updatedTheater = theaterRepository.save(theater);
+        eventPublisher.publishEvent(new TheaterChangedEvent(updatedTheater.getId()));
         return TheaterResponse.fromEntity(updatedTheater);
     }
 
@@ -134,6 +139,7 @@ public class TheaterService {
         }
         
         theaterRepository.deleteById(id);
+        eventPublisher.publishEvent(new TheaterChangedEvent(id));
     }
 
     // 극장 이미지 업로드
@@ -178,6 +184,8 @@ public class TheaterService {
         theater.setTransportation(request.getTransportation());
         theater.setCapacity(request.getCapacity());
         theater.setType(request.getType());
+        theater.setLatitude(request.getLatitude());
+        theater.setLongitude(request.getLongitude());
         
         // URL 정보는 null이 아닌 경우에만 업데이트 (파일 업로드 메서드에서 별도로 처리될 수 있으므로)
         if (request.getImageUrl() != null) {
@@ -0,0 +1,148 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.ScheduleChangedEvent;
+import com.moviesite.mysite.event.TheaterChangedEvent;
+import com.moviesite.mysite.exception.ResourceNotFoundException;
+import com.moviesite.mysite.model.dto.response.TheaterTimetableResponse;
+import com.moviesite.mysite.model.dto.response.TheaterTimetableResponse.MovieTimetable;
+import com.moviesite.mysite.model.dto.response.TheaterTimetableResponse.ScreenTimetable;
+import com.moviesite.mysite.model.dto.response.TheaterTimetableResponse.Showtime;
+import com.moviesite.mysite.model.entity.Movie;
+import com.moviesite.mysite.model.entity.Schedule;
+import com.moviesite.mysite.model.entity.Schedule.ScheduleStatus;
+import com.moviesite.mysite.model.entity.Screen;
+import com.moviesite.mysite.model.entity.Theater;
+import com.moviesite.mysite.repository.ScheduleRepository;
+import com.moviesite.mysite.repository.TheaterRepository;
+import com.moviesite.mysite.util.TtlLruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 극장별 하루 상영 시간표 조회 모델 (극장-날짜 단위 캐시, 상영 일정 변경 시 무효화)
+@Service
+@RequiredArgsConstructor
+public class TimetableService {
+
+    private final ScheduleRepository scheduleRepository;
+    private final TheaterRepository theaterRepository;
+
+    // 캐시 유효 시간 (잔여 좌석 수가 이 시간만큼 늦게 반영될 수 있음)
+    @Value("${timetable.cache-ttl-seconds:30}")
+    private long cacheTtlSeconds;
+
+    // 캐시에 보관할 최대 (극장, 날짜) 수
+    @Value("${timetable.cache-max-entries:2000}")
+    private int cacheMaxEntries;
+
+    // (극장, 날짜)별 시간표 캐시 (접근 순서 기준 LRU)
+    private TtlLruCache<TimetableKey, TheaterTimetableResponse> cache;
+
+    private record TimetableKey(Long theaterId, LocalDate date) {
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = new TtlLruCache<>(Duration.ofSeconds(cacheTtlSeconds), cacheMaxEntries);
+    }
+
+    // 특정 극장의 특정 날짜 상영 시간표 조회
+    public TheaterTimetableResponse getTimetable(Long theaterId, LocalDate date) {
+        TimetableKey key = new TimetableKey(theaterId, date);
+        TheaterTimetableResponse cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = cache.version(key);
+        TheaterTimetableResponse timetable = loadTimetable(theaterId, date);
+        cache.putIfUnchanged(key, version, timetable);
+        return timetable;
+    }
+
+    // 상영 일정 변경 시 변경 전후 (극장, 날짜)의 시간표 무효화
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        for (Long theaterId : event.getTheaterIds()) {
+            for (LocalDate date : event.getDates()) {
+                cache.invalidate(new TimetableKey(theaterId, date));
+            }
+        }
+    }
+
+    // 극장 정보 변경 시 해당 극장의 시간표 전체 무효화
+    @TransactionalEventListener
+    public void onTheaterChanged(TheaterChangedEvent event) {
+        cache.invalidateIf(key -> key.theaterId().equals(event.getTheaterId()));
+    }
+
+    // 날짜 구간 조회 한 번으로 시간표 구성 (영화, 상영관은 함께 조회)
+    private TheaterTimetableResponse loadTimetable(Long theaterId, LocalDate date) {
+        Theater theater = theaterRepository.findById(theaterId)
+                .orElseThrow(() -> new ResourceNotFoundException("Theater not found with id: " + theaterId));
+
+        List<Schedule> schedules = scheduleRepository.findByTheaterIdAndStartTimeRange(
+                theaterId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        // 시작 시간 순으로 조회되므로 영화/상영관은 첫 상영 시간 순서로 정렬됨
+        Map<Long, MovieTimetable> movies = new LinkedHashMap<>();
+        Map<Long, Map<Long, ScreenTimetable>> screensByMovie = new LinkedHashMap<>();
+        for (Schedule schedule : schedules) {
+            if (schedule.getStatus() == ScheduleStatus.CANCELED) {
+                continue;
+            }
+            Movie movie = schedule.getMovie();
+            Screen screen = schedule.getScreen();
+
+            MovieTimetable movieTimetable = movies.computeIfAbsent(movie.getId(), id -> MovieTimetable.builder()
+                    .movieId(movie.getId())
+                    .title(movie.getTitle())
+                    .posterUrl(movie.getPosterUrl())
+                    .ageRating(movie.getAgeRating())
+                    .runningTime(movie.getRunningTime())
+                    .screens(new ArrayList<>())
+                    .build());
+
+            ScreenTimetable screenTimetable = screensByMovie
+                    .computeIfAbsent(movie.getId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(screen.getId(), id -> {
+                        ScreenTimetable created = ScreenTimetable.builder()
+                                .screenId(screen.getId())
+                                .screenName(screen.getName())
+                                .screenType(screen.getType())
+                                .seatsCount(screen.getSeatsCount())
+                                .showtimes(new ArrayList<>())
+                                .build();
+                        movieTimetable.getScreens().add(created);
+                        return created;
+                    });
+
+            screenTimetable.getShowtimes().add(Showtime.builder()
+                    .scheduleId(schedule.getId())
+                    .startTime(schedule.getStartTime())
+                    .endTime(schedule.getEndTime())
+                    .price(schedule.getPrice())
+                    .availableSeats(schedule.getAvailableSeats())
+                    .status(schedule.getStatus().name())
+                    .soldOut(schedule.isSoldOut())
+                    .bookable(schedule.isBookable())
+                    .build());
+        }
+
+        return TheaterTimetableResponse.builder()
+                .theaterId(theater.getId())
+                .theaterName(theater.getName())
+                .date(date)
+                .movies(new ArrayList<>(movies.values()))
+                .build();
+    }
+}
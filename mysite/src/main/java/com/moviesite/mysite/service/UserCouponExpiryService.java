@@ -0,0 +1,147 @@
+package com.moviesite.mysite.service;
+
+import com.moviesite.mysite.event.CouponChangedEvent;
+import com.moviesite.mysite.repository.UserCouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 기간이 지난 사용자 쿠폰 만료 처리 (UPDATE ... LIMIT 묶음 단위로 짧은 트랜잭션을 반복)
+// 각 묶음이 따로 커밋되고 조건이 멱등이므로, 중간에 중단되어도 다음 실행이 남은 쿠폰부터 이어서 처리
+@Service
+@RequiredArgsConstructor
+public class UserCouponExpiryService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCouponExpiryService.class);
+
+    private final UserCouponRepository userCouponRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService virtualThreadExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 한 번에 만료 처리할 최대 쿠폰 수
+    @Value("${coupon.expiry.chunk-size:5000}")
+    private int chunkSize;
+
+    // 묶음 사이 대기 시간 (잠금/복제 지연 완화, ms)
+    @Value("${coupon.expiry.chunk-pause-ms:20}")
+    private long chunkPauseMs;
+
+    // 중복 실행 방지 (스케줄, 시작 시 재개, 관리자 실행이 겹치는 경우)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 마지막(또는 진행 중인) 실행에서 만료 처리한 쿠폰 수
+    private final AtomicLong lastRunExpired = new AtomicLong();
+
+    private Counter expiredCounter;
+    private Timer chunkTimer;
+
+    // 진행 상황 지표 등록
+    @PostConstruct
+    public void registerMetrics() {
+        expiredCounter = Counter.builder("coupon.expiry.expired")
+                .description("만료 처리된 사용자 쿠폰 수")
+                .register(meterRegistry);
+        chunkTimer = Timer.builder("coupon.expiry.chunk")
+                .description("만료 처리 묶음 하나의 처리 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("coupon.expiry.running", running, flag -> flag.get() ? 1 : 0);
+        meterRegistry.gauge("coupon.expiry.last-run.expired", lastRunExpired);
+    }
+
+    // 매일 자정 만료 처리
+    @Scheduled(cron = "${coupon.expiry.cron:0 0 0 * * *}")
+    public void scheduledExpire() {
+        expireCoupons();
+    }
+
+    // 애플리케이션 시작 시 남은 만료 대상 처리 (이전 실행이 중단된 경우 이어서 처리, 시작을 지연시키지 않도록 별도 스레드)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        virtualThreadExecutor.execute(this::expireCoupons);
+    }
+
+    // 만료 처리 실행 후 처리한 쿠폰 수 반환 (이미 실행 중이면 -1)
+    public long expireCoupons() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("User coupon expiry already running, skipped");
+            return -1;
+        }
+        try {
+            return expireUntil(LocalDateTime.now());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 기준 시각을 고정해 실행 중 새로 만료되는 쿠폰 때문에 끝나지 않는 일이 없도록 함
+    private long expireUntil(LocalDateTime cutoff) {
+        long startedAt = System.nanoTime();
+        long total = 0;
+        int chunks = 0;
+        lastRunExpired.set(0);
+        while (true) {
+            long chunkStartedAt = System.nanoTime();
+            Integer updated = new TransactionTemplate(transactionManager).execute(status -> {
+                int rows = userCouponRepository.expireBefore(cutoff, chunkSize);
+                if (rows > 0) {
+                    // 커밋 후 예매용 쿠폰 캐시 갱신
+                    eventPublisher.publishEvent(new CouponChangedEvent(null, null));
+                }
+                return rows;
+            });
+            chunkTimer.record(System.nanoTime() - chunkStartedAt, TimeUnit.NANOSECONDS);
+
+            int rows = updated != null ? updated : 0;
+            total += rows;
+            chunks++;
+            expiredCounter.increment(rows);
+            lastRunExpired.set(total);
+            if (rows < chunkSize) {
+                break;
+            }
+            if (chunks % 100 == 0) {
+                log.info("User coupon expiry in progress: {} coupons in {} chunks", total, chunks);
+            }
+            if (!pause()) {
+                log.warn("User coupon expiry interrupted after {} coupons, remaining coupons are processed next run", total);
+                break;
+            }
+        }
+        log.info("User coupon expiry finished: {} coupons in {} chunks, {} ms", total, chunks,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return total;
+    }
+
+    // 묶음 사이 대기 (중단 요청을 받으면 false)
+    private boolean pause() {
+        try {
+            if (chunkPauseMs > 0) {
+                Thread.sleep(chunkPauseMs);
+            }
+            return !Thread.currentThread().isInterrupted();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
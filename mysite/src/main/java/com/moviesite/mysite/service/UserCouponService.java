@@ -1,5 +1,6 @@
 package com.moviesite.mysite.service;
 
+import com.moviesite.mysite.event.CouponChangedEvent;
 import com.moviesite.mysite.model.dto.request.UserCouponRequest;
 import com.moviesite.mysite.exception.BadRequestException;
 import com.moviesite.mysite.exception.ResourceNotFoundException;
@@ -11,7 +12,7 @@ import com.moviesite.mysite.repository.CouponRepository;
 import com.moviesite.mysite.repository.UserCouponRepository;
 import com.moviesite.mysite.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,8 @@ public class UserCouponService {
     private final UserCouponRepository userCouponRepository;
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
+    private final CouponQuotaService couponQuotaService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 현재 로그인한 사용자의 사용 가능한 쿠폰 목록 조회
     public List<UserCouponResponse> getMyAvailableCoupons() {
@@ -98,17 +101,27 @@ public class UserCouponService {
         Coupon coupon = couponRepository.findById(request.getCouponId())
                 .orElseThrow(() -> new ResourceNotFoundException("Coupon not found with id: " + request.getCouponId()));
 
-        // 사용자 쿠폰 생성
-        UserCoupon userCoupon = UserCoupon.builder()
-                .user(user)
-                .coupon(coupon)
-                .issueDate(request.getIssueDate())
-                .expiryDate(request.getExpiryDate())
-                .used(false)
-                .expired(false)
-                .build();
-
-        UserCoupon savedUserCoupon = userCouponRepository.save(userCoupon);
+        // 남은 수량 선점 (사용자 등록과 같은 수량 카운터 사용)
+        if (!couponQuotaService.tryAcquire(coupon)) {
+            throw new BadRequestException("이 쿠폰은 사용 가능한 수량이 모두 소진되었습니다");
+        }
+
+        // 사용자 쿠폰 생성 (사용자당 1장 - unique_user_coupon 키로 중복 발급 방지)
+        if (userCouponRepository.insertIgnore(user.getId(), coupon.getId(), request.getIssueDate(),
+                request.getExpiryDate()) == 0) {
+            throw new BadRequestException("이미 발급된 쿠폰입니다");
+        }
+
+        // 발급 수 증가 (수량이 남아 있을 때만, 실패하면 발급 취소를 위해 예외로 롤백)
+        if (couponRepository.incrementIssuedIfAvailable(coupon.getId()) == 0) {
+            couponQuotaService.evict(coupon.getId());
+            throw new BadRequestException("이 쿠폰은 사용 가능한 수량이 모두 소진되었습니다");
+        }
+
+        UserCoupon savedUserCoupon = userCouponRepository.findIdByUserIdAndCouponId(user.getId(), coupon.getId())
+                .flatMap(userCouponRepository::findById)
+                .orElseThrow(() -> new ResourceNotFoundException("UserCoupon not found for user id: " + user.getId()));
+        eventPublisher.publishEvent(new CouponChangedEvent(coupon.getId(), user.getId()));
         return UserCouponResponse.fromEntity(savedUserCoupon);
     }
 
@@ -139,6 +152,7 @@ public class UserCouponService {
         userCoupon.setUpdatedAt(LocalDateTime.now());
 
         UserCoupon updatedUserCoupon = userCouponRepository.save(userCoupon);
+        eventPublisher.publishEvent(new CouponChangedEvent(userCoupon.getCoupon().getId(), currentUser.getId()));
         return UserCouponResponse.fromEntity(updatedUserCoupon);
     }
 
@@ -166,24 +180,10 @@ public class UserCouponService {
         userCoupon.setUpdatedAt(LocalDateTime.now());
 
         UserCoupon updatedUserCoupon = userCouponRepository.save(userCoupon);
+        eventPublisher.publishEvent(new CouponChangedEvent(userCoupon.getCoupon().getId(), userCoupon.getUser().getId()));
         return UserCouponResponse.fromEntity(updatedUserCoupon);
     }
 
-    // 만료된 쿠폰 일괄 처리 (스케줄링)
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
-    public void processExpiredCoupons() {
-        LocalDateTime now = LocalDateTime.now();
-        List<UserCoupon> expiredCoupons = userCouponRepository.findExpiredCoupons(now);
-
-        for (UserCoupon userCoupon : expiredCoupons) {
-            userCoupon.setExpired(true);
-            userCoupon.setUpdatedAt(now);
-        }
-
-        userCouponRepository.saveAll(expiredCoupons);
-    }
-
     // UserCoupon 엔티티 조회 (내부 메서드)
     private UserCoupon findUserCouponById(Long id) {
         return userCouponRepository.findById(id)
@@ -0,0 +1,155 @@
+package com.moviesite.mysite.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 문서 본문의 2글자 조각(bigram) 역색인 (한글처럼 띄어쓰기만으로 단어를 나누기 어려운 텍스트용)
+// 검색어의 bigram을 모두 포함한 문서를 후보로 찾고, 정규화된 본문으로 최종 일치 여부를 확인
+// 동기화하지 않으므로 호출하는 쪽에서 잠금 필요
+public final class BigramIndex {
+
+    // bigram -> 문서 ID 목록 (오름차순)
+    private final Map<Integer, Postings> postings = new HashMap<>();
+
+    // 문서 ID -> 정규화된 본문
+    private final Map<Long, String> texts = new HashMap<>();
+
+    // 검색용 정규화 (호환 문자 통일, 소문자, 글자/숫자 외에는 공백, 연속 공백 제거)
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        boolean space = true;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+                space = false;
+            } else if (!space) {
+                builder.append(' ');
+                space = true;
+            }
+        }
+        int length = builder.length();
+        return length > 0 && builder.charAt(length - 1) == ' ' ? builder.substring(0, length - 1) : builder.toString();
+    }
+
+    // 정규화된 텍스트의 bigram (공백을 넘지 않음, 중복 제거)
+    public static int[] bigrams(String normalized) {
+        Set<Integer> keys = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (first != ' ' && second != ' ') {
+                keys.add((first << 16) | second);
+            }
+        }
+        return keys.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public int size() {
+        return texts.size();
+    }
+
+    public String text(long id) {
+        return texts.get(id);
+    }
+
+    // 문서 추가/교체
+    public void put(long id, String text) {
+        remove(id);
+        String normalized = normalize(text);
+        texts.put(id, normalized);
+        for (int key : bigrams(normalized)) {
+            postings.computeIfAbsent(key, k -> new Postings()).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        String previous = texts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int key : bigrams(previous)) {
+            Postings list = postings.get(key);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    // 주어진 bigram을 모두 포함한 문서 ID (가장 짧은 목록부터 교집합, bigram이 없으면 빈 목록)
+    public List<Long> candidates(int[] keys) {
+        if (keys.length == 0) {
+            return List.of();
+        }
+        List<Postings> lists = new ArrayList<>(keys.length);
+        for (int key : keys) {
+            Postings list = postings.get(key);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+
+        Postings smallest = lists.get(0);
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < smallest.size; i++) {
+            long id = smallest.ids[i];
+            boolean all = true;
+            for (int j = 1; j < lists.size() && all; j++) {
+                all = lists.get(j).contains(id);
+            }
+            if (all) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    // 정렬된 문서 ID 목록 (대부분 증가하는 ID로 추가되므로 뒤에 붙이는 경우가 많음)
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int index = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int position = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.moviesite.mysite.util;
+
+// 문자열 집합의 블룸 필터 (없다고 판단하면 확실히 없음, 있다고 판단하면 설정한 오탐률로 틀릴 수 있음)
+// 예상 항목 수와 오탐률로 비트 수와 해시 수를 정하고, 두 64비트 해시를 조합해 비트 위치 계산
+// 동기화하지 않으므로 호출하는 쪽에서 잠금 필요
+public final class BloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedItems, double falsePositiveRate) {
+        long items = Math.max(1, expectedItems);
+        double rate = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        long size = (long) Math.ceil(-items * Math.log(rate) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) Math.max(1, (size + 63) / 64)];
+        this.bitCount = (long) bits.length * 64;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / items * Math.log(2)));
+    }
+
+    // 추가 (이미 있다고 판단되던 값이면 false)
+    public boolean put(String value) {
+        long hash = hash(value);
+        long first = mix(hash);
+        long second = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(first + i * second, bitCount);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        long first = mix(hash);
+        long second = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(first + i * second, bitCount);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64비트
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // 비트 분산 (splitmix64 마무리 단계)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,104 @@
+package com.moviesite.mysite.util;
+
+import com.moviesite.mysite.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public final class CursorUtil {
+
+    // 정렬 키와 ID 사이 구분자
+    private static final String DELIMITER = "|";
+
+    // 기본 / 최대 페이지 크기
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    // 첫 페이지 조회용 센티널 값 (내림차순 정렬 기준 가장 큰 값)
+    public static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private CursorUtil() {
+    }
+
+    // 정렬 키와 ID로 불투명 커서 생성 (정렬 키가 없으면 해석할 수 없는 커서가 되므로 거부)
+    public static String encode(String sortKey, Long id) {
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Cursor sort key must not be null (id: " + id + ")");
+        }
+        String raw = sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 시간 정렬 키용 커서 생성
+    public static String encode(LocalDateTime sortKey, Long id) {
+        return encode(sortKey != null ? sortKey.toString() : null, id);
+    }
+
+    // 커서 해석 (커서가 없으면 null 반환)
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new BadRequestException("유효하지 않은 커서입니다");
+            }
+            return new Cursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다");
+        }
+    }
+
+    // 시간 정렬 키 커서 해석 (커서가 없으면 첫 페이지 센티널 반환)
+    public static Cursor decodeTimeCursor(String cursor) {
+        Cursor decoded = decode(cursor);
+        if (decoded == null) {
+            return new Cursor(MAX_TIME.toString(), Long.MAX_VALUE);
+        }
+        decoded.getTimeKey();
+        return decoded;
+    }
+
+    // 페이지 크기 보정
+    public static int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+
+        // 정렬 키 (문자열 형태)
+        private final String sortKey;
+
+        // 동일 정렬 키 사이의 순서를 보장하는 ID
+        private final Long id;
+
+        // 정렬 키를 시간으로 변환
+        public LocalDateTime getTimeKey() {
+            try {
+                return LocalDateTime.parse(sortKey);
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("유효하지 않은 커서입니다");
+            }
+        }
+
+        // 정렬 키를 숫자로 변환
+        public double getNumberKey() {
+            try {
+                return Double.parseDouble(sortKey);
+            } catch (NumberFormatException e) {
+                throw new BadRequestException("유효하지 않은 커서입니다");
+            }
+        }
+    }
+}
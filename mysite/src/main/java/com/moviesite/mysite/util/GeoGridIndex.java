@@ -0,0 +1,169 @@
+package com.moviesite.mysite.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+// 위경도 격자 기반 공간 인덱스 (질의 지점의 셀부터 고리 모양으로 넓혀 가며 가까운 항목 탐색)
+// 생성 후 add로 채운 뒤에는 읽기 전용으로 사용 (경도 180도 경계는 고려하지 않음)
+public class GeoGridIndex<T> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDegrees;
+    private final Map<Long, List<Point<T>>> cells = new HashMap<>();
+
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    // 인덱스에 포함된 지점 중 가장 작은 cos(위도) (경도 방향 셀 폭의 하한 계산용)
+    private double minCosLatitude = 1.0;
+    private int size;
+
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("cellDegrees must be positive");
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    // 탐색 결과 항목 (값과 질의 지점까지의 거리)
+    @Getter
+    @AllArgsConstructor
+    public static class Neighbor<T> {
+        private final T value;
+        private final double distanceKm;
+    }
+
+    private static class Point<T> {
+        private final double latitude;
+        private final double longitude;
+        private final T value;
+
+        Point(double latitude, double longitude, T value) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.value = value;
+        }
+    }
+
+    // 지점 추가
+    public void add(double latitude, double longitude, T value) {
+        int row = row(latitude);
+        int col = col(longitude);
+        cells.computeIfAbsent(key(row, col), k -> new ArrayList<>()).add(new Point<>(latitude, longitude, value));
+
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+        minCol = Math.min(minCol, col);
+        maxCol = Math.max(maxCol, col);
+        minCosLatitude = Math.min(minCosLatitude, Math.cos(Math.toRadians(latitude)));
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 조건을 만족하는 가장 가까운 항목 k개 조회 (가까운 순, maxDistanceKm 이내)
+    public List<Neighbor<T>> nearest(double latitude, double longitude, int k, double maxDistanceKm,
+            Predicate<T> filter) {
+        if (size == 0 || k <= 0) {
+            return new ArrayList<>();
+        }
+
+        int row0 = row(latitude);
+        int col0 = col(longitude);
+        double ringKm = cellDegrees * KM_PER_DEGREE
+                * Math.min(minCosLatitude, Math.cos(Math.toRadians(latitude)));
+
+        // 최대 힙으로 현재까지의 가까운 k개 유지
+        PriorityQueue<Neighbor<T>> heap = new PriorityQueue<>(
+                (a, b) -> Double.compare(b.getDistanceKm(), a.getDistanceKm()));
+
+        for (int ring = 0; ; ring++) {
+            scanRing(row0, col0, ring, latitude, longitude, k, maxDistanceKm, filter, heap);
+
+            // 다음 고리에 있는 지점은 최소 ring개 셀 폭만큼 떨어져 있으므로 더 가까운 후보가 없으면 종료
+            double lowerBound = ring * ringKm;
+            boolean filled = heap.size() == k && heap.peek().getDistanceKm() <= lowerBound;
+            boolean coversAll = row0 - ring <= minRow && row0 + ring >= maxRow
+                    && col0 - ring <= minCol && col0 + ring >= maxCol;
+            if (filled || coversAll || lowerBound > maxDistanceKm) {
+                break;
+            }
+        }
+
+        List<Neighbor<T>> result = new ArrayList<>(heap);
+        result.sort((a, b) -> Double.compare(a.getDistanceKm(), b.getDistanceKm()));
+        return result;
+    }
+
+    // 두 지점 사이의 대원 거리 (하버사인 공식, km)
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 중심 셀에서 체비쇼프 거리가 ring인 셀만 탐색
+    private void scanRing(int row0, int col0, int ring, double latitude, double longitude, int k,
+            double maxDistanceKm, Predicate<T> filter, PriorityQueue<Neighbor<T>> heap) {
+        for (int dr = -ring; dr <= ring; dr++) {
+            int row = row0 + dr;
+            if (row < minRow || row > maxRow) {
+                continue;
+            }
+            int step = (Math.abs(dr) == ring || ring == 0) ? 1 : 2 * ring;
+            for (int dc = -ring; dc <= ring; dc += step) {
+                int col = col0 + dc;
+                if (col < minCol || col > maxCol) {
+                    continue;
+                }
+                List<Point<T>> points = cells.get(key(row, col));
+                if (points == null) {
+                    continue;
+                }
+                for (Point<T> point : points) {
+                    if (filter != null && !filter.test(point.value)) {
+                        continue;
+                    }
+                    double distance = distanceKm(latitude, longitude, point.latitude, point.longitude);
+                    if (distance > maxDistanceKm) {
+                        continue;
+                    }
+                    if (heap.size() < k) {
+                        heap.offer(new Neighbor<>(point.value, distance));
+                    } else if (distance < heap.peek().getDistanceKm()) {
+                        heap.poll();
+                        heap.offer(new Neighbor<>(point.value, distance));
+                    }
+                }
+            }
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
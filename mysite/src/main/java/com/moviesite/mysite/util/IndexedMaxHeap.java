@@ -0,0 +1,166 @@
+package com.moviesite.mysite.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 키별 값을 보관하는 최대 힙 (키 -> 힙 위치 인덱스를 함께 유지해 값 변경을 O(log n)에 반영)
+// 값이 큰 순, 같으면 키가 작은 순으로 정렬 (동기화하지 않으므로 호출하는 쪽에서 잠금 필요)
+public final class IndexedMaxHeap {
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    // 키 -> 힙 배열 위치
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    // 힙 항목 (키, 값)
+    public record Entry(long key, long value) {
+    }
+
+    public IndexedMaxHeap() {
+        this(16);
+    }
+
+    public IndexedMaxHeap(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 키의 현재 값 (없으면 0)
+    public long get(long key) {
+        Integer position = positions.get(key);
+        return position != null ? values[position] : 0;
+    }
+
+    // 키의 값을 delta만큼 증감 (결과가 0 이하이면 제거) 후 새 값 반환
+    public long add(long key, long delta) {
+        long value = get(key) + delta;
+        set(key, value);
+        return Math.max(0, value);
+    }
+
+    // 키의 값 설정 (0 이하이면 제거)
+    public void set(long key, long value) {
+        Integer position = positions.get(key);
+        if (value <= 0) {
+            if (position != null) {
+                removeAt(position);
+            }
+            return;
+        }
+        if (position == null) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            positions.put(key, size);
+            siftUp(size++);
+            return;
+        }
+        long previous = values[position];
+        values[position] = value;
+        if (value > previous) {
+            siftUp(position);
+        } else {
+            siftDown(position);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+        positions.clear();
+    }
+
+    // 상위 k개 (힙을 변경하지 않고 후보 힙으로 k log k에 추출)
+    public List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, size));
+        if (k <= 0 || size == 0) {
+            return result;
+        }
+        PriorityQueue<Integer> candidates = new PriorityQueue<>((a, b) -> higher(a, b) ? -1 : higher(b, a) ? 1 : 0);
+        candidates.add(0);
+        while (!candidates.isEmpty() && result.size() < k) {
+            int position = candidates.poll();
+            result.add(new Entry(keys[position], values[position]));
+            int left = position * 2 + 1;
+            if (left < size) {
+                candidates.add(left);
+            }
+            if (left + 1 < size) {
+                candidates.add(left + 1);
+            }
+        }
+        return result;
+    }
+
+    private void removeAt(int position) {
+        positions.remove(keys[position]);
+        int last = --size;
+        if (position == last) {
+            return;
+        }
+        move(last, position);
+        siftDown(position);
+        siftUp(position);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!higher(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = position * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int child = left + 1 < size && higher(left + 1, left) ? left + 1 : left;
+            if (!higher(child, position)) {
+                return;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    // a 위치 항목이 b 위치 항목보다 앞서는지
+    private boolean higher(int a, int b) {
+        return values[a] != values[b] ? values[a] > values[b] : keys[a] < keys[b];
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        long value = values[a];
+        keys[a] = keys[b];
+        values[a] = values[b];
+        keys[b] = key;
+        values[b] = value;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+        positions.put(keys[to], to);
+    }
+}
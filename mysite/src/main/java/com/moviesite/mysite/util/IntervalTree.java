@@ -0,0 +1,197 @@
+package com.moviesite.mysite.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 반열린 구간 [start, end)를 저장하는 구간 트리 (시작값 기준 트립, 서브트리 최대 종료값으로 가지치기)
+// 삽입/삭제/겹침 여부 확인은 평균 O(log n), 스레드 안전하지 않으므로 호출 측에서 동기화
+public class IntervalTree {
+
+    private Node root;
+
+    // 항목 ID별 노드 (삭제/교체 시 위치 확인용)
+    private final Map<Long, Node> nodesById = new HashMap<>();
+
+    private static class Node {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    public int size() {
+        return nodesById.size();
+    }
+
+    public boolean contains(long id) {
+        return nodesById.containsKey(id);
+    }
+
+    // 항목의 구간 조회 ({start, end}, 없으면 null)
+    public long[] get(long id) {
+        Node node = nodesById.get(id);
+        return node != null ? new long[] { node.start, node.end } : null;
+    }
+
+    // 구간 추가 (같은 ID가 있으면 교체)
+    public void insert(long id, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("end must be after start");
+        }
+        remove(id);
+        Node node = new Node(id, start, end);
+        root = insert(root, node);
+        nodesById.put(id, node);
+    }
+
+    // 구간 삭제
+    public boolean remove(long id) {
+        Node node = nodesById.remove(id);
+        if (node == null) {
+            return false;
+        }
+        root = remove(root, node.start, node.id);
+        return true;
+    }
+
+    // [start, end)와 겹치는 구간 하나의 ID 조회 (excludeId 제외, 없으면 -1)
+    public long findAnyOverlap(long start, long end, long excludeId) {
+        List<Long> found = new ArrayList<>(1);
+        collect(root, start, end, excludeId, found, 1);
+        return found.isEmpty() ? -1 : found.get(0);
+    }
+
+    // [start, end)와 겹치는 모든 구간의 ID 조회 (excludeId 제외)
+    public List<Long> findOverlaps(long start, long end, long excludeId) {
+        List<Long> found = new ArrayList<>();
+        collect(root, start, end, excludeId, found, Integer.MAX_VALUE);
+        return found;
+    }
+
+    // 종료값이 cutoff 이하인 구간의 ID 조회 (지난 구간 정리용)
+    public List<Long> idsEndingBefore(long cutoff) {
+        List<Long> ids = new ArrayList<>();
+        for (Node node : nodesById.values()) {
+            if (node.end <= cutoff) {
+                ids.add(node.id);
+            }
+        }
+        return ids;
+    }
+
+    // 겹치는 구간 수집 (서브트리 최대 종료값과 시작값 정렬을 이용해 불필요한 서브트리 생략)
+    private void collect(Node node, long start, long end, long excludeId, List<Long> found, int limit) {
+        if (node == null || node.maxEnd <= start || found.size() >= limit) {
+            return;
+        }
+        collect(node.left, start, end, excludeId, found, limit);
+        if (found.size() >= limit || node.start >= end) {
+            return;
+        }
+        if (start < node.end && node.id != excludeId) {
+            found.add(node.id);
+        }
+        collect(node.right, start, end, excludeId, found, limit);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    // 우선순위를 유지하며 두 서브트리 병합 (left의 모든 키 < right의 모든 키)
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private int compare(long start, long id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+}
@@ -0,0 +1,21 @@
+package com.moviesite.mysite.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 금액 <-> 최소 단위 정수 변환 (DECIMAL(10, 2) 금액을 0.01 단위 long으로 다뤄 반복 계산 시 BigDecimal 생성을 피함)
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+}
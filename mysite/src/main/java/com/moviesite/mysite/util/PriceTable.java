@@ -0,0 +1,41 @@
+package com.moviesite.mysite.util;
+
+// 상영 일정 하나의 좌석 가격표 (예매율 구간 x 좌석 타입 2차원 배열, 생성 후 변경 불가)
+// 규칙 평가는 생성 시 한 번만 하고 조회는 배열 접근만으로 처리
+public final class PriceTable {
+
+    // 예매율 구간 경계 (오름차순, 구간 i는 thresholds[i-1] 이상 thresholds[i] 미만)
+    private final int[] thresholds;
+
+    // [예매율 구간][좌석 타입 순번] 가격
+    private final int[][] prices;
+
+    public PriceTable(int[] thresholds, int[][] prices) {
+        if (prices.length != thresholds.length + 1) {
+            throw new IllegalArgumentException("prices must have one row per occupancy tier");
+        }
+        this.thresholds = thresholds.clone();
+        this.prices = new int[prices.length][];
+        for (int tier = 0; tier < prices.length; tier++) {
+            this.prices[tier] = prices[tier].clone();
+        }
+    }
+
+    // 예매율(%)이 속한 구간
+    public int tier(int occupancyPercent) {
+        int tier = 0;
+        while (tier < thresholds.length && occupancyPercent >= thresholds[tier]) {
+            tier++;
+        }
+        return tier;
+    }
+
+    public int price(int tier, int seatTypeIndex) {
+        return prices[tier][seatTypeIndex];
+    }
+
+    // 특정 구간의 좌석 타입별 가격 (복사본)
+    public int[] row(int tier) {
+        return prices[tier].clone();
+    }
+}
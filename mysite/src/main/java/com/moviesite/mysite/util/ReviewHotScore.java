@@ -0,0 +1,25 @@
+package com.moviesite.mysite.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 리뷰 정렬 점수 (인기 리뷰 순위와 본문 검색 결과 정렬에서 공통 사용)
+// 점수 = log10(max(좋아요, 1)) + 작성 시각(초) / decaySeconds - 시간이 지나도 점수를 다시 계산할 필요 없음
+public final class ReviewHotScore {
+
+    // 점수 계산 기준 시각 (작성 시각 항의 크기를 줄여 double 정밀도 유지)
+    private static final long EPOCH_SECONDS = LocalDateTime.of(2024, 1, 1, 0, 0)
+            .atZone(ZoneId.systemDefault()).toEpochSecond();
+
+    private ReviewHotScore() {
+    }
+
+    // decaySeconds: 좋아요 10배 차이를 상쇄하는 작성 시각 차이 (초)
+    public static double score(int likes, long createdAtEpochSeconds, long decaySeconds) {
+        return Math.log10(Math.max(likes, 1)) + (double) (createdAtEpochSeconds - EPOCH_SECONDS) / decaySeconds;
+    }
+
+    public static long toEpochSeconds(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
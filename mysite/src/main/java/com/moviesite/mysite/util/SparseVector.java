@@ -0,0 +1,81 @@
+package com.moviesite.mysite.util;
+
+import java.util.Arrays;
+
+// 정렬된 long 키와 float 값 배열로 표현하는 희소 벡터 (박싱 없는 컴팩트 저장)
+public class SparseVector {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private float[] values = new float[INITIAL_CAPACITY];
+    private int size;
+
+    // 키의 값에 delta를 더함 (값이 0에 가까워지면 항목 제거)
+    public void add(long key, float delta) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            float updated = values[index] + delta;
+            if (Math.abs(updated) < 1e-6f) {
+                remove(index);
+            } else {
+                values[index] = updated;
+            }
+            return;
+        }
+        if (Math.abs(delta) < 1e-6f) {
+            return;
+        }
+        insert(-index - 1, key, delta);
+    }
+
+    // 키의 값 조회 (없으면 0)
+    public float get(long key) {
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        return index >= 0 ? values[index] : 0f;
+    }
+
+    // 키 포함 여부
+    public boolean contains(long key) {
+        return Arrays.binarySearch(keys, 0, size, key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long keyAt(int index) {
+        return keys[index];
+    }
+
+    public float valueAt(int index) {
+        return values[index];
+    }
+
+    // 가장 큰 값 (정규화용)
+    public float maxValue() {
+        float max = 0f;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    private void insert(int index, long key, float value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    private void remove(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+    }
+}
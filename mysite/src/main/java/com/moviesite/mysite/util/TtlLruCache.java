@@ -0,0 +1,139 @@
+package com.moviesite.mysite.util;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+// 유효 시간이 있는 LRU 캐시 (접근 순서 기준, 항목 가중치 합이 상한을 넘으면 오래 사용하지 않은 항목부터 제거)
+// 조회 도중 무효화된 값이 다시 들어가지 않도록 적재 전에 version(key)를 받아 두고 putIfUnchanged로 저장
+// 무효화 버전은 키 해시로 나눈 칸마다 따로 두어 다른 키의 무효화가 적재를 막는 일이 드묾
+// 모든 접근은 내부 잠금으로 동기화
+public final class TtlLruCache<K, V> {
+
+    // 무효화 버전 칸 수 (2의 거듭제곱)
+    private static final int VERSION_STRIPES = 1024;
+
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    // 키 해시 칸별 무효화 횟수
+    private final long[] versions = new long[VERSION_STRIPES];
+
+    // 전체/조건부 무효화 횟수 (대상 키를 모두 알 수 없으므로 모든 키의 버전을 올림)
+    private long epoch;
+
+    private long totalWeight;
+
+    private record Entry<V>(V value, long weight, long expiresAt) {
+    }
+
+    // 항목 수 기준 상한
+    public TtlLruCache(Duration ttl, long maxEntries) {
+        this(ttl, maxEntries, value -> 1);
+    }
+
+    // 가중치(예: 추정 메모리 사용량) 합 기준 상한
+    public TtlLruCache(Duration ttl, long maxWeight, ToLongFunction<? super V> weigher) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    // 유효한 값 (없거나 유효 시간이 지났으면 null)
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    // 키의 현재 무효화 버전 (적재 시작 전에 받아 두었다가 putIfUnchanged에 전달)
+    public synchronized long version(K key) {
+        return epoch + versions[stripe(key)];
+    }
+
+    // 받아 둔 버전 이후 키가 무효화되지 않았으면 저장
+    public synchronized boolean putIfUnchanged(K key, long version, V value) {
+        if (version(key) != version) {
+            return false;
+        }
+        store(key, new Entry<>(value, weigher.applyAsLong(value), System.nanoTime() + ttlNanos));
+        return true;
+    }
+
+    // 캐시된 값이 있으면 변경 내용을 바로 반영 (유효 시간은 유지, 진행 중인 적재는 저장하지 않도록 버전 증가)
+    public synchronized void updateIfPresent(K key, UnaryOperator<V> update) {
+        versions[stripe(key)]++;
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAt() - System.nanoTime() <= 0) {
+            remove(key);
+            return;
+        }
+        V updated = update.apply(entry.value());
+        if (updated != entry.value()) {
+            store(key, new Entry<>(updated, weigher.applyAsLong(updated), entry.expiresAt()));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        versions[stripe(key)]++;
+        remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<? super K> condition) {
+        epoch++;
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> entry = iterator.next();
+            if (condition.test(entry.getKey())) {
+                totalWeight -= entry.getValue().weight();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        epoch++;
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    // 저장 후 상한을 넘으면 방금 저장한 항목을 제외하고 오래 사용하지 않은 항목부터 제거
+    private void store(K key, Entry<V> entry) {
+        Entry<V> previous = entries.put(key, entry);
+        totalWeight += entry.weight() - (previous != null ? previous.weight() : 0);
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> candidate = eldest.next();
+            if (candidate.getKey().equals(key)) {
+                continue;
+            }
+            totalWeight -= candidate.getValue().weight();
+            eldest.remove();
+        }
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+}
@@ -11,6 +11,7 @@ CREATE TABLE coupons (
     expiry_date DATETIME NOT NULL,                    -- 쿠폰 만료일
     usage_limit_per_user INT DEFAULT 1,               -- 사용자당 사용 가능 횟수
     total_usage_limit INT,                            -- 전체 사용 가능 횟수 (NULL이면 무제한)
+    issued INT NOT NULL DEFAULT 0,                    -- 발급된 수량 (total_usage_limit 이하로만 증가)
     coupon_type ENUM('GENERAL', 'WELCOME', 'EVENT', 'MOVIE_SPECIFIC', 'THEATER_SPECIFIC') NOT NULL DEFAULT 'GENERAL', -- 쿠폰 종류
     target_movie_id BIGINT,                           -- 특정 영화에 적용되는 쿠폰일 경우 영화 ID
     target_theater_id BIGINT,                         -- 특정 극장에 적용되는 쿠폰일 경우 극장 ID
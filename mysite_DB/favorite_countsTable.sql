@@ -0,0 +1,13 @@
+CREATE TABLE favorite_counts (
+    favorite_type ENUM('MOVIE', 'THEATER') NOT NULL, -- 즐겨찾기 유형 (영화 또는 극장)
+    target_id BIGINT NOT NULL,                     -- 영화 ID 또는 극장 ID
+    favorite_count BIGINT NOT NULL DEFAULT 0,      -- 즐겨찾기 수
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 저장 시각
+    PRIMARY KEY (favorite_type, target_id)
+);
+
+-- 기존 즐겨찾기로 집계 생성 (애플리케이션 시작 시 테이블이 비어 있으면 자동으로 수행됨)
+INSERT INTO favorite_counts (favorite_type, target_id, favorite_count)
+SELECT 'MOVIE', movie_id, COUNT(*) FROM favorites WHERE favorite_type = 'MOVIE' AND movie_id IS NOT NULL GROUP BY movie_id
+UNION ALL
+SELECT 'THEATER', theater_id, COUNT(*) FROM favorites WHERE favorite_type = 'THEATER' AND theater_id IS NOT NULL GROUP BY theater_id;
@@ -0,0 +1,28 @@
+CREATE TABLE movie_rating_summaries (
+    movie_id BIGINT PRIMARY KEY,                   -- 영화 ID (movies 테이블 참조)
+    review_count INT NOT NULL DEFAULT 0,           -- 활성 리뷰 수
+    rating_points BIGINT NOT NULL DEFAULT 0,       -- 평점 x 2 의 합계 (평균 = rating_points / review_count / 2)
+    bucket_1 INT NOT NULL DEFAULT 0,               -- 0.5점 리뷰 수
+    bucket_2 INT NOT NULL DEFAULT 0,               -- 1.0점 리뷰 수
+    bucket_3 INT NOT NULL DEFAULT 0,               -- 1.5점 리뷰 수
+    bucket_4 INT NOT NULL DEFAULT 0,               -- 2.0점 리뷰 수
+    bucket_5 INT NOT NULL DEFAULT 0,               -- 2.5점 리뷰 수
+    bucket_6 INT NOT NULL DEFAULT 0,               -- 3.0점 리뷰 수
+    bucket_7 INT NOT NULL DEFAULT 0,               -- 3.5점 리뷰 수
+    bucket_8 INT NOT NULL DEFAULT 0,               -- 4.0점 리뷰 수
+    bucket_9 INT NOT NULL DEFAULT 0,               -- 4.5점 리뷰 수
+    bucket_10 INT NOT NULL DEFAULT 0,              -- 5.0점 리뷰 수
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 갱신 시각
+    FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE -- 영화 삭제 시 집계도 삭제
+);
+
+-- 기존 리뷰로 집계 생성 (애플리케이션 시작 시 테이블이 비어 있으면 자동으로 수행됨)
+INSERT INTO movie_rating_summaries (movie_id, review_count, rating_points,
+        bucket_1, bucket_2, bucket_3, bucket_4, bucket_5, bucket_6, bucket_7, bucket_8, bucket_9, bucket_10)
+SELECT movie_id, COUNT(*), SUM(ROUND(rating * 2)),
+       SUM(ROUND(rating * 2) = 1), SUM(ROUND(rating * 2) = 2), SUM(ROUND(rating * 2) = 3), SUM(ROUND(rating * 2) = 4),
+       SUM(ROUND(rating * 2) = 5), SUM(ROUND(rating * 2) = 6), SUM(ROUND(rating * 2) = 7), SUM(ROUND(rating * 2) = 8),
+       SUM(ROUND(rating * 2) = 9), SUM(ROUND(rating * 2) = 10)
+FROM reviews
+WHERE status = 'ACTIVE'
+GROUP BY movie_id;
@@ -17,7 +17,8 @@ CREATE TABLE movies (
     status ENUM('COMING_SOON', 'NOW_SHOWING', 'ENDED') NOT NULL, -- 상영 상태 (프론트엔드의 isShowing과 연동)
     age_rating VARCHAR(10) NOT NULL,                -- 연령 등급
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP -- 마지막 업데이트 시각
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 업데이트 시각
+    INDEX idx_movies_created_at_id (created_at, id) -- 커서 기반 영화 목록 조회
 );
 
 INSERT INTO movies (title, title_en, director, actors, genre, running_time, release_date, end_date, rating, synopsis, poster_url, background_url, trailer_url, status, age_rating) VALUES
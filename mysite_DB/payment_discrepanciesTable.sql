@@ -0,0 +1,17 @@
+CREATE TABLE payment_discrepancies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,          -- 불일치 고유 ID
+    run_id VARCHAR(36) NOT NULL,                   -- 대사 실행 ID
+    discrepancy_type ENUM('PAID_WITHOUT_PAYMENT', 'UNPAID_RESERVATION', 'AMOUNT_MISMATCH', 'REFUND_MISMATCH',
+        'DUPLICATE_PAYMENT', 'STALE_PENDING', 'ORPHAN_PAYMENT') NOT NULL, -- 불일치 유형
+    reservation_id BIGINT NOT NULL,                -- 예매 ID (삭제될 수 있으므로 참조하지 않음)
+    payment_id BIGINT,                             -- 결제 ID (결제가 없는 불일치면 NULL)
+    reservation_amount DECIMAL(10, 2),             -- 예매 금액
+    payment_amount DECIMAL(10, 2),                 -- 결제 금액 + 할인 금액
+    reservation_status VARCHAR(20),                -- 예매 상태
+    reservation_payment_status VARCHAR(20),        -- 예매의 결제 상태
+    payment_status VARCHAR(20),                    -- 결제 상태
+    detail VARCHAR(255),                           -- 상세 내용
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 기록 시각
+    INDEX idx_payment_discrepancies_run (run_id, id),          -- 대사 실행별 조회
+    INDEX idx_payment_discrepancies_created_at (created_at)    -- 보관 기간 지난 기록 삭제
+);
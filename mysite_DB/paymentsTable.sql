@@ -15,6 +15,7 @@ CREATE TABLE payments (
     refund_time TIMESTAMP,                         -- 환불 시간 (환불 시)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 업데이트 시각
+    INDEX idx_payments_created_at_id (created_at, id), -- 커서 기반 결제 내역 조회
     FOREIGN KEY (reservation_id) REFERENCES reservations(id) ON DELETE CASCADE, -- 예매 삭제 시 결제 정보도 삭제
     FOREIGN KEY (user_id) REFERENCES users(id)     -- 사용자 참조
 );
@@ -0,0 +1,25 @@
+CREATE TABLE pricing_rules (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,             -- 가격 정책 규칙 고유 ID
+    name VARCHAR(100) NOT NULL,                       -- 규칙 이름 (예: 조조 할인, 주말 할증)
+    seat_type ENUM('STANDARD', 'PREMIUM', 'HANDICAPPED', 'COUPLE'), -- 적용 좌석 타입 (NULL이면 모든 좌석)
+    screen_type VARCHAR(50),                          -- 적용 상영관 타입 (예: IMAX, 4DX / NULL이면 모든 상영관)
+    day_type ENUM('WEEKDAY', 'WEEKEND'),              -- 적용 요일 구분 (NULL이면 모든 요일)
+    start_time_from TIME,                             -- 적용 상영 시작 시간 범위 시작 (포함)
+    start_time_to TIME,                               -- 적용 상영 시작 시간 범위 끝 (미포함)
+    min_occupancy_percent INT,                        -- 적용 최소 예매율 (%, NULL이면 예매율 무관)
+    adjustment_type ENUM('PERCENT', 'AMOUNT') NOT NULL, -- 조정 유형 (정률, 정액)
+    adjustment_value INT NOT NULL,                    -- 조정값 (PERCENT면 %, AMOUNT면 원 / 음수면 할인)
+    priority INT NOT NULL DEFAULT 0,                  -- 적용 순서 (작을수록 먼저 적용)
+    active BOOLEAN NOT NULL DEFAULT true,             -- 사용 여부
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,   -- 생성 시각
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP -- 마지막 업데이트 시각
+);
+
+INSERT INTO pricing_rules (name, seat_type, screen_type, day_type, start_time_from, start_time_to, min_occupancy_percent, adjustment_type, adjustment_value, priority) VALUES
+('조조 할인', NULL, NULL, NULL, '06:00:00', '10:00:00', NULL, 'PERCENT', -30, 10),
+('주말 할증', NULL, NULL, 'WEEKEND', NULL, NULL, NULL, 'AMOUNT', 1000, 20),
+('IMAX 특별관', NULL, 'IMAX', NULL, NULL, NULL, NULL, 'AMOUNT', 5000, 30),
+('4DX 특별관', NULL, '4DX', NULL, NULL, NULL, NULL, 'AMOUNT', 6000, 30),
+('프리미엄석', 'PREMIUM', NULL, NULL, NULL, NULL, NULL, 'AMOUNT', 2000, 40),
+('커플석', 'COUPLE', NULL, NULL, NULL, NULL, NULL, 'PERCENT', 20, 40),
+('고예매율 할증', NULL, NULL, NULL, NULL, NULL, 80, 'PERCENT', 10, 50);
@@ -10,6 +10,8 @@ CREATE TABLE reservations (
     payment_status ENUM('PENDING', 'PAID', 'REFUNDED') NOT NULL DEFAULT 'PENDING', -- 결제 상태
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 업데이트 시각
+    INDEX idx_reservations_user_time (user_id, reservation_time, id), -- 커서 기반 사용자별 예매 내역 조회
+    INDEX idx_reservations_time (reservation_time, id),               -- 커서 기반 전체 예매 내역 조회
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,     -- 사용자 삭제 시 예매도 삭제
     FOREIGN KEY (schedule_id) REFERENCES schedules(id) ON DELETE CASCADE -- 상영 일정 삭제 시 예매도 삭제
 );
@@ -9,6 +9,7 @@ CREATE TABLE reviews (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 작성 시각
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 수정 시각
     status ENUM('ACTIVE', 'DELETED', 'HIDDEN') NOT NULL DEFAULT 'ACTIVE', -- 리뷰 상태
+    INDEX idx_reviews_movie_status_created (movie_id, status, created_at, id), -- 커서 기반 영화별 리뷰 조회
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,     -- 사용자 삭제 시 리뷰도 삭제
     FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE    -- 영화 삭제 시 리뷰도 삭제
 );
@@ -9,6 +9,9 @@ CREATE TABLE schedules (
     status ENUM('OPEN', 'CLOSED', 'CANCELED') NOT NULL DEFAULT 'OPEN', -- 예매 가능 상태
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 업데이트 시각
+    INDEX idx_schedules_screen_start (screen_id, start_time), -- 상영관별 시간 구간 조회 (극장 시간표)
+    INDEX idx_schedules_movie_start (movie_id, start_time),   -- 영화별 시간 구간 조회
+    INDEX idx_schedules_status_start (status, start_time),    -- 예매 가능 일정 조회
     FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE, -- 영화 삭제 시 일정도 삭제
     FOREIGN KEY (screen_id) REFERENCES screens(id) ON DELETE CASCADE -- 상영관 삭제 시 일정도 삭제
 );
@@ -11,6 +11,9 @@ CREATE TABLE screenings (
     status ENUM('ACTIVE', 'CANCELED', 'COMPLETED') NOT NULL DEFAULT 'ACTIVE', -- 상영 상태
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 업데이트 시각
+    INDEX idx_screenings_movie_status_date (movie_id, status, screening_date),   -- 영화별 진행 중 상영 조회
+    INDEX idx_screenings_screen_status_date (screen_id, status, screening_date), -- 상영관별 진행 중 상영 조회
+    INDEX idx_screenings_status_date_end (status, screening_date, end_time),     -- 종료 상영 상태 전환
     FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE,   -- 영화 삭제 시 상영 정보도 삭제
     FOREIGN KEY (screen_id) REFERENCES screens(id) ON DELETE CASCADE, -- 상영관 삭제 시 상영 정보도 삭제
     FOREIGN KEY (schedule_id) REFERENCES schedules(id) ON DELETE CASCADE -- 일정 삭제 시 상영 정보도 삭제
@@ -10,6 +10,8 @@ CREATE TABLE user_coupons (
     reservation_id BIGINT,                         -- 예매 ID (reservations 테이블 참조, 사용된 경우)
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, -- 마지막 업데이트 시각
+    UNIQUE KEY unique_user_coupon (user_id, coupon_id), -- 사용자당 같은 쿠폰은 1장만 등록
+    INDEX idx_user_coupons_expiry (expired, used, expiry_date), -- 만료 처리 대상 조회
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE, -- 사용자 삭제 시 사용자 쿠폰도 삭제
     FOREIGN KEY (coupon_id) REFERENCES coupons(id) ON DELETE CASCADE -- 쿠폰 삭제 시 사용자 쿠폰도 삭제
 );
@@ -28,4 +30,7 @@ INSERT INTO user_coupons (user_id, coupon_id, issue_date, expiry_date, used, exp
 (2, 1, '2025-08-01 12:00:00', '2025-09-30 23:59:59', false, true, NULL, NULL),
 
 -- 사용자 3의 CGV 강남 전용 쿠폰 (미사용)
-(3, 5, '2025-10-01 16:20:00', '2025-12-15 23:59:59', false, false, NULL, NULL);
\ No newline at end of file
+(3, 5, '2025-10-01 16:20:00', '2025-12-15 23:59:59', false, false, NULL, NULL);
+
+-- 쿠폰별 발급 수량 반영
+UPDATE coupons c SET c.issued = (SELECT COUNT(*) FROM user_coupons uc WHERE uc.coupon_id = c.id);